@@ -0,0 +1,87 @@
+package io.github.flashlack1314.quickstart.benchmark;
+
+import io.github.flashlack1314.quickstart.exception.BaseException;
+import io.github.flashlack1314.quickstart.exception.BusinessException;
+import io.github.flashlack1314.quickstart.exception.ParameterException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 异常堆栈采集开销对比
+ * 比较带堆栈与不带堆栈的业务异常、参数异常在抛出并捕获时的吞吐量，
+ * depth 模拟异常抛出点距离捕获点的调用深度
+ *
+ * @author flash
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionStackTraceBenchmark {
+
+    @Param({"10", "50"})
+    public int depth;
+
+    @Benchmark
+    public Integer businessWithStackTrace() {
+        try {
+            throwAt(depth, true, true);
+        } catch (BaseException e) {
+            return e.getCode();
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Integer businessStackless() {
+        try {
+            throwAt(depth, true, false);
+        } catch (BaseException e) {
+            return e.getCode();
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Integer parameterWithStackTrace() {
+        try {
+            throwAt(depth, false, true);
+        } catch (BaseException e) {
+            return e.getCode();
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Integer parameterStackless() {
+        try {
+            throwAt(depth, false, false);
+        } catch (BaseException e) {
+            return e.getCode();
+        }
+        return null;
+    }
+
+    private static void throwAt(int depth, boolean business, boolean writableStackTrace) {
+        if (depth > 0) {
+            throwAt(depth - 1, business, writableStackTrace);
+            return;
+        }
+        if (business) {
+            throw new BusinessException(500, "业务异常", null, writableStackTrace);
+        }
+        throw new ParameterException(400, "参数异常", null, writableStackTrace);
+    }
+}
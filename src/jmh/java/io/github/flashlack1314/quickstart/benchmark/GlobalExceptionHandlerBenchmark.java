@@ -0,0 +1,99 @@
+package io.github.flashlack1314.quickstart.benchmark;
+
+import io.github.flashlack1314.quickstart.exception.BusinessException;
+import io.github.flashlack1314.quickstart.exception.ParameterException;
+import io.github.flashlack1314.quickstart.handler.ExceptionLogger;
+import io.github.flashlack1314.quickstart.handler.GlobalExceptionHandler;
+import io.github.flashlack1314.quickstart.properties.QuickStartBootKitProperties;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.helpers.NOPLogger;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 全局异常处理器分发开销
+ * 通过 MockMvc 执行完整的 DispatcherServlet 流程：异常处理器查找、{@link GlobalExceptionHandler} 转换与 JSON 输出，
+ * 以正常返回的请求作为基线；日志输出到 NOP Logger，不计入 I/O 耗时
+ *
+ * @author flash
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GlobalExceptionHandlerBenchmark {
+
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        ExceptionLogger exceptionLogger = new ExceptionLogger(NOPLogger.NOP_LOGGER,
+                new QuickStartBootKitProperties.Logging());
+        mockMvc = MockMvcBuilders.standaloneSetup(new BenchmarkController())
+                .setControllerAdvice(new GlobalExceptionHandler(exceptionLogger))
+                .build();
+    }
+
+    @Benchmark
+    public MvcResult success() throws Exception {
+        return mockMvc.perform(get("/success")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult businessException() throws Exception {
+        return mockMvc.perform(get("/business")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult parameterException() throws Exception {
+        return mockMvc.perform(get("/parameter")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult runtimeException() throws Exception {
+        return mockMvc.perform(get("/runtime")).andReturn();
+    }
+
+    @RestController
+    static class BenchmarkController {
+
+        @GetMapping("/success")
+        public ResultVO<String> success() {
+            return ResultVO.success("ok");
+        }
+
+        @GetMapping("/business")
+        public ResultVO<String> business() {
+            throw new BusinessException(40401, "订单不存在");
+        }
+
+        @GetMapping("/parameter")
+        public ResultVO<String> parameter() {
+            throw new ParameterException("参数错误");
+        }
+
+        @GetMapping("/runtime")
+        public ResultVO<String> runtime() {
+            throw new IllegalStateException("状态错误");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.flashlack1314.quickstart.benchmark;
+
+import io.github.flashlack1314.quickstart.vo.PageVO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PageVO 记录转换方式对比
+ * 比较立即转换、按需转换与并行转换的耗时；
+ * {@code touched} 为读取的记录数，模拟序列化只输出部分字段或部分记录的场景，
+ * {@code cost} 为每次转换消耗的 CPU 量，用于观察并行转换的收益拐点
+ *
+ * @author flash
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageMapBenchmark {
+
+    @Param({"100", "10000"})
+    public int pageSize;
+
+    @Param({"10", "1000"})
+    public int touched;
+
+    @Param({"0", "500"})
+    public int cost;
+
+    private PageVO<Long> page;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        List<Long> records = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            records.add(1_000_000_000L + i);
+        }
+        page = PageVO.of(records, pageSize * 10L, 1L, (long) pageSize);
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void eager(Blackhole blackhole) {
+        consume(page.map(this::convert), blackhole);
+    }
+
+    @Benchmark
+    public void lazy(Blackhole blackhole) {
+        consume(page.mapLazy(this::convert), blackhole);
+    }
+
+    @Benchmark
+    public void parallelCommonPool(Blackhole blackhole) {
+        consume(page.mapParallel(this::convert), blackhole);
+    }
+
+    @Benchmark
+    public void parallelExecutor(Blackhole blackhole) {
+        consume(page.mapParallel(this::convert, executor), blackhole);
+    }
+
+    private String convert(Long id) {
+        Blackhole.consumeCPU(cost);
+        return Long.toHexString(id);
+    }
+
+    private void consume(PageVO<String> mapped, Blackhole blackhole) {
+        List<String> records = mapped.getRecords();
+        int limit = Math.min(touched, records.size());
+        for (int i = 0; i < limit; i++) {
+            blackhole.consume(records.get(i));
+        }
+    }
+}
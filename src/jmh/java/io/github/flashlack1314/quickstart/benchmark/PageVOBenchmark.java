@@ -0,0 +1,78 @@
+package io.github.flashlack1314.quickstart.benchmark;
+
+import io.github.flashlack1314.quickstart.vo.PageVO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PageVO 构造与分页计算开销
+ * 页码与总数使用超出 Long 缓存范围的值，包含总页数计算与装箱的实际成本
+ *
+ * @author flash
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageVOBenchmark {
+
+    private List<Long> records;
+
+    private Long total;
+
+    private Long current;
+
+    private Long size;
+
+    private PageVO<Long> page;
+
+    @Setup
+    public void setUp() {
+        records = new ArrayList<>();
+        for (long i = 0; i < 20; i++) {
+            records.add(1_000_000_000L + i);
+        }
+        total = 1_234_567L;
+        current = 300L;
+        size = 20L;
+        page = PageVO.of(records, total, current, size);
+    }
+
+    @Benchmark
+    public PageVO<Long> of() {
+        return PageVO.of(records, total, current, size);
+    }
+
+    @Benchmark
+    public PageVO<Long> withoutTotal() {
+        return PageVO.withoutTotal(records, current, size);
+    }
+
+    @Benchmark
+    public PageVO<Long> empty() {
+        return PageVO.empty();
+    }
+
+    @Benchmark
+    public void navigation(Blackhole blackhole) {
+        blackhole.consume(page.hasNext());
+        blackhole.consume(page.hasPrevious());
+        blackhole.consume(page.isFirstPage());
+        blackhole.consume(page.isLastPage());
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.flashlack1314.quickstart.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.flashlack1314.quickstart.vo.LongPageVO;
+import io.github.flashlack1314.quickstart.vo.PageVO;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID 分页的装箱开销对比
+ * 比较 PageVO&lt;Long&gt; 与 {@link LongPageVO} 在构造分页与序列化响应时的耗时；
+ * 配合 {@code -prof gc} 运行可对比每次操作的分配字节数（gc.alloc.rate.norm）
+ *
+ * @author flash
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitivePageBenchmark {
+
+    @Param({"20", "1000"})
+    public int pageSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * 模拟数据库返回的大ID，超出 Long 缓存范围
+     */
+    private long[] ids;
+
+    @Setup
+    public void setUp() {
+        ids = new long[pageSize];
+        for (int i = 0; i < pageSize; i++) {
+            ids[i] = 1_000_000_000L + i;
+        }
+    }
+
+    @Benchmark
+    public PageVO<Long> boxedPage() {
+        List<Long> records = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            records.add(id);
+        }
+        return PageVO.of(records, 100_000L, 3L, (long) pageSize);
+    }
+
+    @Benchmark
+    public LongPageVO primitivePage() {
+        return LongPageVO.of(ids, 100_000L, 3L, pageSize);
+    }
+
+    @Benchmark
+    public byte[] boxedResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ResultVO.success(boxedPage()));
+    }
+
+    @Benchmark
+    public byte[] primitiveResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ResultVO.success(primitivePage()));
+    }
+}
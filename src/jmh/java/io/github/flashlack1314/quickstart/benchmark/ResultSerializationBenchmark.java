@@ -0,0 +1,103 @@
+package io.github.flashlack1314.quickstart.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.flashlack1314.quickstart.vo.PageVO;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 分页响应序列化开销
+ * 测量 ResultVO&lt;PageVO&lt;T&gt;&gt; 在不同页大小下序列化为 JSON 字节的耗时，
+ * 记录为包含数字、字符串与时间戳字段的典型行对象
+ *
+ * @author flash
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int pageSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ResultVO<PageVO<Row>> result;
+
+    @Setup
+    public void setUp() {
+        long createdAt = 1_704_081_600_000L;
+        List<Row> rows = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            rows.add(new Row(1_000_000_000L + i, "用户" + i, i % 5, i * 10.5, createdAt + i * 60_000L));
+        }
+        result = ResultVO.success(PageVO.of(rows, pageSize * 50L, 2L, (long) pageSize));
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(result);
+    }
+
+    /**
+     * 典型的分页行对象
+     */
+    public static class Row {
+
+        private final Long id;
+
+        private final String name;
+
+        private final Integer status;
+
+        private final Double amount;
+
+        private final Long createdAt;
+
+        Row(Long id, String name, Integer status, Double amount, Long createdAt) {
+            this.id = id;
+            this.name = name;
+            this.status = status;
+            this.amount = amount;
+            this.createdAt = createdAt;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Integer getStatus() {
+            return status;
+        }
+
+        public Double getAmount() {
+            return amount;
+        }
+
+        public Long getCreatedAt() {
+            return createdAt;
+        }
+    }
+}
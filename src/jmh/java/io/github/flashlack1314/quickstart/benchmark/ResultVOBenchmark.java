@@ -0,0 +1,69 @@
+package io.github.flashlack1314.quickstart.benchmark;
+
+import io.github.flashlack1314.quickstart.exception.CommonErrorCode;
+import io.github.flashlack1314.quickstart.exception.ErrorCodeRegistry;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResultVO 构造开销
+ * 覆盖控制器与异常处理器最常用的成功、失败响应构造方式，
+ * 以及按错误码缓存的不可变响应，作为版本间对比的基线
+ *
+ * @author flash
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultVOBenchmark {
+
+    private final List<String> data = List.of("a", "b", "c");
+
+    private final String message = "订单不存在";
+
+    private final Integer code = 40401;
+
+    @Benchmark
+    public ResultVO<Object> success() {
+        return ResultVO.success();
+    }
+
+    @Benchmark
+    public ResultVO<List<String>> successWithData() {
+        return ResultVO.success(data);
+    }
+
+    @Benchmark
+    public ResultVO<Void> errorWithMessage() {
+        return ResultVO.error(message);
+    }
+
+    @Benchmark
+    public ResultVO<Void> errorWithCode() {
+        return ResultVO.error(code, message);
+    }
+
+    @Benchmark
+    public ResultVO<Void> errorWithErrorCode() {
+        return ResultVO.error(CommonErrorCode.BAD_REQUEST);
+    }
+
+    @Benchmark
+    public ResultVO<Void> cachedErrorResponse() {
+        return ErrorCodeRegistry.response(CommonErrorCode.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.flashlack1314.quickstart.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import io.github.flashlack1314.quickstart.web.ResultWrappingAdvice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 响应自动包装开销对比
+ * 比较控制器手动调用 ResultVO.success 与 {@link ResultWrappingAdvice} 自动包装的单次耗时，
+ * 自动包装包含 supports 与 beforeBodyWrite 两次调用，对应 MVC 每个请求的实际路径
+ *
+ * @author flash
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultWrappingBenchmark {
+
+    private final List<String> body = List.of("a", "b", "c");
+
+    private ResultWrappingAdvice advice;
+
+    private MethodParameter returnType;
+
+    private ServletServerHttpRequest request;
+
+    private ServletServerHttpResponse response;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        advice = new ResultWrappingAdvice(new ObjectMapper());
+        returnType = new MethodParameter(ResultWrappingBenchmark.class.getMethod("controller"), -1);
+        request = new ServletServerHttpRequest(new MockHttpServletRequest());
+        response = new ServletServerHttpResponse(new MockHttpServletResponse());
+    }
+
+    /**
+     * 模拟的控制器方法
+     *
+     * @return 原始结果
+     */
+    public List<String> controller() {
+        return body;
+    }
+
+    @Benchmark
+    public Object handWrapped() {
+        return ResultVO.success(controller());
+    }
+
+    @Benchmark
+    public Object adviceWrapped() {
+        Object result = controller();
+        if (advice.supports(returnType, MappingJackson2HttpMessageConverter.class)) {
+            result = advice.beforeBodyWrite(result, returnType, MediaType.APPLICATION_JSON,
+                    MappingJackson2HttpMessageConverter.class, request, response);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.flashlack1314.quickstart.benchmark;
+
+import io.github.flashlack1314.quickstart.config.QuickStartBootKitAutoConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 应用上下文启动耗时
+ * 比较启用与排除本 starter 时 SpringApplication 创建并刷新上下文的耗时，
+ * 自动配置通过 AutoConfiguration.imports 发现；使用单次执行模式，每次启动一个全新的上下文。
+ * 以 Servlet 应用启动（内嵌 Tomcat 监听随机端口），仅在 Servlet 应用中生效的配置也计入耗时，
+ * 两组都包含相同的 Tomcat 启动开销，差值即为本 starter 的开销
+ *
+ * @author flash
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(3)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    @Benchmark
+    public ConfigurableApplicationContext withStarter() {
+        return start();
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext withoutStarter() {
+        return start("spring.autoconfigure.exclude=" + QuickStartBootKitAutoConfiguration.class.getName());
+    }
+
+    private static ConfigurableApplicationContext start(String... properties) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                // 每次启动都会注册 MBean，关闭 JMX 避免重复注册
+                .properties("quickstart.bootkit.metrics.jmx=false", "server.port=0")
+                .properties(properties)
+                .run();
+        context.close();
+        return context;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableAutoConfiguration
+    static class BenchmarkApplication {
+    }
+}
@@ -1,31 +1,334 @@
 package io.github.flashlack1314.quickstart.config;
 
+import io.github.flashlack1314.quickstart.export.PageExporter;
+import io.github.flashlack1314.quickstart.handler.AsyncExceptionLogger;
+import io.github.flashlack1314.quickstart.handler.ExceptionLogger;
+import io.github.flashlack1314.quickstart.handler.ExceptionTranslator;
 import io.github.flashlack1314.quickstart.handler.GlobalExceptionHandler;
+import io.github.flashlack1314.quickstart.handler.ReactiveGlobalExceptionHandler;
+import io.github.flashlack1314.quickstart.metrics.ExceptionMetrics;
+import io.github.flashlack1314.quickstart.metrics.LatencyMetrics;
+import io.github.flashlack1314.quickstart.page.PageCountCache;
 import io.github.flashlack1314.quickstart.properties.QuickStartBootKitProperties;
+import io.github.flashlack1314.quickstart.web.LatencyRecordingFilter;
+import io.github.flashlack1314.quickstart.web.PreSerializedResponsesConfigurer;
+import io.github.flashlack1314.quickstart.web.ResultCodeCaptureAdvice;
+import io.github.flashlack1314.quickstart.web.ResultWrappingAdvice;
+import io.github.flashlack1314.quickstart.web.StreamingResultConfigurer;
+import io.github.flashlack1314.quickstart.web.StreamingResultWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.WebExceptionHandler;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * QuickStart Boot Kit 自动配置类
+ * 通过 META-INF/spring/org.springframework.boot.autoconfigure.AutoConfiguration.imports 注册，
+ * 不代理 Bean 方法；依赖可选模块的 Bean 均带有对应的 Web 类型与类路径条件
  *
  * @author flash
  */
-@Configuration
+@AutoConfiguration
 @EnableConfigurationProperties(QuickStartBootKitProperties.class)
+@ImportRuntimeHints(QuickStartBootKitRuntimeHints.class)
 public class QuickStartBootKitAutoConfiguration {
 
+    /**
+     * 配置异常堆栈策略初始化器
+     *
+     * @param properties 配置属性
+     * @return StackTracePolicyInitializer实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public StackTracePolicyInitializer stackTracePolicyInitializer(QuickStartBootKitProperties properties) {
+        return new StackTracePolicyInitializer(properties.getException().getStackTrace());
+    }
+
+    /**
+     * 配置异常日志记录器
+     * 启用 quickstart.bootkit.logging.async.enabled 时使用异步日志记录器
+     *
+     * @param properties 配置属性
+     * @return ExceptionLogger实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "quickstart.bootkit", name = "exception-handler", havingValue = "true", matchIfMissing = true)
+    public ExceptionLogger exceptionLogger(QuickStartBootKitProperties properties) {
+        Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+        QuickStartBootKitProperties.Logging logging = properties.getLogging();
+        if (logging.getAsync().isEnabled()) {
+            AsyncExceptionLogger asyncLogger = new AsyncExceptionLogger(logger, logging);
+            asyncLogger.start();
+            return asyncLogger;
+        }
+        return new ExceptionLogger(logger, logging);
+    }
+
+    /**
+     * 配置异常统计
+     * 启用 quickstart.bootkit.metrics.jmx 时注册为 MBean
+     *
+     * @param properties 配置属性
+     * @return ExceptionMetrics实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "quickstart.bootkit", name = "exception-handler", havingValue = "true", matchIfMissing = true)
+    public ExceptionMetrics exceptionMetrics(QuickStartBootKitProperties properties) {
+        ExceptionMetrics metrics = new ExceptionMetrics();
+        if (properties.getMetrics().isJmx()) {
+            metrics.registerMBean();
+        }
+        return metrics;
+    }
+
+    /**
+     * 配置异常转换器
+     * 不依赖全局异常处理器开关，可在非 MVC 场景单独使用
+     *
+     * @return ExceptionTranslator实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ExceptionTranslator exceptionTranslator() {
+        return new ExceptionTranslator();
+    }
+
+    /**
+     * 配置分页总数缓存
+     *
+     * @param properties 配置属性
+     * @return PageCountCache实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "quickstart.bootkit.page.count-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public PageCountCache pageCountCache(QuickStartBootKitProperties properties) {
+        QuickStartBootKitProperties.CountCache countCache = properties.getPage().getCountCache();
+        return new PageCountCache(countCache.getTtl(), countCache.getMaxSize());
+    }
+
+    /**
+     * 配置分页批量导出器
+     *
+     * @param properties          配置属性
+     * @param exceptionTranslator 异常转换器
+     * @param exceptionLogger     异常日志记录器，未启用全局异常处理器时不输出日志
+     * @return PageExporter实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public PageExporter pageExporter(QuickStartBootKitProperties properties, ExceptionTranslator exceptionTranslator,
+                                     ObjectProvider<ExceptionLogger> exceptionLogger) {
+        QuickStartBootKitProperties.Export export = properties.getExport();
+        return new PageExporter(exceptionTranslator, exceptionLogger.getIfAvailable(),
+                export.getPageSize(), export.getReadAhead(), export.getFlushInterval());
+    }
+
     /**
      * 配置全局异常处理器
+     * 仅在 Servlet 应用中生效，WebFlux 应用使用 {@link ReactiveGlobalExceptionHandler}
      *
+     * @param exceptionLogger     异常日志记录器
+     * @param exceptionMetrics    异常统计
+     * @param exceptionTranslator 异常转换器
      * @return GlobalExceptionHandler实例
      */
     @Bean
     @ConditionalOnMissingBean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(name = "org.springframework.web.bind.annotation.ControllerAdvice")
+    @ConditionalOnProperty(prefix = "quickstart.bootkit", name = "exception-handler", havingValue = "true", matchIfMissing = true)
+    public GlobalExceptionHandler globalExceptionHandler(ExceptionLogger exceptionLogger, ExceptionMetrics exceptionMetrics,
+                                                         ExceptionTranslator exceptionTranslator) {
+        return new GlobalExceptionHandler(exceptionLogger, exceptionMetrics, exceptionTranslator);
+    }
+
+    /**
+     * 响应式应用的异常处理配置
+     * 仅在 WebFlux 应用中生效
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnClass({WebExceptionHandler.class, ObjectMapper.class})
     @ConditionalOnProperty(prefix = "quickstart.bootkit", name = "exception-handler", havingValue = "true", matchIfMissing = true)
-    public GlobalExceptionHandler globalExceptionHandler() {
-        return new GlobalExceptionHandler();
+    static class ReactiveExceptionHandlerConfiguration {
+
+        /**
+         * 配置响应式全局异常处理器
+         *
+         * @param exceptionTranslator 异常转换器
+         * @param exceptionLogger     异常日志记录器
+         * @param exceptionMetrics    异常统计
+         * @param objectMapper        JSON序列化器，未配置时使用默认实例
+         * @return ReactiveGlobalExceptionHandler实例
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ReactiveGlobalExceptionHandler reactiveGlobalExceptionHandler(ExceptionTranslator exceptionTranslator,
+                                                                             ExceptionLogger exceptionLogger,
+                                                                             ExceptionMetrics exceptionMetrics,
+                                                                             ObjectProvider<ObjectMapper> objectMapper) {
+            return new ReactiveGlobalExceptionHandler(exceptionTranslator, exceptionLogger, exceptionMetrics,
+                    objectMapper.getIfAvailable(ObjectMapper::new));
+        }
+    }
+
+    /**
+     * Servlet 应用的常量响应预序列化配置
+     * 仅在 Spring MVC 应用中生效
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass({WebMvcConfigurer.class, ObjectMapper.class})
+    @ConditionalOnProperty(prefix = "quickstart.bootkit", name = "pre-serialized-responses", havingValue = "true", matchIfMissing = true)
+    static class PreSerializedResponsesConfiguration {
+
+        /**
+         * 配置常量响应预序列化
+         *
+         * @return PreSerializedResponsesConfigurer实例
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public PreSerializedResponsesConfigurer preSerializedResponsesConfigurer() {
+            return new PreSerializedResponsesConfigurer();
+        }
+    }
+
+    /**
+     * Servlet 应用的响应格式统一配置
+     * 仅在 Spring MVC 应用中且显式设置 quickstart.bootkit.response-format=true 时生效
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass({WebMvcConfigurer.class, ObjectMapper.class})
+    @ConditionalOnProperty(prefix = "quickstart.bootkit", name = "response-format", havingValue = "true")
+    static class ResponseFormatConfiguration {
+
+        /**
+         * 配置响应自动包装
+         *
+         * @param properties   配置属性
+         * @param objectMapper JSON序列化器，未配置时使用默认实例
+         * @return ResultWrappingAdvice实例
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ResultWrappingAdvice resultWrappingAdvice(QuickStartBootKitProperties properties,
+                                                         ObjectProvider<ObjectMapper> objectMapper) {
+            return new ResultWrappingAdvice(objectMapper.getIfAvailable(ObjectMapper::new),
+                    properties.getResponseFormatExcludePackages());
+        }
+    }
+
+    /**
+     * Servlet 应用的流式响应配置
+     * 仅在 Spring MVC 应用中生效
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass({WebMvcConfigurer.class, ObjectMapper.class})
+    static class StreamingResultConfiguration {
+
+        /**
+         * 配置流式响应写出器
+         *
+         * @param properties          配置属性
+         * @param exceptionTranslator 异常转换器
+         * @param exceptionLogger     异常日志记录器，未启用全局异常处理器时不输出日志
+         * @param objectMapper        JSON序列化器，未配置时使用默认实例
+         * @return StreamingResultWriter实例
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public StreamingResultWriter streamingResultWriter(QuickStartBootKitProperties properties,
+                                                           ExceptionTranslator exceptionTranslator,
+                                                           ObjectProvider<ExceptionLogger> exceptionLogger,
+                                                           ObjectProvider<ObjectMapper> objectMapper) {
+            return new StreamingResultWriter(objectMapper.getIfAvailable(ObjectMapper::new), exceptionTranslator,
+                    exceptionLogger.getIfAvailable(), properties.getStreaming().getFlushInterval());
+        }
+
+        /**
+         * 注册流式响应消息转换器
+         *
+         * @param streamingResultWriter 流式响应写出器
+         * @return StreamingResultConfigurer实例
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public StreamingResultConfigurer streamingResultConfigurer(StreamingResultWriter streamingResultWriter) {
+            return new StreamingResultConfigurer(streamingResultWriter);
+        }
+    }
+
+    /**
+     * Servlet 应用的接口延迟统计配置
+     * 仅在 Spring MVC 应用中生效
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(WebMvcConfigurer.class)
+    @ConditionalOnProperty(prefix = "quickstart.bootkit.metrics.latency", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class LatencyMetricsConfiguration {
+
+        /**
+         * 配置接口延迟统计
+         * 启用 quickstart.bootkit.metrics.jmx 时注册为 MBean
+         *
+         * @param properties 配置属性
+         * @return LatencyMetrics实例
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public LatencyMetrics latencyMetrics(QuickStartBootKitProperties properties) {
+            LatencyMetrics metrics = new LatencyMetrics();
+            if (properties.getMetrics().isJmx()) {
+                metrics.registerMBean();
+            }
+            return metrics;
+        }
+
+        /**
+         * 注册接口延迟记录过滤器，排在最前以覆盖其他过滤器的耗时
+         *
+         * @param latencyMetrics 接口延迟统计
+         * @return 过滤器注册
+         */
+        @Bean
+        @ConditionalOnMissingBean(name = "latencyRecordingFilter")
+        public FilterRegistrationBean<LatencyRecordingFilter> latencyRecordingFilter(LatencyMetrics latencyMetrics) {
+            FilterRegistrationBean<LatencyRecordingFilter> registration =
+                    new FilterRegistrationBean<>(new LatencyRecordingFilter(latencyMetrics));
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+
+        /**
+         * 配置响应错误码记录
+         *
+         * @return ResultCodeCaptureAdvice实例
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ResultCodeCaptureAdvice resultCodeCaptureAdvice() {
+            return new ResultCodeCaptureAdvice();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+package io.github.flashlack1314.quickstart.config;
+
+import io.github.flashlack1314.quickstart.exception.BaseException;
+import io.github.flashlack1314.quickstart.exception.BusinessException;
+import io.github.flashlack1314.quickstart.exception.CommonErrorCode;
+import io.github.flashlack1314.quickstart.exception.ParameterException;
+import io.github.flashlack1314.quickstart.exception.SystemException;
+import io.github.flashlack1314.quickstart.metrics.ExceptionMetricsMXBean;
+import io.github.flashlack1314.quickstart.metrics.LatencyMetricsMXBean;
+import io.github.flashlack1314.quickstart.vo.CountMode;
+import io.github.flashlack1314.quickstart.vo.CursorPageVO;
+import io.github.flashlack1314.quickstart.vo.ExportSummaryVO;
+import io.github.flashlack1314.quickstart.vo.IntPageVO;
+import io.github.flashlack1314.quickstart.vo.LongPageVO;
+import io.github.flashlack1314.quickstart.vo.PageVO;
+import io.github.flashlack1314.quickstart.vo.PrimitivePageVO;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import io.github.flashlack1314.quickstart.vo.StreamingResultVO;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * Spring AOT 与 GraalVM 原生镜像的运行时提示
+ * 响应对象由 Jackson 通过反射读取字段与 getter，异常类型的 getter 供序列化与日志使用，
+ * MXBean 接口由 JMX 反射调用。依赖 Jackson 的序列化器按类名注册，未引入 Jackson 时不会加载。
+ *
+ * @author flash
+ */
+public class QuickStartBootKitRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * 序列化为 JSON 的响应对象
+     */
+    private static final List<Class<?>> RESPONSE_TYPES = List.of(
+            ResultVO.class, StreamingResultVO.class, PageVO.class, CursorPageVO.class, PrimitivePageVO.class,
+            LongPageVO.class, IntPageVO.class, ExportSummaryVO.class, CountMode.class);
+
+    /**
+     * 异常与错误码类型
+     */
+    private static final List<Class<?>> EXCEPTION_TYPES = List.of(
+            BaseException.class, BusinessException.class, ParameterException.class, SystemException.class,
+            CommonErrorCode.class);
+
+    /**
+     * 包私有或依赖可选模块的类型
+     */
+    private static final List<String> TYPE_NAMES = List.of(
+            "io.github.flashlack1314.quickstart.vo.ImmutableResultVO",
+            "io.github.flashlack1314.quickstart.vo.PageVO$ExactCountModeFilter",
+            "io.github.flashlack1314.quickstart.vo.PrimitivePageVOSerializer");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> type : RESPONSE_TYPES) {
+            hints.reflection().registerType(type, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        for (String name : TYPE_NAMES) {
+            hints.reflection().registerType(TypeReference.of(name), MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        for (Class<?> type : EXCEPTION_TYPES) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.reflection().registerType(ExceptionMetricsMXBean.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(LatencyMetricsMXBean.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
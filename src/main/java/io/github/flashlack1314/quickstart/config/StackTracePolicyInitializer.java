@@ -0,0 +1,57 @@
+package io.github.flashlack1314.quickstart.config;
+
+import io.github.flashlack1314.quickstart.exception.StackTracePolicy;
+import io.github.flashlack1314.quickstart.properties.QuickStartBootKitProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+/**
+ * 异常堆栈策略初始化器
+ * 单例初始化完成后将 {@code quickstart.bootkit.exception.stack-trace.*} 配置应用到全局的 {@link StackTracePolicy}，
+ * 容器关闭时恢复应用前的取值，同一 JVM 中先后启动的多个容器不会残留彼此的设置
+ *
+ * @author flash
+ */
+public class StackTracePolicyInitializer implements SmartInitializingSingleton, DisposableBean {
+
+    private final QuickStartBootKitProperties.StackTrace stackTrace;
+
+    private boolean applied;
+
+    private boolean previousBusiness;
+
+    private boolean previousParameter;
+
+    private boolean previousSystem;
+
+    /**
+     * 构造函数
+     *
+     * @param stackTrace 异常堆栈配置
+     */
+    public StackTracePolicyInitializer(QuickStartBootKitProperties.StackTrace stackTrace) {
+        this.stackTrace = stackTrace;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        previousBusiness = StackTracePolicy.isBusiness();
+        previousParameter = StackTracePolicy.isParameter();
+        previousSystem = StackTracePolicy.isSystem();
+        StackTracePolicy.setBusiness(stackTrace.isBusiness());
+        StackTracePolicy.setParameter(stackTrace.isParameter());
+        StackTracePolicy.setSystem(stackTrace.isSystem());
+        applied = true;
+    }
+
+    @Override
+    public void destroy() {
+        if (!applied) {
+            return;
+        }
+        StackTracePolicy.setBusiness(previousBusiness);
+        StackTracePolicy.setParameter(previousParameter);
+        StackTracePolicy.setSystem(previousSystem);
+        applied = false;
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.flashlack1314.quickstart.config;
+
+import io.github.flashlack1314.quickstart.properties.QuickStartBootKitProperties;
+import io.github.flashlack1314.quickstart.thread.VirtualThreadPinningDetector;
+import io.github.flashlack1314.quickstart.thread.VirtualThreadTaskExecutor;
+import io.github.flashlack1314.quickstart.thread.VirtualThreadTaskScheduler;
+import org.apache.catalina.startup.Tomcat;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.config.TaskManagementConfigUtils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * 虚拟线程自动配置
+ * 启用 quickstart.bootkit.virtual-threads.enabled 后，Tomcat 请求处理、@Async 任务与定时任务均在虚拟线程上执行。
+ * 在 Spring Boot 的任务执行与调度自动配置之前生效，已定义的执行器与调度器优先。
+ *
+ * @author flash
+ */
+@AutoConfiguration(before = {TaskExecutionAutoConfiguration.class, TaskSchedulingAutoConfiguration.class})
+@EnableConfigurationProperties(QuickStartBootKitProperties.class)
+@ConditionalOnProperty(prefix = "quickstart.bootkit.virtual-threads", name = "enabled", havingValue = "true")
+public class VirtualThreadAutoConfiguration {
+
+    /**
+     * 配置虚拟线程任务执行器
+     * 同时注册为 taskExecutor，供 @Async 在存在多个执行器时按名称选择
+     *
+     * @return VirtualThreadTaskExecutor实例
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    @ConditionalOnMissingBean(Executor.class)
+    public VirtualThreadTaskExecutor applicationTaskExecutor() {
+        return new VirtualThreadTaskExecutor("task-");
+    }
+
+    /**
+     * 配置虚拟线程定时任务调度器
+     * 仅在启用 @EnableScheduling 时生效
+     *
+     * @return VirtualThreadTaskScheduler实例
+     */
+    @Bean
+    @ConditionalOnBean(name = TaskManagementConfigUtils.SCHEDULED_ANNOTATION_PROCESSOR_BEAN_NAME)
+    @ConditionalOnMissingBean({TaskScheduler.class, ScheduledExecutorService.class})
+    public VirtualThreadTaskScheduler taskScheduler() {
+        return new VirtualThreadTaskScheduler("scheduling-");
+    }
+
+    /**
+     * 配置虚拟线程钉住检测器
+     *
+     * @param properties 配置属性
+     * @return VirtualThreadPinningDetector实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnClass(name = "jdk.jfr.consumer.RecordingStream")
+    @ConditionalOnProperty(prefix = "quickstart.bootkit.virtual-threads.pinning-detector", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningDetector virtualThreadPinningDetector(QuickStartBootKitProperties properties) {
+        VirtualThreadPinningDetector detector = new VirtualThreadPinningDetector(
+                properties.getVirtualThreads().getPinningDetector().getThreshold());
+        detector.start();
+        return detector;
+    }
+
+    /**
+     * 内嵌 Tomcat 的虚拟线程配置
+     * 仅在使用内嵌 Tomcat 的 Servlet 应用中生效
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(Tomcat.class)
+    static class TomcatVirtualThreadConfiguration {
+
+        /**
+         * 使用虚拟线程执行器替换 Tomcat 的请求处理线程池
+         *
+         * @return TomcatProtocolHandlerCustomizer实例
+         */
+        @Bean
+        public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+            return protocolHandler -> protocolHandler.setExecutor(
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("tomcat-handler-", 0).factory()));
+        }
+    }
+}
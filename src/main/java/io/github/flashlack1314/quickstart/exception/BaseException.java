@@ -2,6 +2,8 @@ package io.github.flashlack1314.quickstart.exception;
 
 import lombok.Getter;
 
+import java.util.Objects;
+
 /**
  * 基础异常类
  * 所有自定义异常的父类
@@ -21,6 +23,12 @@ public class BaseException extends RuntimeException {
      */
     private final String message;
 
+    /**
+     * 错误码常量，通过数值错误码构造时为null
+     */
+    @Getter
+    private final ErrorCode errorCode;
+
     /**
      * 构造函数
      *
@@ -31,6 +39,7 @@ public class BaseException extends RuntimeException {
         super(message);
         this.code = code;
         this.message = message;
+        this.errorCode = null;
     }
 
     /**
@@ -44,6 +53,59 @@ public class BaseException extends RuntimeException {
         super(message, cause);
         this.code = code;
         this.message = message;
+        this.errorCode = null;
+    }
+
+    /**
+     * 构造函数（指定是否采集堆栈）
+     * 不采集堆栈时跳过 {@link Throwable#fillInStackTrace()}，适用于高频的流程控制类异常
+     *
+     * @param code               错误码
+     * @param message            错误消息
+     * @param cause              异常原因
+     * @param writableStackTrace 是否采集堆栈
+     */
+    public BaseException(Integer code, String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
+        this.code = code;
+        this.message = message;
+        this.errorCode = null;
+    }
+
+    /**
+     * 构造函数（错误码）
+     *
+     * @param errorCode 错误码
+     */
+    public BaseException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.code = errorCode.getCode();
+        this.message = errorCode.getMessage();
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * 构造函数（错误码，带原因，指定是否采集堆栈）
+     *
+     * @param errorCode          错误码
+     * @param cause              异常原因
+     * @param writableStackTrace 是否采集堆栈
+     */
+    public BaseException(ErrorCode errorCode, Throwable cause, boolean writableStackTrace) {
+        super(errorCode.getMessage(), cause, true, writableStackTrace);
+        this.code = errorCode.getCode();
+        this.message = errorCode.getMessage();
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * 是否为错误码的默认消息
+     * 为true时错误响应可直接复用 {@link ErrorCodeRegistry#response(ErrorCode)}
+     *
+     * @return true if constructed from an error code with its default message
+     */
+    public boolean hasStaticMessage() {
+        return errorCode != null && Objects.equals(errorCode.getMessage(), message);
     }
 
     @Override
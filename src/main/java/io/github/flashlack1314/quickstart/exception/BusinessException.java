@@ -15,7 +15,7 @@ public class BusinessException extends BaseException {
      * @param message 错误消息
      */
     public BusinessException(Integer code, String message) {
-        super(code, message);
+        super(code, message, null, StackTracePolicy.isBusiness());
     }
 
     /**
@@ -26,7 +26,19 @@ public class BusinessException extends BaseException {
      * @param cause   异常原因
      */
     public BusinessException(Integer code, String message, Throwable cause) {
-        super(code, message, cause);
+        super(code, message, cause, StackTracePolicy.isBusiness());
+    }
+
+    /**
+     * 构造函数（指定是否采集堆栈）
+     *
+     * @param code               错误码
+     * @param message            错误消息
+     * @param cause              异常原因
+     * @param writableStackTrace 是否采集堆栈，覆盖 {@link StackTracePolicy} 的类别默认值
+     */
+    public BusinessException(Integer code, String message, Throwable cause, boolean writableStackTrace) {
+        super(code, message, cause, writableStackTrace);
     }
 
     /**
@@ -35,7 +47,7 @@ public class BusinessException extends BaseException {
      * @param message 错误消息
      */
     public BusinessException(String message) {
-        this(500, message);
+        this(CommonErrorCode.INTERNAL_ERROR.getCode(), message);
     }
 
     /**
@@ -45,6 +57,36 @@ public class BusinessException extends BaseException {
      * @param cause   异常原因
      */
     public BusinessException(String message, Throwable cause) {
-        this(500, message, cause);
+        this(CommonErrorCode.INTERNAL_ERROR.getCode(), message, cause);
+    }
+
+    /**
+     * 构造函数（错误码）
+     *
+     * @param errorCode 错误码
+     */
+    public BusinessException(ErrorCode errorCode) {
+        this(errorCode, null, StackTracePolicy.isBusiness());
+    }
+
+    /**
+     * 构造函数（错误码，带原因）
+     *
+     * @param errorCode 错误码
+     * @param cause     异常原因
+     */
+    public BusinessException(ErrorCode errorCode, Throwable cause) {
+        this(errorCode, cause, StackTracePolicy.isBusiness());
+    }
+
+    /**
+     * 构造函数（错误码，带原因，指定是否采集堆栈）
+     *
+     * @param errorCode          错误码
+     * @param cause              异常原因
+     * @param writableStackTrace 是否采集堆栈
+     */
+    public BusinessException(ErrorCode errorCode, Throwable cause, boolean writableStackTrace) {
+        super(errorCode, cause, writableStackTrace);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,78 @@
+package io.github.flashlack1314.quickstart.exception;
+
+import lombok.Getter;
+
+/**
+ * 通用错误码
+ * 内置异常与全局异常处理器使用的错误码目录
+ *
+ * @author flash
+ */
+@Getter
+public enum CommonErrorCode implements ErrorCode {
+
+    /**
+     * 参数错误
+     */
+    BAD_REQUEST(400, "参数错误"),
+
+    /**
+     * 计算错误
+     */
+    ARITHMETIC_ERROR(400, "计算错误"),
+
+    /**
+     * 数据访问越界
+     */
+    INDEX_OUT_OF_BOUNDS(400, "数据访问越界"),
+
+    /**
+     * 数字格式错误
+     */
+    NUMBER_FORMAT_ERROR(400, "数字格式错误"),
+
+    /**
+     * 批量参数校验失败
+     */
+    BATCH_VALIDATION_ERROR(400, "批量参数校验失败"),
+
+    /**
+     * 系统内部错误
+     */
+    INTERNAL_ERROR(500, "系统内部错误"),
+
+    /**
+     * 系统异常
+     */
+    SYSTEM_ERROR(500, "系统异常，请联系管理员"),
+
+    /**
+     * 空指针异常
+     */
+    NULL_POINTER(500, "系统内部错误 - 空指针异常"),
+
+    /**
+     * 系统配置错误
+     */
+    CONFIGURATION_ERROR(500, "系统配置错误"),
+
+    /**
+     * 数据类型转换错误
+     */
+    CLASS_CAST_ERROR(500, "数据类型转换错误");
+
+    /**
+     * 错误码
+     */
+    private final Integer code;
+
+    /**
+     * 默认错误消息
+     */
+    private final String message;
+
+    CommonErrorCode(Integer code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+}
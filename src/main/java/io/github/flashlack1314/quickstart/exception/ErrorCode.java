@@ -0,0 +1,24 @@
+package io.github.flashlack1314.quickstart.exception;
+
+/**
+ * 错误码接口
+ * 业务方通常以枚举实现，作为错误码与默认错误消息的常量目录
+ *
+ * @author flash
+ */
+public interface ErrorCode {
+
+    /**
+     * 获取错误码
+     *
+     * @return 错误码
+     */
+    Integer getCode();
+
+    /**
+     * 获取默认错误消息
+     *
+     * @return 错误消息
+     */
+    String getMessage();
+}
@@ -0,0 +1,87 @@
+package io.github.flashlack1314.quickstart.exception;
+
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 错误码注册表
+ * 为每个错误码缓存一个不可变的 {@link ResultVO} 错误响应，
+ * 消息固定的错误直接复用该响应，异常处理路径上不再创建新的响应对象
+ * <p>
+ * 缓存以错误码实例为键，错误码应为常量（如枚举），不要在运行时动态创建。
+ *
+ * @author flash
+ */
+public final class ErrorCodeRegistry {
+
+    /**
+     * 错误码实例到缓存响应的映射
+     */
+    private static final Map<ErrorCode, ResultVO<Void>> RESPONSES = new ConcurrentHashMap<>();
+
+    /**
+     * 数值错误码到错误码实例的映射，同一数值以最先注册者为准
+     */
+    private static final Map<Integer, ErrorCode> CODES = new ConcurrentHashMap<>();
+
+    static {
+        register(CommonErrorCode.values());
+    }
+
+    private ErrorCodeRegistry() {
+    }
+
+    /**
+     * 注册错误码并预先创建缓存响应
+     *
+     * @param errorCodes 错误码
+     */
+    public static void register(ErrorCode... errorCodes) {
+        for (ErrorCode errorCode : errorCodes) {
+            response(errorCode);
+        }
+    }
+
+    /**
+     * 根据数值错误码查找已注册的错误码
+     *
+     * @param code 数值错误码
+     * @return 错误码，未注册时返回null
+     */
+    public static ErrorCode find(Integer code) {
+        return code == null ? null : CODES.get(code);
+    }
+
+    /**
+     * 获取错误码对应的不可变错误响应
+     * 未注册的错误码在首次访问时自动注册
+     *
+     * @param errorCode 错误码
+     * @return 不可变错误响应
+     */
+    public static ResultVO<Void> response(ErrorCode errorCode) {
+        ResultVO<Void> response = RESPONSES.get(errorCode);
+        if (response != null) {
+            return response;
+        }
+        return RESPONSES.computeIfAbsent(errorCode, key -> {
+            if (key.getCode() != null) {
+                CODES.putIfAbsent(key.getCode(), key);
+            }
+            return ResultVO.immutable(key.getCode(), key.getMessage());
+        });
+    }
+
+    /**
+     * 获取当前已缓存的全部错误响应
+     *
+     * @return 不可变错误响应集合
+     */
+    public static Collection<ResultVO<Void>> responses() {
+        return Collections.unmodifiableCollection(RESPONSES.values());
+    }
+}
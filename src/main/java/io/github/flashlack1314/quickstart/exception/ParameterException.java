@@ -15,7 +15,7 @@ public class ParameterException extends BaseException {
      * @param message 错误消息
      */
     public ParameterException(Integer code, String message) {
-        super(code, message);
+        super(code, message, null, StackTracePolicy.isParameter());
     }
 
     /**
@@ -26,7 +26,19 @@ public class ParameterException extends BaseException {
      * @param cause   异常原因
      */
     public ParameterException(Integer code, String message, Throwable cause) {
-        super(code, message, cause);
+        super(code, message, cause, StackTracePolicy.isParameter());
+    }
+
+    /**
+     * 构造函数（指定是否采集堆栈）
+     *
+     * @param code               错误码
+     * @param message            错误消息
+     * @param cause              异常原因
+     * @param writableStackTrace 是否采集堆栈，覆盖 {@link StackTracePolicy} 的类别默认值
+     */
+    public ParameterException(Integer code, String message, Throwable cause, boolean writableStackTrace) {
+        super(code, message, cause, writableStackTrace);
     }
 
     /**
@@ -35,7 +47,7 @@ public class ParameterException extends BaseException {
      * @param message 错误消息
      */
     public ParameterException(String message) {
-        this(400, message);
+        this(CommonErrorCode.BAD_REQUEST.getCode(), message);
     }
 
     /**
@@ -45,6 +57,36 @@ public class ParameterException extends BaseException {
      * @param cause   异常原因
      */
     public ParameterException(String message, Throwable cause) {
-        this(400, message, cause);
+        this(CommonErrorCode.BAD_REQUEST.getCode(), message, cause);
+    }
+
+    /**
+     * 构造函数（错误码）
+     *
+     * @param errorCode 错误码
+     */
+    public ParameterException(ErrorCode errorCode) {
+        this(errorCode, null, StackTracePolicy.isParameter());
+    }
+
+    /**
+     * 构造函数（错误码，带原因）
+     *
+     * @param errorCode 错误码
+     * @param cause     异常原因
+     */
+    public ParameterException(ErrorCode errorCode, Throwable cause) {
+        this(errorCode, cause, StackTracePolicy.isParameter());
+    }
+
+    /**
+     * 构造函数（错误码，带原因，指定是否采集堆栈）
+     *
+     * @param errorCode          错误码
+     * @param cause              异常原因
+     * @param writableStackTrace 是否采集堆栈
+     */
+    public ParameterException(ErrorCode errorCode, Throwable cause, boolean writableStackTrace) {
+        super(errorCode, cause, writableStackTrace);
     }
-}
\ No newline at end of file
+}
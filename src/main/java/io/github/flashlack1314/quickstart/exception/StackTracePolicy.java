@@ -0,0 +1,65 @@
+package io.github.flashlack1314.quickstart.exception;
+
+/**
+ * 异常堆栈策略
+ * 按异常类别控制是否采集堆栈信息，由自动配置根据
+ * {@code quickstart.bootkit.exception.stack-trace.*} 属性初始化
+ * <p>
+ * 业务异常与参数异常通常用于正常的流程控制，采集堆栈是其主要开销，默认关闭；
+ * 系统异常默认保留完整堆栈，便于排查问题。
+ *
+ * @author flash
+ */
+public final class StackTracePolicy {
+
+    /**
+     * 业务异常是否采集堆栈
+     */
+    private static volatile boolean business = false;
+
+    /**
+     * 参数异常是否采集堆栈
+     */
+    private static volatile boolean parameter = false;
+
+    /**
+     * 系统异常是否采集堆栈
+     */
+    private static volatile boolean system = true;
+
+    private StackTracePolicy() {
+    }
+
+    public static boolean isBusiness() {
+        return business;
+    }
+
+    public static void setBusiness(boolean business) {
+        StackTracePolicy.business = business;
+    }
+
+    public static boolean isParameter() {
+        return parameter;
+    }
+
+    public static void setParameter(boolean parameter) {
+        StackTracePolicy.parameter = parameter;
+    }
+
+    public static boolean isSystem() {
+        return system;
+    }
+
+    public static void setSystem(boolean system) {
+        StackTracePolicy.system = system;
+    }
+
+    /**
+     * 恢复默认策略
+     */
+    public static void reset() {
+        business = false;
+        parameter = false;
+        system = true;
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.flashlack1314.quickstart.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * CSV 导出格式
+ * 按 RFC 4180 输出 UTF-8 编码的 CSV：行以 CRLF 结束，包含逗号、双引号或换行的值用双引号包裹，
+ * 值中的双引号写为两个双引号，null 输出为空值。
+ * <pre>{@code
+ * ExportFormat<User> format = new CsvExportFormat<User>()
+ *         .column("ID", User::getId)
+ *         .column("姓名", User::getName);
+ * }</pre>
+ * 列在配置完成后不应再修改，同一实例可供多次导出并发使用。
+ *
+ * @param <T> 记录类型
+ * @author flash
+ */
+public class CsvExportFormat<T> implements ExportFormat<T> {
+
+    private final List<String> headers = new ArrayList<>();
+
+    private final List<Function<? super T, ?>> columns = new ArrayList<>();
+
+    private boolean header = true;
+
+    /**
+     * 添加一列
+     *
+     * @param header 表头
+     * @param value  取值函数，返回值通过 {@link String#valueOf(Object)} 输出
+     * @return 当前格式
+     */
+    public CsvExportFormat<T> column(String header, Function<? super T, ?> value) {
+        headers.add(header);
+        columns.add(value);
+        return this;
+    }
+
+    /**
+     * 不输出表头行
+     *
+     * @return 当前格式
+     */
+    public CsvExportFormat<T> withoutHeader() {
+        this.header = false;
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public RecordWriter<T> open(OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        Function<? super T, ?>[] values = columns.toArray(new Function[0]);
+        if (header) {
+            for (int i = 0; i < headers.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeValue(writer, headers.get(i));
+            }
+            writer.write("\r\n");
+        }
+        return new RecordWriter<>() {
+            @Override
+            public void write(T record) throws IOException {
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    Object value = values[i].apply(record);
+                    if (value != null) {
+                        writeValue(writer, value.toString());
+                    }
+                }
+                writer.write("\r\n");
+            }
+
+            @Override
+            public void flush() throws IOException {
+                writer.flush();
+            }
+        };
+    }
+
+    private static void writeValue(Writer writer, String value) throws IOException {
+        if (!needsQuote(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                writer.write(value, start, i + 1 - start);
+                writer.write('"');
+                start = i + 1;
+            }
+        }
+        writer.write(value, start, value.length() - start);
+        writer.write('"');
+    }
+
+    private static boolean needsQuote(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.flashlack1314.quickstart.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 导出格式
+ * 每次导出调用一次 {@link #open(OutputStream)}，由返回的 {@link RecordWriter} 逐条编码记录，
+ * 实现应只保留固定大小的编码缓冲区，不能累积已写出的记录。
+ *
+ * @param <T> 记录类型
+ * @author flash
+ * @see CsvExportFormat
+ * @see JsonLinesExportFormat
+ */
+@FunctionalInterface
+public interface ExportFormat<T> {
+
+    /**
+     * 开始一次导出，需要表头的格式在此时写出表头
+     *
+     * @param out 输出流，写出器不负责关闭
+     * @return 记录写出器
+     * @throws IOException 写入输出流失败
+     */
+    RecordWriter<T> open(OutputStream out) throws IOException;
+
+    /**
+     * 记录写出器，只在一次导出内由单个线程使用
+     *
+     * @param <T> 记录类型
+     */
+    interface RecordWriter<T> {
+
+        /**
+         * 编码并写出一条记录
+         *
+         * @param record 记录
+         * @throws IOException 写入输出流失败
+         */
+        void write(T record) throws IOException;
+
+        /**
+         * 将编码缓冲区中的内容写入输出流并刷新输出流
+         *
+         * @throws IOException 写入输出流失败
+         */
+        void flush() throws IOException;
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.flashlack1314.quickstart.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * JSON Lines 导出格式
+ * 每条记录序列化为一行 JSON，整个导出复用同一个生成器及其缓冲区。
+ *
+ * @param <T> 记录类型
+ * @author flash
+ */
+public class JsonLinesExportFormat<T> implements ExportFormat<T> {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 记录序列化器，关闭每写一个值就刷新的默认行为，由导出器按间隔刷新
+     */
+    private final ObjectWriter recordWriter;
+
+    /**
+     * 构造函数
+     *
+     * @param objectMapper JSON序列化器
+     */
+    public JsonLinesExportFormat(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.recordWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public RecordWriter<T> open(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // 记录之间以换行分隔，不使用默认的空格
+        generator.setRootValueSeparator(null);
+        return new RecordWriter<>() {
+            @Override
+            public void write(T record) throws IOException {
+                recordWriter.writeValue(generator, record);
+                generator.writeRaw('\n');
+            }
+
+            @Override
+            public void flush() throws IOException {
+                generator.flush();
+            }
+        };
+    }
+}
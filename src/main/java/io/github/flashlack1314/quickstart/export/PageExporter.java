@@ -0,0 +1,273 @@
+package io.github.flashlack1314.quickstart.export;
+
+import io.github.flashlack1314.quickstart.handler.ExceptionLogger;
+import io.github.flashlack1314.quickstart.handler.ExceptionTranslator;
+import io.github.flashlack1314.quickstart.page.PageIterator;
+import io.github.flashlack1314.quickstart.vo.ExportSummaryVO;
+import io.github.flashlack1314.quickstart.vo.PageVO;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 分页批量导出器
+ * 按页码依次查询并立即编码写出，写出当前页时最多预取 readAhead 页，
+ * 内存占用只与每页大小有关，与导出总量无关；每写出 flushInterval 条记录刷新一次输出流。
+ * <p>
+ * 导出到输出流（如 {@code HttpServletResponse.getOutputStream()}）时异常直接抛出：
+ * 尚未写出内容时由全局异常处理器按错误码返回，已写出部分内容时响应被截断。
+ * 导出到文件时返回 {@link ResultVO} 汇总，失败通过 {@link ExceptionTranslator} 转换为对应的错误码，
+ * {@link io.github.flashlack1314.quickstart.exception.BaseException} 保留其自身的错误码与消息。
+ * <p>
+ * 分页查询在虚拟线程上执行，不能依赖调用线程绑定的上下文（如事务、ThreadLocal）。
+ *
+ * @author flash
+ */
+public class PageExporter {
+
+    /**
+     * 默认每页大小
+     */
+    public static final long DEFAULT_PAGE_SIZE = 1000;
+
+    /**
+     * 默认预取页数
+     */
+    public static final int DEFAULT_READ_AHEAD = 1;
+
+    /**
+     * 默认刷新间隔（记录数）
+     */
+    public static final int DEFAULT_FLUSH_INTERVAL = 1000;
+
+    /**
+     * 输出缓冲区大小
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExceptionTranslator exceptionTranslator;
+
+    private final ExceptionLogger exceptionLogger;
+
+    private final long pageSize;
+
+    private final int readAhead;
+
+    private final int flushInterval;
+
+    /**
+     * 构造函数
+     * 使用默认的每页大小、预取页数与刷新间隔
+     *
+     * @param exceptionTranslator 异常转换器
+     */
+    public PageExporter(ExceptionTranslator exceptionTranslator) {
+        this(exceptionTranslator, null, DEFAULT_PAGE_SIZE, DEFAULT_READ_AHEAD, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param exceptionTranslator 异常转换器
+     * @param exceptionLogger     异常日志记录器，为null时不输出日志
+     * @param pageSize            每页大小
+     * @param readAhead           写出当前页时最多预取的页数，0表示不预取
+     * @param flushInterval       刷新间隔（记录数）
+     */
+    public PageExporter(ExceptionTranslator exceptionTranslator, ExceptionLogger exceptionLogger,
+                        long pageSize, int readAhead, int flushInterval) {
+        this.exceptionTranslator = exceptionTranslator;
+        this.exceptionLogger = exceptionLogger;
+        this.pageSize = Math.max(1, pageSize);
+        this.readAhead = Math.max(0, readAhead);
+        this.flushInterval = Math.max(1, flushInterval);
+    }
+
+    /**
+     * 导出到输出流，不关闭输出流
+     *
+     * @param fetcher  分页查询
+     * @param format   导出格式
+     * @param out      输出流
+     * @param listener 进度监听器，每写完一页回调一次，可为null
+     * @param <T>      记录类型
+     * @return 导出汇总
+     * @throws IOException 写入输出流失败
+     */
+    public <T> ExportSummaryVO export(PageIterator.PageFetcher<T> fetcher, ExportFormat<? super T> format,
+                                      OutputStream out, ProgressListener listener) throws IOException {
+        Progress progress = new Progress(listener);
+        run(fetcher, format, out, progress);
+        return progress.summary(true);
+    }
+
+    /**
+     * 导出到文件通道，从通道当前位置开始写入，不关闭通道
+     *
+     * @param fetcher  分页查询
+     * @param format   导出格式
+     * @param channel  文件通道
+     * @param listener 进度监听器，每写完一页回调一次，可为null
+     * @param <T>      记录类型
+     * @return 导出汇总，失败时为对应错误码的响应，data 中为失败前的进度
+     */
+    public <T> ResultVO<ExportSummaryVO> export(PageIterator.PageFetcher<T> fetcher, ExportFormat<? super T> format,
+                                                FileChannel channel, ProgressListener listener) {
+        Progress progress = new Progress(listener);
+        try {
+            run(fetcher, format, Channels.newOutputStream(channel), progress);
+        } catch (IOException | RuntimeException e) {
+            return failure(e, progress.summary(false));
+        }
+        return ResultVO.success(progress.summary(true));
+    }
+
+    /**
+     * 导出到文件，文件已存在时覆盖
+     *
+     * @param fetcher  分页查询
+     * @param format   导出格式
+     * @param file     文件路径
+     * @param listener 进度监听器，每写完一页回调一次，可为null
+     * @param <T>      记录类型
+     * @return 导出汇总，失败时为对应错误码的响应，data 中为失败前的进度
+     */
+    public <T> ResultVO<ExportSummaryVO> export(PageIterator.PageFetcher<T> fetcher, ExportFormat<? super T> format,
+                                                Path file, ProgressListener listener) {
+        ResultVO<ExportSummaryVO> result;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            result = export(fetcher, format, channel, listener);
+        } catch (IOException | RuntimeException e) {
+            result = failure(e, new Progress(null).summary(false));
+        }
+        result.getData().setFile(file.toString());
+        return result;
+    }
+
+    private <T> void run(PageIterator.PageFetcher<T> fetcher, ExportFormat<? super T> format,
+                         OutputStream target, Progress progress) throws IOException {
+        CountingOutputStream out = new CountingOutputStream(new BufferedOutputStream(target, BUFFER_SIZE));
+        progress.out = out;
+        ExportFormat.RecordWriter<? super T> writer = format.open(out);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try (PageIterator<T> pages = new PageIterator<>(fetcher, pageSize, readAhead, executor)) {
+            int unflushed = 0;
+            while (pages.hasNext()) {
+                List<T> records = pages.next().getRecords();
+                for (T record : records) {
+                    writer.write(record);
+                    progress.records++;
+                    if (++unflushed >= flushInterval) {
+                        writer.flush();
+                        unflushed = 0;
+                    }
+                }
+                progress.pageWritten();
+            }
+            writer.flush();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ResultVO<ExportSummaryVO> failure(Exception e, ExportSummaryVO summary) {
+        ExceptionTranslator.Translation translation = exceptionTranslator.resolve(e.getClass());
+        ResultVO<Void> error = translation.apply(e);
+        if (exceptionLogger != null) {
+            exceptionLogger.log(translation.getLabel(), error.getCode(), e);
+        }
+        return new ResultVO<>(error.getCode(), error.getMessage(), summary);
+    }
+
+    /**
+     * 导出进度监听器
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * 写完一页后回调，在导出线程上执行
+         *
+         * @param records 已写出的记录数
+         * @param pages   已写出的页数
+         * @param bytes   已交给输出缓冲区的字节数，不含编码器中尚未输出的内容
+         */
+        void onProgress(long records, long pages, long bytes);
+    }
+
+    /**
+     * 单次导出的进度
+     */
+    private static final class Progress {
+
+        private final ProgressListener listener;
+
+        private final long startNanos = System.nanoTime();
+
+        private CountingOutputStream out;
+
+        private long records;
+
+        private long pages;
+
+        private Progress(ProgressListener listener) {
+            this.listener = listener;
+        }
+
+        private void pageWritten() {
+            pages++;
+            if (listener != null) {
+                listener.onProgress(records, pages, bytes());
+            }
+        }
+
+        private long bytes() {
+            return out != null ? out.count : 0L;
+        }
+
+        private ExportSummaryVO summary(boolean complete) {
+            return new ExportSummaryVO()
+                    .setRecords(records)
+                    .setPages(pages)
+                    .setBytes(bytes())
+                    .setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                    .setComplete(complete);
+        }
+    }
+
+    /**
+     * 统计写出字节数的输出流
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package io.github.flashlack1314.quickstart.handler;
+
+import io.github.flashlack1314.quickstart.properties.QuickStartBootKitProperties;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 异步异常日志记录器
+ * 请求线程只把异常事件发布到 {@link ExceptionEventRingBuffer}，
+ * 由单个后台线程批量执行限流、去重、格式化与输出，日志 I/O 不再计入失败请求的耗时
+ * <p>
+ * 缓冲区为空时后台线程挂起，由发布者唤醒；关闭后发布的事件改为同步输出，不会丢失
+ *
+ * @author flash
+ */
+public class AsyncExceptionLogger extends ExceptionLogger {
+
+    /**
+     * BLOCK 策略下等待空位的休眠时间
+     */
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * 关闭时等待后台线程处理完积压事件的最长时间
+     */
+    private static final long CLOSE_TIMEOUT_MILLIS = 5_000L;
+
+    private final ExceptionEventRingBuffer buffer;
+
+    private final int batchSize;
+
+    private final QuickStartBootKitProperties.OverflowPolicy overflowPolicy;
+
+    /**
+     * 累计丢弃的事件数
+     */
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * 尚未输出汇总的丢弃数（COUNT 策略）
+     */
+    private final AtomicLong unreported = new AtomicLong();
+
+    /**
+     * 正在发布事件的线程数，关闭后等待其归零再做最后一次消费
+     */
+    private final AtomicInteger publishing = new AtomicInteger();
+
+    /**
+     * 预先创建的事件处理器，避免每批次创建新对象
+     */
+    private final ExceptionEventRingBuffer.EventHandler eventHandler = this::onEvent;
+
+    private final Thread consumer;
+
+    /**
+     * 后台线程是否因缓冲区为空而挂起，发布者据此决定是否唤醒
+     */
+    private volatile boolean consumerParked;
+
+    private volatile boolean closed;
+
+    /**
+     * 构造函数
+     *
+     * @param logger 日志输出目标
+     * @param config 日志配置
+     */
+    public AsyncExceptionLogger(Logger logger, QuickStartBootKitProperties.Logging config) {
+        super(logger, config);
+        QuickStartBootKitProperties.Async async = config.getAsync();
+        this.buffer = new ExceptionEventRingBuffer(async.getBufferSize());
+        this.batchSize = Math.max(1, async.getBatchSize());
+        this.overflowPolicy = async.getOverflowPolicy();
+        this.consumer = new Thread(this::consume, "quickstart-exception-logger");
+        this.consumer.setDaemon(true);
+    }
+
+    /**
+     * 启动后台消费线程
+     */
+    public void start() {
+        consumer.start();
+    }
+
+    /**
+     * 发布异常事件，由后台线程输出日志
+     *
+     * @param label 异常描述，如"业务异常"
+     * @param code  响应错误码，用于区分客户端错误与服务端错误
+     * @param e     异常
+     */
+    @Override
+    public void log(String label, Integer code, Throwable e) {
+        if (!isEnabled(code)) {
+            return;
+        }
+        long now = System.nanoTime();
+        String message = e.getMessage();
+        boolean published;
+        publishing.incrementAndGet();
+        try {
+            published = !closed && publish(now, code, label, message, e);
+        } finally {
+            publishing.decrementAndGet();
+        }
+        if (!published) {
+            log(now, code, label, message, e);
+        }
+    }
+
+    /**
+     * 累计丢弃的事件数
+     *
+     * @return 丢弃数
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * 缓冲区中等待处理的事件数（近似值）
+     *
+     * @return 积压事件数
+     */
+    public long getPendingCount() {
+        return buffer.size();
+    }
+
+    /**
+     * 停止后台线程，处理完积压事件后输出汇总
+     * 后台线程超时未结束时不再并发消费，剩余事件由后台线程继续输出
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(consumer);
+        if (consumer.isAlive()) {
+            try {
+                consumer.join(CLOSE_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (consumer.isAlive()) {
+            write(Level.WARN, "异常日志后台线程未在 {} 毫秒内结束，剩余约 {} 条异常日志由后台线程继续输出",
+                    CLOSE_TIMEOUT_MILLIS, buffer.size());
+        } else {
+            awaitPublishers();
+            drainAll();
+        }
+        super.close();
+    }
+
+    /**
+     * 将事件放入缓冲区，缓冲区已满时按溢出策略处理
+     *
+     * @return 需要改为同步输出时返回false
+     */
+    private boolean publish(long now, Integer code, String label, String message, Throwable e) {
+        if (buffer.offer(now, code, label, message, e)) {
+            wakeConsumer();
+            return true;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                return publishBlocking(now, code, label, message, e);
+            }
+            case DROP -> dropped.increment();
+            case COUNT -> {
+                dropped.increment();
+                unreported.incrementAndGet();
+            }
+        }
+        return true;
+    }
+
+    private boolean publishBlocking(long now, Integer code, String label, String message, Throwable e) {
+        while (!buffer.offer(now, code, label, message, e)) {
+            if (closed) {
+                return false;
+            }
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+        wakeConsumer();
+        return true;
+    }
+
+    private void wakeConsumer() {
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private void consume() {
+        while (!closed) {
+            int count = buffer.drain(eventHandler, batchSize);
+            if (unreported.get() > 0) {
+                reportDropped();
+            }
+            if (count == 0) {
+                awaitEvents();
+            }
+        }
+        awaitPublishers();
+        drainAll();
+    }
+
+    /**
+     * 缓冲区为空时挂起，直到发布者唤醒或关闭
+     * 先声明挂起再检查缓冲区，与发布者"先写入再检查挂起标记"配合，不会错过唤醒
+     */
+    private void awaitEvents() {
+        consumerParked = true;
+        try {
+            if (buffer.size() > 0) {
+                // 已领取位置但尚未写完的事件很快可读
+                Thread.onSpinWait();
+            } else if (!closed && unreported.get() == 0) {
+                LockSupport.park(this);
+            }
+        } finally {
+            consumerParked = false;
+        }
+    }
+
+    /**
+     * 等待已通过关闭检查的发布者写完事件
+     */
+    private void awaitPublishers() {
+        while (publishing.get() > 0) {
+            Thread.yield();
+        }
+    }
+
+    private void drainAll() {
+        while (buffer.drain(eventHandler, batchSize) > 0) {
+            // 处理关闭前的积压事件
+        }
+        reportDropped();
+    }
+
+    private void reportDropped() {
+        long count = unreported.getAndSet(0);
+        if (count > 0) {
+            write(Level.WARN, "异常日志缓冲区已满，已丢弃 {} 条异常日志", count);
+        }
+    }
+
+    private void onEvent(long timestamp, Integer code, Class<?> type, String label, String message, Throwable throwable) {
+        try {
+            log(timestamp, code, label, message, throwable);
+        } catch (RuntimeException ignored) {
+            // 单个事件输出失败不能终止后台线程
+        }
+    }
+}
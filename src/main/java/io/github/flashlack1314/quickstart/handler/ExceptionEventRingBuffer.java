@@ -0,0 +1,170 @@
+package io.github.flashlack1314.quickstart.handler;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 异常事件环形缓冲区
+ * 多生产者、单消费者的有界无锁队列，槽位预先分配，发布事件时不产生新对象。
+ * 每个槽位带序号：生产者通过 CAS 领取写入位置，写完字段后发布序号；
+ * 消费者按序号判断槽位是否可读，读取后清空引用并释放槽位。
+ *
+ * @author flash
+ */
+public class ExceptionEventRingBuffer {
+
+    private final Slot[] slots;
+
+    private final int mask;
+
+    /**
+     * 下一个写入位置
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 下一个读取位置，仅由消费者线程写入
+     */
+    private volatile long head;
+
+    /**
+     * 构造函数
+     *
+     * @param capacity 容量，向上取整为2的幂
+     */
+    public ExceptionEventRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot(i);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 尝试发布事件
+     *
+     * @param timestamp 事件时间（纳秒）
+     * @param code      响应错误码
+     * @param label     异常描述
+     * @param message   异常消息
+     * @param throwable 异常
+     * @return 缓冲区已满时返回false
+     */
+    public boolean offer(long timestamp, Integer code, String label, String message, Throwable throwable) {
+        while (true) {
+            long position = tail.get();
+            Slot slot = slots[(int) position & mask];
+            long diff = slot.sequence - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slot.timestamp = timestamp;
+                    slot.code = code;
+                    slot.type = throwable.getClass();
+                    slot.label = label;
+                    slot.message = message;
+                    slot.throwable = throwable;
+                    slot.sequence = position + 1;
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 消费事件，只能由单个消费者线程调用
+     *
+     * @param handler  事件处理器
+     * @param maxCount 本批次最多消费的事件数
+     * @return 实际消费的事件数
+     */
+    public int drain(EventHandler handler, int maxCount) {
+        long position = head;
+        int count = 0;
+        try {
+            while (count < maxCount) {
+                Slot slot = slots[(int) position & mask];
+                if (slot.sequence != position + 1) {
+                    break;
+                }
+                try {
+                    handler.onEvent(slot.timestamp, slot.code, slot.type, slot.label, slot.message, slot.throwable);
+                } finally {
+                    slot.code = null;
+                    slot.type = null;
+                    slot.label = null;
+                    slot.message = null;
+                    slot.throwable = null;
+                    slot.sequence = position + slots.length;
+                    position++;
+                    count++;
+                }
+            }
+        } finally {
+            head = position;
+        }
+        return count;
+    }
+
+    /**
+     * 当前积压的事件数（近似值）
+     *
+     * @return 事件数
+     */
+    public long size() {
+        return Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * 缓冲区容量
+     *
+     * @return 槽位数
+     */
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * 事件处理器
+     */
+    @FunctionalInterface
+    public interface EventHandler {
+
+        /**
+         * 处理一个异常事件
+         *
+         * @param timestamp 事件时间（纳秒）
+         * @param code      响应错误码
+         * @param type      异常类型
+         * @param label     异常描述
+         * @param message   异常消息
+         * @param throwable 异常
+         */
+        void onEvent(long timestamp, Integer code, Class<?> type, String label, String message, Throwable throwable);
+    }
+
+    /**
+     * 预分配的事件槽位，字段通过 sequence 的 volatile 写发布
+     */
+    private static final class Slot {
+
+        private volatile long sequence;
+
+        private long timestamp;
+
+        private Integer code;
+
+        private Class<?> type;
+
+        private String label;
+
+        private String message;
+
+        private Throwable throwable;
+
+        private Slot(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
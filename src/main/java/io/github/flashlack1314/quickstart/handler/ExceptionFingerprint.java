@@ -0,0 +1,63 @@
+package io.github.flashlack1314.quickstart.handler;
+
+/**
+ * 异常指纹
+ * 由异常类型、栈顶若干帧以及原因链计算出的64位哈希，用于识别重复的异常堆栈
+ *
+ * @author flash
+ */
+public final class ExceptionFingerprint {
+
+    /**
+     * 参与计算的原因链最大深度
+     */
+    private static final int MAX_CAUSE_DEPTH = 8;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ExceptionFingerprint() {
+    }
+
+    /**
+     * 计算异常指纹
+     *
+     * @param throwable 异常
+     * @param frames    每个异常参与计算的栈顶帧数
+     * @return 指纹
+     */
+    public static long of(Throwable throwable, int frames) {
+        long hash = FNV_OFFSET;
+        Throwable current = throwable;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            hash = mix(hash, current.getClass().getName().hashCode());
+            StackTraceElement[] stackTrace = current.getStackTrace();
+            int limit = Math.min(frames, stackTrace.length);
+            for (int i = 0; i < limit; i++) {
+                StackTraceElement element = stackTrace[i];
+                hash = mix(hash, element.getClassName().hashCode());
+                hash = mix(hash, element.getMethodName().hashCode());
+                hash = mix(hash, element.getLineNumber());
+            }
+            Throwable cause = current.getCause();
+            current = cause == current ? null : cause;
+        }
+        return hash;
+    }
+
+    /**
+     * 指纹的文本形式
+     *
+     * @param fingerprint 指纹
+     * @return 16位十六进制字符串
+     */
+    public static String toId(long fingerprint) {
+        String hex = Long.toHexString(fingerprint);
+        return hex.length() == 16 ? hex : "0".repeat(16 - hex.length()) + hex;
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+}
@@ -0,0 +1,275 @@
+package io.github.flashlack1314.quickstart.handler;
+
+import io.github.flashlack1314.quickstart.properties.QuickStartBootKitProperties;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 异常日志记录器
+ * 为全局异常处理器输出异常日志，按异常类型进行无锁限流：
+ * <ul>
+ *     <li>每种异常类型一个令牌桶，突发量内正常输出</li>
+ *     <li>超出限流后每N条采样输出1条</li>
+ *     <li>按固定间隔输出"已抑制N条相似异常"的汇总</li>
+ *     <li>客户端错误（4xx）与服务端错误使用各自的日志级别与堆栈策略</li>
+ *     <li>相同堆栈指纹在去重窗口内只输出一次完整堆栈，之后仅输出指纹与出现次数</li>
+ * </ul>
+ *
+ * @author flash
+ */
+public class ExceptionLogger implements AutoCloseable {
+
+    /**
+     * 发放间隔与突发容忍量的上限，保证限流桶的时间运算不溢出
+     */
+    private static final long MAX_INTERVAL_NANOS = Long.MAX_VALUE / 4;
+
+    private final Logger logger;
+
+    private final QuickStartBootKitProperties.Logging config;
+
+    /**
+     * 令牌发放间隔（纳秒）
+     */
+    private final long emissionIntervalNanos;
+
+    /**
+     * 允许的突发容忍量（纳秒）
+     */
+    private final long burstToleranceNanos;
+
+    /**
+     * 汇总输出间隔（纳秒）
+     */
+    private final long summaryIntervalNanos;
+
+    /**
+     * 异常类型到限流桶的映射
+     */
+    private final Map<Class<?>, LogBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 采样日志的附加说明
+     */
+    private final String sampleNote;
+
+    /**
+     * 堆栈指纹表，未启用去重时为null
+     */
+    private final FingerprintTable fingerprints;
+
+    /**
+     * 参与指纹计算的栈顶帧数
+     */
+    private final int fingerprintFrames;
+
+    /**
+     * 构造函数
+     *
+     * @param logger 日志输出目标
+     * @param config 日志配置
+     * @throws IllegalArgumentException permitsPerSecond 不大于0时抛出
+     */
+    public ExceptionLogger(Logger logger, QuickStartBootKitProperties.Logging config) {
+        if (!(config.getPermitsPerSecond() > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond 必须大于0: " + config.getPermitsPerSecond());
+        }
+        this.logger = logger;
+        this.config = config;
+        this.emissionIntervalNanos = Math.max(1L,
+                (long) Math.min(MAX_INTERVAL_NANOS, 1_000_000_000L / config.getPermitsPerSecond()));
+        long burst = Math.max(0, config.getBurst() - 1);
+        this.burstToleranceNanos = burst > MAX_INTERVAL_NANOS / emissionIntervalNanos
+                ? MAX_INTERVAL_NANOS
+                : emissionIntervalNanos * burst;
+        this.summaryIntervalNanos = config.getSummaryInterval().toNanos();
+        this.sampleNote = " (采样 1/" + config.getSampleRate() + ")";
+        QuickStartBootKitProperties.Dedup dedup = config.getDedup();
+        this.fingerprints = dedup.isEnabled()
+                ? new FingerprintTable(dedup.getMaxFingerprints(), dedup.getWindow().toNanos())
+                : null;
+        this.fingerprintFrames = dedup.getFrames();
+    }
+
+    /**
+     * 记录异常日志
+     *
+     * @param label 异常描述，如"业务异常"
+     * @param code  响应错误码，用于区分客户端错误与服务端错误
+     * @param e     异常
+     */
+    public void log(String label, Integer code, Throwable e) {
+        if (isEnabled(code)) {
+            log(System.nanoTime(), code, label, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 判断错误码对应类别的日志级别是否启用
+     *
+     * @param code 响应错误码
+     * @return true if the category's level is enabled
+     */
+    protected boolean isEnabled(Integer code) {
+        return logger.isEnabledForLevel(category(code).getLevel());
+    }
+
+    /**
+     * 按限流、采样与去重策略输出异常日志
+     *
+     * @param now     事件时间（纳秒）
+     * @param code    响应错误码
+     * @param label   异常描述
+     * @param message 异常消息
+     * @param e       异常
+     */
+    protected void log(long now, Integer code, String label, String message, Throwable e) {
+        QuickStartBootKitProperties.Category category = category(code);
+        Level level = category.getLevel();
+        if (!config.isRateLimit()) {
+            report(level, category.isStackTrace(), label, message, e, "");
+            return;
+        }
+
+        LogBucket bucket = bucket(e.getClass(), now);
+        if (bucket.tryAcquire(now, emissionIntervalNanos, burstToleranceNanos)) {
+            report(level, category.isStackTrace(), label, message, e, "");
+        } else {
+            long overflow = bucket.overflow.incrementAndGet();
+            int sampleRate = config.getSampleRate();
+            if (sampleRate > 0 && overflow % sampleRate == 0) {
+                report(level, category.isStackTrace(), label, message, e, sampleNote);
+            } else {
+                bucket.suppressed.incrementAndGet();
+            }
+        }
+        summarize(e.getClass(), bucket, level, now);
+    }
+
+    /**
+     * 立即输出所有被抑制日志的汇总
+     */
+    public void flushSummaries() {
+        buckets.forEach((type, bucket) -> writeSummary(type, bucket, config.getServerError().getLevel()));
+    }
+
+    /**
+     * 关闭时输出尚未汇总的抑制数量
+     */
+    @Override
+    public void close() {
+        flushSummaries();
+    }
+
+    private LogBucket bucket(Class<?> type, long now) {
+        LogBucket bucket = buckets.get(type);
+        if (bucket != null) {
+            return bucket;
+        }
+        return buckets.computeIfAbsent(type, key -> new LogBucket(now));
+    }
+
+    private void summarize(Class<?> type, LogBucket bucket, Level level, long now) {
+        long last = bucket.lastSummary.get();
+        if (now - last >= summaryIntervalNanos && bucket.lastSummary.compareAndSet(last, now)) {
+            writeSummary(type, bucket, level);
+        }
+    }
+
+    private void writeSummary(Class<?> type, LogBucket bucket, Level level) {
+        long suppressed = bucket.suppressed.getAndSet(0);
+        if (suppressed > 0) {
+            write(level, "已抑制 {} 条相似异常: {}", suppressed, type.getName());
+        }
+    }
+
+    private void report(Level level, boolean stackTrace, String label, String message, Throwable e, String note) {
+        if (!stackTrace) {
+            write(level, "{}: {}{}", label, message, note);
+            return;
+        }
+        if (fingerprints == null) {
+            write(level, "{}: {}{}", label, message, note, e);
+            return;
+        }
+        long fingerprint = ExceptionFingerprint.of(e, fingerprintFrames);
+        long occurrences = fingerprints.record(fingerprint, System.nanoTime());
+        String id = ExceptionFingerprint.toId(fingerprint);
+        if (occurrences == 1) {
+            write(level, "{}: {}{} [指纹 {}]", label, message, note, id, e);
+        } else {
+            write(level, "{}: {}{} [指纹 {}, 窗口内第 {} 次, 堆栈已省略]", label, message, note, id, occurrences);
+        }
+    }
+
+    /**
+     * 按指定级别输出日志
+     *
+     * @param level  日志级别
+     * @param format 日志格式
+     * @param args   日志参数，最后一个参数为异常时输出堆栈
+     */
+    protected void write(Level level, String format, Object... args) {
+        switch (level) {
+            case ERROR -> logger.error(format, args);
+            case WARN -> logger.warn(format, args);
+            case INFO -> logger.info(format, args);
+            case DEBUG -> logger.debug(format, args);
+            case TRACE -> logger.trace(format, args);
+        }
+    }
+
+    private QuickStartBootKitProperties.Category category(Integer code) {
+        boolean clientError = code != null && code >= 400 && code < 500;
+        return clientError ? config.getClientError() : config.getServerError();
+    }
+
+    /**
+     * 单个异常类型的限流状态
+     * 令牌桶以 GCRA 方式实现，仅用一个原子变量记录理论到达时间
+     */
+    private static final class LogBucket {
+
+        /**
+         * 理论到达时间（纳秒）
+         */
+        private final AtomicLong theoreticalArrival;
+
+        /**
+         * 超出限流的累计次数，用于采样
+         */
+        private final AtomicLong overflow = new AtomicLong();
+
+        /**
+         * 自上次汇总以来被抑制的次数
+         */
+        private final AtomicLong suppressed = new AtomicLong();
+
+        /**
+         * 上次汇总时间（纳秒）
+         */
+        private final AtomicLong lastSummary;
+
+        private LogBucket(long now) {
+            this.theoreticalArrival = new AtomicLong(now);
+            this.lastSummary = new AtomicLong(now);
+        }
+
+        private boolean tryAcquire(long now, long interval, long tolerance) {
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long base = tat - now > 0 ? tat : now;
+                if (base - now > tolerance) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(tat, base + interval)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package io.github.flashlack1314.quickstart.handler;
+
+import io.github.flashlack1314.quickstart.exception.BaseException;
+import io.github.flashlack1314.quickstart.exception.BusinessException;
+import io.github.flashlack1314.quickstart.exception.CommonErrorCode;
+import io.github.flashlack1314.quickstart.exception.ErrorCode;
+import io.github.flashlack1314.quickstart.exception.ErrorCodeRegistry;
+import io.github.flashlack1314.quickstart.exception.ParameterException;
+import io.github.flashlack1314.quickstart.exception.SystemException;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 异常转换器
+ * 将异常转换为 {@link ResultVO} 错误响应，不依赖 Spring MVC，
+ * 可在消息消费者、定时任务等非 MVC 场景复用与全局异常处理器相同的映射规则。
+ * <p>
+ * 按异常类型沿父类链查找最具体的映射，每种异常类型只查找一次，结果缓存在 {@link ClassValue} 中。
+ * 映射应在启动阶段注册，注册会使已缓存的查找结果失效。
+ *
+ * @author flash
+ */
+public class ExceptionTranslator {
+
+    /**
+     * 已注册的映射，注册时整体替换
+     */
+    private volatile Map<Class<?>, Translation> mappings = Map.of();
+
+    /**
+     * 异常类型到最具体映射的缓存，注册时整体替换
+     */
+    private volatile ClassValue<Translation> resolved = resolver(mappings);
+
+    /**
+     * 构造函数
+     * 注册内置的异常映射
+     */
+    public ExceptionTranslator() {
+        register(Throwable.class, "系统异常", CommonErrorCode.SYSTEM_ERROR);
+        register(Exception.class, "系统异常", CommonErrorCode.SYSTEM_ERROR);
+        register(RuntimeException.class, "运行时异常", CommonErrorCode.INTERNAL_ERROR);
+        register(BaseException.class, "基础异常", ExceptionTranslator::toResult);
+        register(BusinessException.class, "业务异常", ExceptionTranslator::toResult);
+        register(ParameterException.class, "参数异常", ExceptionTranslator::toResult);
+        register(SystemException.class, "系统异常", ExceptionTranslator::toResult);
+        register(NullPointerException.class, "空指针异常", CommonErrorCode.NULL_POINTER);
+        register(IllegalArgumentException.class, "非法参数异常",
+                e -> withDetail(CommonErrorCode.BAD_REQUEST, e));
+        register(ClassNotFoundException.class, "类未找到异常", CommonErrorCode.CONFIGURATION_ERROR);
+        register(ArithmeticException.class, "算术异常",
+                e -> withDetail(CommonErrorCode.ARITHMETIC_ERROR, e));
+        register(ArrayIndexOutOfBoundsException.class, "数组越界异常", CommonErrorCode.INDEX_OUT_OF_BOUNDS);
+        register(ClassCastException.class, "类型转换异常", CommonErrorCode.CLASS_CAST_ERROR);
+        register(NumberFormatException.class, "数字格式异常", CommonErrorCode.NUMBER_FORMAT_ERROR);
+    }
+
+    /**
+     * 注册异常映射，已存在的同类型映射会被覆盖
+     *
+     * @param type   异常类型
+     * @param label  异常描述，用于日志
+     * @param mapper 异常到错误响应的转换函数
+     * @param <E>    异常类型
+     * @return 当前转换器
+     */
+    public <E extends Throwable> ExceptionTranslator register(Class<E> type, String label,
+                                                              Function<? super E, ResultVO<Void>> mapper) {
+        Map<Class<?>, Translation> copy = new HashMap<>(mappings);
+        copy.put(type, new Translation(label, e -> mapper.apply(type.cast(e))));
+        Map<Class<?>, Translation> snapshot = Map.copyOf(copy);
+        mappings = snapshot;
+        resolved = resolver(snapshot);
+        return this;
+    }
+
+    /**
+     * 注册映射到固定错误码的异常，转换时直接复用缓存的不可变响应
+     *
+     * @param type      异常类型
+     * @param label     异常描述，用于日志
+     * @param errorCode 错误码
+     * @return 当前转换器
+     */
+    public ExceptionTranslator register(Class<? extends Throwable> type, String label, ErrorCode errorCode) {
+        ResultVO<Void> response = ErrorCodeRegistry.response(errorCode);
+        return register(type, label, e -> response);
+    }
+
+    /**
+     * 转换异常为错误响应
+     *
+     * @param e 异常
+     * @return 错误响应
+     */
+    public ResultVO<Void> translate(Throwable e) {
+        return resolve(e.getClass()).apply(e);
+    }
+
+    /**
+     * 查找异常类型对应的最具体映射
+     *
+     * @param type 异常类型
+     * @return 映射
+     */
+    public Translation resolve(Class<? extends Throwable> type) {
+        return resolved.get(type);
+    }
+
+    private static ClassValue<Translation> resolver(Map<Class<?>, Translation> mappings) {
+        return new ClassValue<>() {
+            @Override
+            protected Translation computeValue(Class<?> type) {
+                for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                    Translation translation = mappings.get(current);
+                    if (translation != null) {
+                        return translation;
+                    }
+                }
+                return Translation.FALLBACK;
+            }
+        };
+    }
+
+    /**
+     * 将基础异常转换为错误响应
+     * 由错误码构造且消息未被覆盖的异常直接复用缓存的不可变响应
+     *
+     * @param e 基础异常
+     * @return 错误响应
+     */
+    private static ResultVO<Void> toResult(BaseException e) {
+        if (e.hasStaticMessage()) {
+            return ErrorCodeRegistry.response(e.getErrorCode());
+        }
+        return ResultVO.error(e.getCode(), e.getMessage());
+    }
+
+    private static ResultVO<Void> withDetail(ErrorCode errorCode, Throwable e) {
+        return ResultVO.error(errorCode.getCode(), errorCode.getMessage() + ": " + e.getMessage());
+    }
+
+    /**
+     * 异常映射
+     */
+    public static final class Translation {
+
+        /**
+         * 未匹配任何映射时使用
+         */
+        static final Translation FALLBACK = new Translation("系统异常",
+                e -> ErrorCodeRegistry.response(CommonErrorCode.SYSTEM_ERROR));
+
+        private final String label;
+
+        private final Function<Throwable, ResultVO<Void>> mapper;
+
+        private Translation(String label, Function<Throwable, ResultVO<Void>> mapper) {
+            this.label = label;
+            this.mapper = mapper;
+        }
+
+        /**
+         * 异常描述
+         *
+         * @return 描述
+         */
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * 转换异常为错误响应
+         *
+         * @param e 异常
+         * @return 错误响应
+         */
+        public ResultVO<Void> apply(Throwable e) {
+            return mapper.apply(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.flashlack1314.quickstart.handler;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 异常指纹表
+ * 固定容量的直接映射表，统计每个指纹在窗口内的出现次数；
+ * 槽位冲突或窗口过期时直接替换旧条目，因此内存占用有上界且无需加锁
+ *
+ * @author flash
+ */
+public class FingerprintTable {
+
+    private final AtomicReferenceArray<Entry> slots;
+
+    private final int mask;
+
+    private final long windowNanos;
+
+    /**
+     * 构造函数
+     *
+     * @param capacity    容量，向上取整为2的幂
+     * @param windowNanos 去重窗口（纳秒）
+     */
+    public FingerprintTable(int capacity, long windowNanos) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.windowNanos = windowNanos;
+    }
+
+    /**
+     * 记录一次指纹出现
+     *
+     * @param fingerprint 指纹
+     * @param now         当前时间（纳秒）
+     * @return 指纹在当前窗口内的出现次数，1表示首次出现
+     */
+    public long record(long fingerprint, long now) {
+        int index = (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+        while (true) {
+            Entry entry = slots.get(index);
+            if (entry != null && entry.fingerprint == fingerprint && now - entry.windowStart < windowNanos) {
+                return entry.count.incrementAndGet();
+            }
+            if (slots.compareAndSet(index, entry, new Entry(fingerprint, now))) {
+                return 1;
+            }
+        }
+    }
+
+    /**
+     * 表容量
+     *
+     * @return 槽位数
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * 指纹条目
+     */
+    private static final class Entry {
+
+        private final long fingerprint;
+
+        private final long windowStart;
+
+        private final AtomicLong count = new AtomicLong(1);
+
+        private Entry(long fingerprint, long windowStart) {
+            this.fingerprint = fingerprint;
+            this.windowStart = windowStart;
+        }
+    }
+}
@@ -2,12 +2,14 @@ package io.github.flashlack1314.quickstart.handler;
 
 import io.github.flashlack1314.quickstart.exception.BaseException;
 import io.github.flashlack1314.quickstart.exception.BusinessException;
+import io.github.flashlack1314.quickstart.exception.CommonErrorCode;
 import io.github.flashlack1314.quickstart.exception.ParameterException;
 import io.github.flashlack1314.quickstart.exception.SystemException;
+import io.github.flashlack1314.quickstart.metrics.ExceptionMetrics;
+import io.github.flashlack1314.quickstart.properties.QuickStartBootKitProperties;
 import io.github.flashlack1314.quickstart.vo.ResultVO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -17,7 +19,8 @@ import java.util.Map;
 
 /**
  * 全局异常处理器
- * 统一异常捕获和处理，自动转换为ResultVO格式
+ * 统一异常捕获和处理，自动转换为ResultVO格式；
+ * 异常到响应的映射由 {@link ExceptionTranslator} 完成，可在非 MVC 场景复用
  *
  * @author flash
  */
@@ -27,6 +30,79 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    /**
+     * 异常日志记录器
+     */
+    private final ExceptionLogger exceptionLogger;
+
+    /**
+     * 异常统计
+     */
+    private final ExceptionMetrics exceptionMetrics;
+
+    /**
+     * 异常转换器
+     */
+    private final ExceptionTranslator exceptionTranslator;
+
+    /**
+     * 构造函数（默认日志配置）
+     */
+    public GlobalExceptionHandler() {
+        this(new ExceptionLogger(logger, new QuickStartBootKitProperties.Logging()));
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param exceptionLogger 异常日志记录器
+     */
+    public GlobalExceptionHandler(ExceptionLogger exceptionLogger) {
+        this(exceptionLogger, new ExceptionMetrics());
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param exceptionLogger  异常日志记录器
+     * @param exceptionMetrics 异常统计
+     */
+    public GlobalExceptionHandler(ExceptionLogger exceptionLogger, ExceptionMetrics exceptionMetrics) {
+        this(exceptionLogger, exceptionMetrics, new ExceptionTranslator());
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param exceptionLogger     异常日志记录器
+     * @param exceptionMetrics    异常统计
+     * @param exceptionTranslator 异常转换器
+     */
+    public GlobalExceptionHandler(ExceptionLogger exceptionLogger, ExceptionMetrics exceptionMetrics,
+                                  ExceptionTranslator exceptionTranslator) {
+        this.exceptionLogger = exceptionLogger;
+        this.exceptionMetrics = exceptionMetrics;
+        this.exceptionTranslator = exceptionTranslator;
+    }
+
+    /**
+     * 获取异常统计
+     *
+     * @return 异常统计
+     */
+    public ExceptionMetrics getExceptionMetrics() {
+        return exceptionMetrics;
+    }
+
+    /**
+     * 获取异常转换器
+     *
+     * @return 异常转换器
+     */
+    public ExceptionTranslator getExceptionTranslator() {
+        return exceptionTranslator;
+    }
+
     /**
      * 处理基础异常
      *
@@ -35,8 +111,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(BaseException.class)
     public ResultVO<Void> handleBaseException(BaseException e) {
-        logger.error("基础异常: {}", e.getMessage(), e);
-        return ResultVO.error(e.getCode(), e.getMessage());
+        return translate(e);
     }
 
     /**
@@ -47,8 +122,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(BusinessException.class)
     public ResultVO<Void> handleBusinessException(BusinessException e) {
-        logger.error("业务异常: {}", e.getMessage(), e);
-        return ResultVO.error(e.getCode(), e.getMessage());
+        return translate(e);
     }
 
     /**
@@ -59,8 +133,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ParameterException.class)
     public ResultVO<Void> handleParameterException(ParameterException e) {
-        logger.error("参数异常: {}", e.getMessage(), e);
-        return ResultVO.error(e.getCode(), e.getMessage());
+        return translate(e);
     }
 
     /**
@@ -71,8 +144,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(SystemException.class)
     public ResultVO<Void> handleSystemException(SystemException e) {
-        logger.error("系统异常: {}", e.getMessage(), e);
-        return ResultVO.error(e.getCode(), e.getMessage());
+        return translate(e);
     }
 
     /**
@@ -83,8 +155,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(RuntimeException.class)
     public ResultVO<Void> handleRuntimeException(RuntimeException e) {
-        logger.error("运行时异常: {}", e.getMessage(), e);
-        return ResultVO.error(500, "系统内部错误");
+        return translate(e);
     }
 
     /**
@@ -95,8 +166,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResultVO<Void> handleException(Exception e) {
-        logger.error("系统异常: {}", e.getMessage(), e);
-        return ResultVO.error(500, "系统异常，请联系管理员");
+        return translate(e);
     }
 
     /**
@@ -107,8 +177,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(NullPointerException.class)
     public ResultVO<Void> handleNullPointerException(NullPointerException e) {
-        logger.error("空指针异常: {}", e.getMessage(), e);
-        return ResultVO.error(500, "系统内部错误 - 空指针异常");
+        return translate(e);
     }
 
     /**
@@ -119,8 +188,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(IllegalArgumentException.class)
     public ResultVO<Void> handleIllegalArgumentException(IllegalArgumentException e) {
-        logger.error("非法参数异常: {}", e.getMessage(), e);
-        return ResultVO.error(400, "参数错误: " + e.getMessage());
+        return translate(e);
     }
 
     /**
@@ -131,8 +199,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ClassNotFoundException.class)
     public ResultVO<Void> handleClassNotFoundException(ClassNotFoundException e) {
-        logger.error("类未找到异常: {}", e.getMessage(), e);
-        return ResultVO.error(500, "系统配置错误");
+        return translate(e);
     }
 
     /**
@@ -143,8 +210,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ArithmeticException.class)
     public ResultVO<Void> handleArithmeticException(ArithmeticException e) {
-        logger.error("算术异常: {}", e.getMessage(), e);
-        return ResultVO.error(400, "计算错误: " + e.getMessage());
+        return translate(e);
     }
 
     /**
@@ -155,8 +221,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ArrayIndexOutOfBoundsException.class)
     public ResultVO<Void> handleArrayIndexOutOfBoundsException(ArrayIndexOutOfBoundsException e) {
-        logger.error("数组越界异常: {}", e.getMessage(), e);
-        return ResultVO.error(400, "数据访问越界");
+        return translate(e);
     }
 
     /**
@@ -167,8 +232,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ClassCastException.class)
     public ResultVO<Void> handleClassCastException(ClassCastException e) {
-        logger.error("类型转换异常: {}", e.getMessage(), e);
-        return ResultVO.error(500, "数据类型转换错误");
+        return translate(e);
     }
 
     /**
@@ -179,8 +243,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(NumberFormatException.class)
     public ResultVO<Void> handleNumberFormatException(NumberFormatException e) {
-        logger.error("数字格式异常: {}", e.getMessage(), e);
-        return ResultVO.error(400, "数字格式错误");
+        return translate(e);
     }
 
     /**
@@ -196,6 +259,20 @@ public class GlobalExceptionHandler {
         errorData.put("errors", errors);
         errorData.put("errorCount", errors.size());
 
-        return ResultVO.<Map<String, Object>>error(400, "批量参数校验失败").setData(errorData);
+        return ResultVO.<Map<String, Object>>error(CommonErrorCode.BATCH_VALIDATION_ERROR).setData(errorData);
+    }
+
+    /**
+     * 转换异常并记录日志与统计
+     *
+     * @param e 异常
+     * @return ResultVO格式的错误响应
+     */
+    private ResultVO<Void> translate(Throwable e) {
+        ExceptionTranslator.Translation translation = exceptionTranslator.resolve(e.getClass());
+        ResultVO<Void> result = translation.apply(e);
+        exceptionMetrics.record(e.getClass(), result.getCode());
+        exceptionLogger.log(translation.getLabel(), result.getCode(), e);
+        return result;
     }
-}
\ No newline at end of file
+}
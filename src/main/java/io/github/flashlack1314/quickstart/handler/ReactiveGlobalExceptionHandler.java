@@ -0,0 +1,95 @@
+package io.github.flashlack1314.quickstart.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.flashlack1314.quickstart.metrics.ExceptionMetrics;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import io.github.flashlack1314.quickstart.web.PreSerializedResponses;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+/**
+ * 响应式全局异常处理器
+ * WebFlux 应用中与 {@link GlobalExceptionHandler} 使用相同的异常映射，
+ * 将 {@link ResultVO} 序列化后直接写入响应的 {@link DataBuffer}，不阻塞事件循环线程。
+ * <p>
+ * {@link ResponseStatusException}（如404）交由框架默认处理，以保留原有的HTTP状态语义。
+ *
+ * @author flash
+ */
+public class ReactiveGlobalExceptionHandler implements WebExceptionHandler, Ordered {
+
+    /**
+     * 排在 Spring Boot 默认的 ErrorWebExceptionHandler（-1）之前
+     */
+    public static final int ORDER = -2;
+
+    private final ExceptionTranslator exceptionTranslator;
+
+    private final ExceptionLogger exceptionLogger;
+
+    private final ExceptionMetrics exceptionMetrics;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 固定错误码响应的预编码字节
+     */
+    private final PreSerializedResponses preSerializedResponses;
+
+    /**
+     * 构造函数
+     *
+     * @param exceptionTranslator 异常转换器
+     * @param exceptionLogger     异常日志记录器
+     * @param exceptionMetrics    异常统计
+     * @param objectMapper        JSON序列化器
+     */
+    public ReactiveGlobalExceptionHandler(ExceptionTranslator exceptionTranslator, ExceptionLogger exceptionLogger,
+                                          ExceptionMetrics exceptionMetrics, ObjectMapper objectMapper) {
+        this.exceptionTranslator = exceptionTranslator;
+        this.exceptionLogger = exceptionLogger;
+        this.exceptionMetrics = exceptionMetrics;
+        this.objectMapper = objectMapper;
+        this.preSerializedResponses = new PreSerializedResponses(objectMapper);
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted() || ex instanceof ResponseStatusException) {
+            return Mono.error(ex);
+        }
+
+        ExceptionTranslator.Translation translation = exceptionTranslator.resolve(ex.getClass());
+        ResultVO<Void> result = translation.apply(ex);
+        exceptionMetrics.record(ex.getClass(), result.getCode());
+        exceptionLogger.log(translation.getLabel(), result.getCode(), ex);
+
+        byte[] body = preSerializedResponses.lookup(result);
+        if (body == null) {
+            try {
+                body = objectMapper.writeValueAsBytes(result);
+            } catch (JsonProcessingException e) {
+                return Mono.error(ex);
+            }
+        }
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.length);
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
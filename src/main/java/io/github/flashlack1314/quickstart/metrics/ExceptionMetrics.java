@@ -0,0 +1,147 @@
+package io.github.flashlack1314.quickstart.metrics;
+
+import javax.management.ObjectName;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 异常统计
+ * 按异常类型与响应错误码统计全局异常处理器处理的异常次数及1分钟、5分钟速率；
+ * 已出现过的类型与错误码在记录时只做一次 map 查找和若干 {@link java.util.concurrent.atomic.LongAdder} 累加，不产生新对象
+ *
+ * @author flash
+ */
+public class ExceptionMetrics implements ExceptionMetricsMXBean, AutoCloseable {
+
+    private final RateCounter total = new RateCounter();
+
+    private final Map<Class<?>, RateCounter> byType = new ConcurrentHashMap<>();
+
+    private final Map<Integer, RateCounter> byCode = new ConcurrentHashMap<>();
+
+    private volatile ObjectName objectName;
+
+    /**
+     * 记录一次异常
+     *
+     * @param type 异常类型
+     * @param code 响应错误码，可为null
+     */
+    public void record(Class<?> type, Integer code) {
+        total.increment();
+        counter(byType, type).increment();
+        if (code != null) {
+            counter(byCode, code).increment();
+        }
+    }
+
+    /**
+     * 获取异常类型的统计
+     *
+     * @param type 异常类型
+     * @return 统计，未出现过时返回null
+     */
+    public RateCounter forType(Class<?> type) {
+        return byType.get(type);
+    }
+
+    /**
+     * 获取响应错误码的统计
+     *
+     * @param code 响应错误码
+     * @return 统计，未出现过时返回null
+     */
+    public RateCounter forCode(Integer code) {
+        return byCode.get(code);
+    }
+
+    /**
+     * 注册到平台 MBeanServer
+     */
+    public void registerMBean() {
+        if (objectName == null) {
+            objectName = JmxExporter.register(this, "ExceptionMetrics");
+        }
+    }
+
+    /**
+     * 从平台 MBeanServer 注销
+     */
+    @Override
+    public void close() {
+        JmxExporter.unregister(objectName);
+        objectName = null;
+    }
+
+    @Override
+    public long getTotalCount() {
+        return total.getCount();
+    }
+
+    @Override
+    public double getOneMinuteRate() {
+        return total.getOneMinuteRate();
+    }
+
+    @Override
+    public double getFiveMinuteRate() {
+        return total.getFiveMinuteRate();
+    }
+
+    @Override
+    public Map<String, Long> getCountsByType() {
+        return collectLong(byType, RateCounter::getCount);
+    }
+
+    @Override
+    public Map<String, Long> getCountsByCode() {
+        return collectLong(byCode, RateCounter::getCount);
+    }
+
+    @Override
+    public Map<String, Double> getOneMinuteRatesByType() {
+        return collectDouble(byType, RateCounter::getOneMinuteRate);
+    }
+
+    @Override
+    public Map<String, Double> getOneMinuteRatesByCode() {
+        return collectDouble(byCode, RateCounter::getOneMinuteRate);
+    }
+
+    @Override
+    public Map<String, Double> getFiveMinuteRatesByType() {
+        return collectDouble(byType, RateCounter::getFiveMinuteRate);
+    }
+
+    @Override
+    public Map<String, Double> getFiveMinuteRatesByCode() {
+        return collectDouble(byCode, RateCounter::getFiveMinuteRate);
+    }
+
+    private static <K> RateCounter counter(Map<K, RateCounter> counters, K key) {
+        RateCounter counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        return counters.computeIfAbsent(key, k -> new RateCounter());
+    }
+
+    private static <K> Map<String, Long> collectLong(Map<K, RateCounter> counters, ToLongFunction<RateCounter> value) {
+        Map<String, Long> result = new TreeMap<>();
+        counters.forEach((key, counter) -> result.put(keyName(key), value.applyAsLong(counter)));
+        return result;
+    }
+
+    private static <K> Map<String, Double> collectDouble(Map<K, RateCounter> counters, ToDoubleFunction<RateCounter> value) {
+        Map<String, Double> result = new TreeMap<>();
+        counters.forEach((key, counter) -> result.put(keyName(key), value.applyAsDouble(counter)));
+        return result;
+    }
+
+    private static String keyName(Object key) {
+        return key instanceof Class<?> type ? type.getName() : String.valueOf(key);
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.flashlack1314.quickstart.metrics;
+
+import java.util.Map;
+
+/**
+ * 异常统计 JMX 接口
+ *
+ * @author flash
+ */
+public interface ExceptionMetricsMXBean {
+
+    /**
+     * 处理的异常总数
+     *
+     * @return 总数
+     */
+    long getTotalCount();
+
+    /**
+     * 全部异常的1分钟移动平均速率
+     *
+     * @return 每秒次数
+     */
+    double getOneMinuteRate();
+
+    /**
+     * 全部异常的5分钟移动平均速率
+     *
+     * @return 每秒次数
+     */
+    double getFiveMinuteRate();
+
+    /**
+     * 按异常类型统计的次数
+     *
+     * @return 异常类名到次数的映射
+     */
+    Map<String, Long> getCountsByType();
+
+    /**
+     * 按响应错误码统计的次数
+     *
+     * @return 错误码到次数的映射
+     */
+    Map<String, Long> getCountsByCode();
+
+    /**
+     * 按异常类型统计的1分钟移动平均速率
+     *
+     * @return 异常类名到速率的映射
+     */
+    Map<String, Double> getOneMinuteRatesByType();
+
+    /**
+     * 按响应错误码统计的1分钟移动平均速率
+     *
+     * @return 错误码到速率的映射
+     */
+    Map<String, Double> getOneMinuteRatesByCode();
+
+    /**
+     * 按异常类型统计的5分钟移动平均速率
+     *
+     * @return 异常类名到速率的映射
+     */
+    Map<String, Double> getFiveMinuteRatesByType();
+
+    /**
+     * 按响应错误码统计的5分钟移动平均速率
+     *
+     * @return 错误码到速率的映射
+     */
+    Map<String, Double> getFiveMinuteRatesByCode();
+}
@@ -0,0 +1,67 @@
+package io.github.flashlack1314.quickstart.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * JMX 注册工具
+ * 将统计对象注册到平台 MBeanServer，不依赖 Spring 的 JMX 支持
+ *
+ * @author flash
+ */
+public final class JmxExporter {
+
+    /**
+     * ObjectName 的域名
+     */
+    public static final String DOMAIN = "io.github.flashlack1314.quickstart";
+
+    private static final Logger logger = LoggerFactory.getLogger(JmxExporter.class);
+
+    private JmxExporter() {
+    }
+
+    /**
+     * 注册 MBean，同名 MBean 已存在时跳过
+     *
+     * @param mbean MBean实例
+     * @param type  ObjectName 中的 type 属性
+     * @return 注册成功返回ObjectName，否则返回null
+     */
+    public static ObjectName register(Object mbean, String type) {
+        try {
+            ObjectName name = new ObjectName(DOMAIN + ":type=" + type);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean(mbean, name);
+            return name;
+        } catch (InstanceAlreadyExistsException e) {
+            logger.debug("MBean已存在，跳过注册: {}", type);
+            return null;
+        } catch (JMException e) {
+            logger.warn("MBean注册失败: {}", type, e);
+            return null;
+        }
+    }
+
+    /**
+     * 注销 MBean
+     *
+     * @param name ObjectName，为null时忽略
+     */
+    public static void unregister(ObjectName name) {
+        if (name == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            logger.debug("MBean注销失败: {}", name, e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.flashlack1314.quickstart.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 无锁延迟直方图
+ * 采用与 HdrHistogram 相同的对数-线性分桶：0~63 纳秒每纳秒一个桶，之后每个2的幂区间均分为32个桶，
+ * 相对误差约3%，桶数固定为 {@value #BUCKET_COUNT}，可记录的最大值约18分钟，超出按最大值记录。
+ * <p>
+ * 记录只做原子累加，不加锁、不产生新对象；快照在读取时计算，与并发记录之间只保证近似一致。
+ *
+ * @author flash
+ */
+public final class LatencyHistogram {
+
+    /**
+     * 可记录的最大值（纳秒）
+     */
+    public static final long MAX_VALUE = (1L << 40) - 1;
+
+    /**
+     * 每个2的幂区间的子桶数（2^5）
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * 线性区间的桶数，小于该值的延迟每纳秒一个桶
+     */
+    private static final int LINEAR_BUCKETS = SUB_BUCKET_COUNT << 1;
+
+    /**
+     * 桶总数
+     */
+    static final int BUCKET_COUNT = 1152;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder sum = new LongAdder();
+
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 记录一次延迟
+     *
+     * @param nanos 延迟（纳秒），负数按0记录
+     */
+    public void record(long nanos) {
+        long value = nanos < 0 ? 0 : Math.min(nanos, MAX_VALUE);
+        counts.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * 记录次数
+     *
+     * @return 次数
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 计算当前分布的快照
+     *
+     * @return 快照
+     */
+    public LatencySnapshot snapshot() {
+        long[] buckets = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = counts.get(i);
+            total += buckets[i];
+        }
+        long maxValue = max.get();
+        double mean = total == 0 ? 0 : (double) sum.sum() / count.sum();
+        return new LatencySnapshot(total, mean, maxValue,
+                percentile(buckets, total, 0.5, maxValue),
+                percentile(buckets, total, 0.9, maxValue),
+                percentile(buckets, total, 0.99, maxValue),
+                percentile(buckets, total, 0.999, maxValue));
+    }
+
+    /**
+     * 分位数对应的桶上界，不超过已记录的最大值
+     */
+    private static long percentile(long[] buckets, long total, double quantile, long maxValue) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * 延迟值所在的桶
+     *
+     * @param value 延迟（纳秒），0 ~ {@link #MAX_VALUE}
+     * @return 桶下标
+     */
+    static int index(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    /**
+     * 桶内的最大值
+     *
+     * @param index 桶下标
+     * @return 最大值（纳秒）
+     */
+    static long highestEquivalentValue(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int offset = index - LINEAR_BUCKETS;
+        int shift = offset / SUB_BUCKET_COUNT + 1;
+        long lowest = (long) (SUB_BUCKET_COUNT + offset % SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
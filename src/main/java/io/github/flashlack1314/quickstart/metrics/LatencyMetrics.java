@@ -0,0 +1,303 @@
+package io.github.flashlack1314.quickstart.metrics;
+
+import javax.management.ObjectName;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 接口延迟统计
+ * 按处理方法统计请求延迟分布，并在每个接口下按响应错误码分别统计；
+ * 已出现过的接口与错误码在记录时只做两次 map 查找、一次错误码数组扫描和若干原子累加，不加锁、不产生新对象
+ * <p>
+ * 接口名为"全限定类名#方法名(参数类型)"，类名取处理器的实际类型而不是声明方法的类：
+ * 不同包下的同名控制器、同一类中的重载方法分别统计，继承自公共父类的方法按子类分别统计；
+ * 每个接口最多单独统计 {@value #MAX_CODES_PER_ENDPOINT} 个错误码，
+ * 超出的错误码只计入接口的整体分布
+ *
+ * @author flash
+ */
+public class LatencyMetrics implements LatencyMetricsMXBean, AutoCloseable {
+
+    /**
+     * 每个接口单独统计的错误码上限
+     */
+    public static final int MAX_CODES_PER_ENDPOINT = 32;
+
+    /**
+     * 处理器类型到其处理方法与接口统计映射的映射
+     */
+    private final Map<Class<?>, Map<Method, Endpoint>> byHandler = new ConcurrentHashMap<>();
+
+    /**
+     * 接口名到接口统计的映射
+     */
+    private final Map<String, Endpoint> byName = new ConcurrentHashMap<>();
+
+    private volatile ObjectName objectName;
+
+    /**
+     * 记录一次请求，处理器类型为声明方法的类
+     *
+     * @param method 处理方法
+     * @param code   响应错误码
+     * @param nanos  延迟（纳秒）
+     */
+    public void record(Method method, int code, long nanos) {
+        record(method.getDeclaringClass(), method, code, nanos);
+    }
+
+    /**
+     * 记录一次请求
+     *
+     * @param handlerType 处理器的实际类型，方法继承自父类时为子类
+     * @param method      处理方法
+     * @param code        响应错误码
+     * @param nanos       延迟（纳秒）
+     */
+    public void record(Class<?> handlerType, Method method, int code, long nanos) {
+        Map<Method, Endpoint> methods = byHandler.get(handlerType);
+        if (methods == null) {
+            methods = byHandler.computeIfAbsent(handlerType, key -> new ConcurrentHashMap<>());
+        }
+        Endpoint endpoint = methods.get(method);
+        if (endpoint == null) {
+            endpoint = methods.computeIfAbsent(method, key -> endpoint(endpointName(handlerType, key)));
+        }
+        endpoint.record(code, nanos);
+    }
+
+    /**
+     * 记录一次请求
+     *
+     * @param name  接口名
+     * @param code  响应错误码
+     * @param nanos 延迟（纳秒）
+     */
+    public void record(String name, int code, long nanos) {
+        endpoint(name).record(code, nanos);
+    }
+
+    /**
+     * 获取接口的延迟分布
+     *
+     * @param name 接口名，格式为"全限定类名#方法名(参数类型)"
+     * @return 快照，未出现过时返回null
+     */
+    public LatencySnapshot snapshot(String name) {
+        Endpoint endpoint = byName.get(name);
+        return endpoint == null ? null : endpoint.all.snapshot();
+    }
+
+    /**
+     * 获取接口在指定错误码下的延迟分布
+     *
+     * @param name 接口名，格式为"全限定类名#方法名(参数类型)"
+     * @param code 响应错误码
+     * @return 快照，未出现过或未单独统计时返回null
+     */
+    public LatencySnapshot snapshot(String name, int code) {
+        Endpoint endpoint = byName.get(name);
+        if (endpoint == null) {
+            return null;
+        }
+        LatencyHistogram histogram = endpoint.codes.get().find(code);
+        return histogram == null ? null : histogram.snapshot();
+    }
+
+    /**
+     * 获取全部接口的延迟分布
+     *
+     * @return 接口名到快照的映射
+     */
+    public Map<String, LatencySnapshot> snapshots() {
+        Map<String, LatencySnapshot> result = new TreeMap<>();
+        byName.forEach((name, endpoint) -> result.put(name, endpoint.all.snapshot()));
+        return result;
+    }
+
+    /**
+     * 获取全部接口按错误码的延迟分布
+     *
+     * @return "接口名 [错误码]"到快照的映射
+     */
+    public Map<String, LatencySnapshot> snapshotsByCode() {
+        Map<String, LatencySnapshot> result = new TreeMap<>();
+        byName.forEach((name, endpoint) -> {
+            CodeTable table = endpoint.codes.get();
+            for (int i = 0; i < table.codes.length; i++) {
+                result.put(name + " [" + table.codes[i] + "]", table.histograms[i].snapshot());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 注册到平台 MBeanServer
+     */
+    public void registerMBean() {
+        if (objectName == null) {
+            objectName = JmxExporter.register(this, "LatencyMetrics");
+        }
+    }
+
+    /**
+     * 从平台 MBeanServer 注销
+     */
+    @Override
+    public void close() {
+        JmxExporter.unregister(objectName);
+        objectName = null;
+    }
+
+    @Override
+    public Map<String, Long> getCounts() {
+        return collectLong(snapshots(), LatencySnapshot::getCount);
+    }
+
+    @Override
+    public Map<String, Double> getP50Millis() {
+        return collectMillis(snapshots(), LatencySnapshot::getP50);
+    }
+
+    @Override
+    public Map<String, Double> getP99Millis() {
+        return collectMillis(snapshots(), LatencySnapshot::getP99);
+    }
+
+    @Override
+    public Map<String, Double> getP999Millis() {
+        return collectMillis(snapshots(), LatencySnapshot::getP999);
+    }
+
+    @Override
+    public Map<String, Double> getMaxMillis() {
+        return collectMillis(snapshots(), LatencySnapshot::getMax);
+    }
+
+    @Override
+    public Map<String, Long> getCountsByCode() {
+        return collectLong(snapshotsByCode(), LatencySnapshot::getCount);
+    }
+
+    @Override
+    public Map<String, Double> getP50MillisByCode() {
+        return collectMillis(snapshotsByCode(), LatencySnapshot::getP50);
+    }
+
+    @Override
+    public Map<String, Double> getP99MillisByCode() {
+        return collectMillis(snapshotsByCode(), LatencySnapshot::getP99);
+    }
+
+    @Override
+    public Map<String, Double> getP999MillisByCode() {
+        return collectMillis(snapshotsByCode(), LatencySnapshot::getP999);
+    }
+
+    private Endpoint endpoint(String name) {
+        Endpoint endpoint = byName.get(name);
+        if (endpoint != null) {
+            return endpoint;
+        }
+        return byName.computeIfAbsent(name, key -> new Endpoint());
+    }
+
+    private static String endpointName(Class<?> handlerType, Method method) {
+        StringJoiner parameters = new StringJoiner(",", "(", ")");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            parameters.add(parameterType.getTypeName());
+        }
+        return handlerType.getName() + "#" + method.getName() + parameters;
+    }
+
+    private static Map<String, Long> collectLong(Map<String, LatencySnapshot> snapshots,
+                                                 ToLongFunction<LatencySnapshot> value) {
+        Map<String, Long> result = new TreeMap<>();
+        snapshots.forEach((name, snapshot) -> result.put(name, value.applyAsLong(snapshot)));
+        return result;
+    }
+
+    private static Map<String, Double> collectMillis(Map<String, LatencySnapshot> snapshots,
+                                                     ToDoubleFunction<LatencySnapshot> nanos) {
+        Map<String, Double> result = new TreeMap<>();
+        snapshots.forEach((name, snapshot) -> result.put(name, LatencySnapshot.toMillis(nanos.applyAsDouble(snapshot))));
+        return result;
+    }
+
+    /**
+     * 单个接口的统计
+     */
+    private static final class Endpoint {
+
+        private final LatencyHistogram all = new LatencyHistogram();
+
+        /**
+         * 错误码表，新增错误码时通过 CAS 整体替换
+         */
+        private final AtomicReference<CodeTable> codes = new AtomicReference<>(CodeTable.EMPTY);
+
+        private void record(int code, long nanos) {
+            all.record(nanos);
+            LatencyHistogram histogram = histogram(code);
+            if (histogram != null) {
+                histogram.record(nanos);
+            }
+        }
+
+        private LatencyHistogram histogram(int code) {
+            while (true) {
+                CodeTable table = codes.get();
+                LatencyHistogram histogram = table.find(code);
+                if (histogram != null || table.codes.length >= MAX_CODES_PER_ENDPOINT) {
+                    return histogram;
+                }
+                LatencyHistogram created = new LatencyHistogram();
+                if (codes.compareAndSet(table, table.with(code, created))) {
+                    return created;
+                }
+            }
+        }
+    }
+
+    /**
+     * 不可变的错误码表，错误码与直方图按下标一一对应
+     */
+    private static final class CodeTable {
+
+        private static final CodeTable EMPTY = new CodeTable(new int[0], new LatencyHistogram[0]);
+
+        private final int[] codes;
+
+        private final LatencyHistogram[] histograms;
+
+        private CodeTable(int[] codes, LatencyHistogram[] histograms) {
+            this.codes = codes;
+            this.histograms = histograms;
+        }
+
+        private LatencyHistogram find(int code) {
+            for (int i = 0; i < codes.length; i++) {
+                if (codes[i] == code) {
+                    return histograms[i];
+                }
+            }
+            return null;
+        }
+
+        private CodeTable with(int code, LatencyHistogram histogram) {
+            int length = codes.length;
+            int[] newCodes = Arrays.copyOf(codes, length + 1);
+            LatencyHistogram[] newHistograms = Arrays.copyOf(histograms, length + 1);
+            newCodes[length] = code;
+            newHistograms[length] = histogram;
+            return new CodeTable(newCodes, newHistograms);
+        }
+    }
+}
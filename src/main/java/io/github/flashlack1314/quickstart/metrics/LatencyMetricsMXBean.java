@@ -0,0 +1,75 @@
+package io.github.flashlack1314.quickstart.metrics;
+
+import java.util.Map;
+
+/**
+ * 接口延迟统计 JMX 接口
+ * 接口名为"全限定类名#方法名(参数类型)"，按错误码统计的键为"接口名 [错误码]"
+ *
+ * @author flash
+ */
+public interface LatencyMetricsMXBean {
+
+    /**
+     * 按接口统计的请求次数
+     *
+     * @return 接口名到次数的映射
+     */
+    Map<String, Long> getCounts();
+
+    /**
+     * 按接口统计的50分位延迟
+     *
+     * @return 接口名到毫秒数的映射
+     */
+    Map<String, Double> getP50Millis();
+
+    /**
+     * 按接口统计的99分位延迟
+     *
+     * @return 接口名到毫秒数的映射
+     */
+    Map<String, Double> getP99Millis();
+
+    /**
+     * 按接口统计的99.9分位延迟
+     *
+     * @return 接口名到毫秒数的映射
+     */
+    Map<String, Double> getP999Millis();
+
+    /**
+     * 按接口统计的最大延迟
+     *
+     * @return 接口名到毫秒数的映射
+     */
+    Map<String, Double> getMaxMillis();
+
+    /**
+     * 按接口与错误码统计的请求次数
+     *
+     * @return 接口名与错误码到次数的映射
+     */
+    Map<String, Long> getCountsByCode();
+
+    /**
+     * 按接口与错误码统计的50分位延迟
+     *
+     * @return 接口名与错误码到毫秒数的映射
+     */
+    Map<String, Double> getP50MillisByCode();
+
+    /**
+     * 按接口与错误码统计的99分位延迟
+     *
+     * @return 接口名与错误码到毫秒数的映射
+     */
+    Map<String, Double> getP99MillisByCode();
+
+    /**
+     * 按接口与错误码统计的99.9分位延迟
+     *
+     * @return 接口名与错误码到毫秒数的映射
+     */
+    Map<String, Double> getP999MillisByCode();
+}
@@ -0,0 +1,115 @@
+package io.github.flashlack1314.quickstart.metrics;
+
+/**
+ * 延迟分布快照
+ * 分位数为所在桶的上界（纳秒），相对误差约3%
+ *
+ * @author flash
+ */
+public final class LatencySnapshot {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long count;
+
+    private final double mean;
+
+    private final long max;
+
+    private final long p50;
+
+    private final long p90;
+
+    private final long p99;
+
+    private final long p999;
+
+    LatencySnapshot(long count, double mean, long max, long p50, long p90, long p99, long p999) {
+        this.count = count;
+        this.mean = mean;
+        this.max = max;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.p999 = p999;
+    }
+
+    /**
+     * 记录次数
+     *
+     * @return 次数
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 平均延迟（纳秒）
+     *
+     * @return 平均值
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * 最大延迟（纳秒）
+     *
+     * @return 最大值
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * 50分位延迟（纳秒）
+     *
+     * @return p50
+     */
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * 90分位延迟（纳秒）
+     *
+     * @return p90
+     */
+    public long getP90() {
+        return p90;
+    }
+
+    /**
+     * 99分位延迟（纳秒）
+     *
+     * @return p99
+     */
+    public long getP99() {
+        return p99;
+    }
+
+    /**
+     * 99.9分位延迟（纳秒）
+     *
+     * @return p999
+     */
+    public long getP999() {
+        return p999;
+    }
+
+    /**
+     * 纳秒转换为毫秒
+     *
+     * @param nanos 纳秒
+     * @return 毫秒
+     */
+    public static double toMillis(double nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%.3fms, p50=%.3fms, p90=%.3fms, p99=%.3fms, p999=%.3fms, max=%.3fms",
+                count, toMillis(mean), toMillis(p50), toMillis(p90), toMillis(p99), toMillis(p999), toMillis(max));
+    }
+}
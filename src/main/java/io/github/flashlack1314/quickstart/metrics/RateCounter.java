@@ -0,0 +1,135 @@
+package io.github.flashlack1314.quickstart.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 计数与速率统计
+ * 以分段的 {@link LongAdder} 计数，并按5秒间隔维护1分钟、5分钟指数加权移动平均速率；
+ * 计数路径无锁且不产生新对象，速率在计数或读取时由抢到 CAS 的线程顺带更新
+ *
+ * @author flash
+ */
+public final class RateCounter {
+
+    /**
+     * 速率更新间隔
+     */
+    private static final long TICK_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private static final double TICK_SECONDS = 5.0;
+
+    private static final double ONE_MINUTE_ALPHA = 1 - Math.exp(-TICK_SECONDS / 60.0);
+
+    private static final double FIVE_MINUTE_ALPHA = 1 - Math.exp(-TICK_SECONDS / 300.0);
+
+    /**
+     * 累计次数
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * 自上次速率更新以来的次数
+     */
+    private final LongAdder uncounted = new LongAdder();
+
+    /**
+     * 上次速率更新时间（纳秒）
+     */
+    private final AtomicLong lastTick;
+
+    private volatile double oneMinuteRate;
+
+    private volatile double fiveMinuteRate;
+
+    private volatile boolean initialized;
+
+    RateCounter() {
+        this(System.nanoTime());
+    }
+
+    RateCounter(long now) {
+        this.lastTick = new AtomicLong(now);
+    }
+
+    /**
+     * 计数加一
+     */
+    void increment() {
+        tickIfNecessary(System.nanoTime());
+        count.increment();
+        uncounted.increment();
+    }
+
+    /**
+     * 累计次数
+     *
+     * @return 次数
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 1分钟移动平均速率
+     *
+     * @return 每秒次数
+     */
+    public double getOneMinuteRate() {
+        tickIfNecessary(System.nanoTime());
+        return oneMinuteRate;
+    }
+
+    /**
+     * 5分钟移动平均速率
+     *
+     * @return 每秒次数
+     */
+    public double getFiveMinuteRate() {
+        tickIfNecessary(System.nanoTime());
+        return fiveMinuteRate;
+    }
+
+    /**
+     * 按当前时间推进速率，供测试指定时间
+     *
+     * @param now 当前时间（纳秒）
+     */
+    void tickIfNecessary(long now) {
+        long last = lastTick.get();
+        long age = now - last;
+        if (age < TICK_NANOS) {
+            return;
+        }
+        long ticks = age / TICK_NANOS;
+        if (lastTick.compareAndSet(last, last + ticks * TICK_NANOS)) {
+            tick();
+            if (ticks > 1) {
+                decay(ticks - 1);
+            }
+        }
+    }
+
+    /**
+     * 空闲区间内瞬时速率为0，每个间隔速率乘以 (1 - alpha)，按闭式一次计算，长时间空闲后也只做常数次运算
+     *
+     * @param idleTicks 空闲的间隔数
+     */
+    private void decay(long idleTicks) {
+        oneMinuteRate *= Math.pow(1 - ONE_MINUTE_ALPHA, idleTicks);
+        fiveMinuteRate *= Math.pow(1 - FIVE_MINUTE_ALPHA, idleTicks);
+    }
+
+    private void tick() {
+        double instantRate = uncounted.sumThenReset() / TICK_SECONDS;
+        if (initialized) {
+            oneMinuteRate += ONE_MINUTE_ALPHA * (instantRate - oneMinuteRate);
+            fiveMinuteRate += FIVE_MINUTE_ALPHA * (instantRate - fiveMinuteRate);
+        } else {
+            oneMinuteRate = instantRate;
+            fiveMinuteRate = instantRate;
+            initialized = true;
+        }
+    }
+}
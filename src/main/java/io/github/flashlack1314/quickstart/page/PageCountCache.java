@@ -0,0 +1,311 @@
+package io.github.flashlack1314.quickstart.page;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 分页总数缓存
+ * 同一筛选条件翻页时复用总数，避免每一页都执行相同的 COUNT 查询：
+ * <ul>
+ *     <li>按规范化的查询键缓存，超过 TTL 后重新统计</li>
+ *     <li>同一键并发未命中时只执行一次统计，其余请求等待同一结果</li>
+ *     <li>超过容量时由单个线程批量淘汰最久未访问的条目（近似 LRU），读取不加锁</li>
+ *     <li>支持按键前缀失效，如数据变更后失效某张表的全部总数</li>
+ * </ul>
+ *
+ * @author flash
+ * @see io.github.flashlack1314.quickstart.vo.PageVO#query
+ */
+public class PageCountCache {
+
+    /**
+     * 淘汰后保留的容量比例
+     */
+    private static final double RETAIN_RATIO = 0.9;
+
+    private final long ttlNanos;
+
+    private final int maxSize;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 是否有线程正在执行淘汰
+     */
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 构造函数
+     *
+     * @param ttl     总数有效期
+     * @param maxSize 最大条目数
+     */
+    public PageCountCache(Duration ttl, int maxSize) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = Math.max(1, maxSize);
+    }
+
+    /**
+     * 生成查询键
+     * 筛选条件按名称排序，值为null的条件被忽略，条件顺序不同的相同查询得到相同的键；
+     * 条件名与值中的 {@code %}、{@code &}、{@code =} 会被百分号转义，不同的条件组合不会得到相同的键
+     *
+     * @param namespace 查询名称，建议以表名或业务名开头以便按前缀失效
+     * @param filters   筛选条件
+     * @return 查询键
+     */
+    public static String key(String namespace, Map<String, ?> filters) {
+        StringBuilder key = new StringBuilder(namespace);
+        if (filters == null || filters.isEmpty()) {
+            return key.toString();
+        }
+        char separator = '?';
+        for (Map.Entry<String, ?> filter : new TreeMap<>(filters).entrySet()) {
+            if (filter.getValue() == null) {
+                continue;
+            }
+            key.append(separator);
+            escape(key, filter.getKey());
+            key.append('=');
+            escape(key, String.valueOf(filter.getValue()));
+            separator = '&';
+        }
+        return key.toString();
+    }
+
+    private static void escape(StringBuilder key, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '%' -> key.append("%25");
+                case '&' -> key.append("%26");
+                case '=' -> key.append("%3D");
+                default -> key.append(c);
+            }
+        }
+    }
+
+    /**
+     * 获取总数，未命中或已过期时执行统计
+     *
+     * @param key        查询键
+     * @param countQuery 总数查询
+     * @return 总数
+     */
+    public long count(String key, Supplier<Long> countQuery) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.isExpired(now)) {
+            entry.lastAccess = now;
+            hits.increment();
+            return entry.await();
+        }
+
+        Entry created = new Entry(now);
+        while (true) {
+            Entry existing = entry == null ? entries.putIfAbsent(key, created) : replace(key, entry, created);
+            if (existing == null) {
+                break;
+            }
+            if (!existing.isExpired(now)) {
+                existing.lastAccess = now;
+                hits.increment();
+                return existing.await();
+            }
+            entry = existing;
+        }
+
+        misses.increment();
+        if (entries.size() > maxSize) {
+            evict();
+        }
+        try {
+            Long total = countQuery.get();
+            long value = total != null ? total : 0L;
+            created.complete(value, System.nanoTime() + ttlNanos);
+            return value;
+        } catch (Throwable e) {
+            // Error 或被隐式抛出的受检异常同样要结束条目，否则等待中的请求会永久阻塞
+            entries.remove(key, created);
+            created.fail(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 包装总数查询，供 {@link io.github.flashlack1314.quickstart.vo.PageVO#query} 等接受总数查询的工厂方法使用
+     *
+     * @param key        查询键
+     * @param countQuery 总数查询
+     * @return 经过缓存的总数查询
+     */
+    public Supplier<Long> counter(String key, Supplier<Long> countQuery) {
+        return () -> count(key, countQuery);
+    }
+
+    /**
+     * 失效指定查询键
+     *
+     * @param key 查询键
+     */
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 失效指定前缀的全部查询键
+     *
+     * @param prefix 键前缀
+     * @return 失效的条目数
+     */
+    public int invalidatePrefix(String prefix) {
+        int removed = 0;
+        for (String key : entries.keySet()) {
+            if (key.startsWith(prefix) && entries.remove(key) != null) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 失效全部条目
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * 当前条目数
+     *
+     * @return 条目数
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 命中次数
+     *
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 未命中次数
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    private Entry replace(String key, Entry expired, Entry created) {
+        if (entries.replace(key, expired, created)) {
+            return null;
+        }
+        return entries.putIfAbsent(key, created);
+    }
+
+    /**
+     * 清理过期条目，仍超过容量时淘汰最久未访问的条目；同一时间只有一个线程执行
+     */
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            List<Map.Entry<String, Entry>> candidates = new ArrayList<>(entries.size());
+            for (Map.Entry<String, Entry> mapping : entries.entrySet()) {
+                Entry entry = mapping.getValue();
+                if (entry.isExpired(now)) {
+                    entries.remove(mapping.getKey(), entry);
+                } else if (entry.isDone()) {
+                    candidates.add(mapping);
+                }
+            }
+            int excess = entries.size() - (int) (maxSize * RETAIN_RATIO);
+            if (excess <= 0) {
+                return;
+            }
+            candidates.sort(Comparator.comparingLong(mapping -> mapping.getValue().lastAccess));
+            for (int i = 0; i < excess && i < candidates.size(); i++) {
+                Map.Entry<String, Entry> mapping = candidates.get(i);
+                entries.remove(mapping.getKey(), mapping.getValue());
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * 缓存条目，统计完成前其他请求等待同一结果
+     */
+    private static final class Entry {
+
+        private final CompletableFuture<Long> value = new CompletableFuture<>();
+
+        /**
+         * 过期时间（纳秒），统计完成前为 Long.MAX_VALUE
+         */
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        /**
+         * 最近访问时间（纳秒），仅用于淘汰排序，允许并发覆盖
+         */
+        private volatile long lastAccess;
+
+        private Entry(long now) {
+            this.lastAccess = now;
+        }
+
+        private boolean isDone() {
+            return value.isDone();
+        }
+
+        private boolean isExpired(long now) {
+            long deadline = expiresAt;
+            return deadline != Long.MAX_VALUE && now - deadline >= 0;
+        }
+
+        private void complete(long total, long expiresAt) {
+            this.expiresAt = expiresAt;
+            value.complete(total);
+        }
+
+        private void fail(Throwable e) {
+            value.completeExceptionally(e);
+        }
+
+        private long await() {
+            try {
+                return value.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
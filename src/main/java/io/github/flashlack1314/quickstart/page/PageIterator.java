@@ -0,0 +1,275 @@
+package io.github.flashlack1314.quickstart.page;
+
+import io.github.flashlack1314.quickstart.vo.CountMode;
+import io.github.flashlack1314.quickstart.vo.PageVO;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 预取分页迭代器
+ * 按页码依次遍历分页查询的全部页面，调用方处理当前页时，后续 readAhead 页已在执行器上并发查询。
+ * <p>
+ * 页面总数已知（EXACT）时不会查询超出范围的页码；总数未知或为估算值时按需预取，
+ * 读到最后一页（{@link PageVO#isLastPage()} 或空页）后取消其余预取。
+ * 迭代器不是线程安全的，使用结束后应调用 {@link #close()} 取消未完成的查询；
+ * 通过 {@link #stream()} 使用时关闭 Stream 即可。
+ *
+ * @param <T> 记录类型
+ * @author flash
+ */
+public class PageIterator<T> implements Iterator<PageVO<T>>, AutoCloseable {
+
+    /**
+     * 默认预取页数
+     */
+    public static final int DEFAULT_READ_AHEAD = 2;
+
+    private final PageFetcher<T> fetcher;
+
+    private final long size;
+
+    private final int readAhead;
+
+    private final ExecutorService executor;
+
+    /**
+     * 执行器是否由迭代器创建，关闭时一并关闭
+     */
+    private final boolean ownsExecutor;
+
+    /**
+     * 已提交、尚未消费的页面查询，按页码排列
+     */
+    private final Deque<Future<PageVO<T>>> pending = new ArrayDeque<>();
+
+    /**
+     * 下一个待提交的页码
+     */
+    private long nextPage = 1;
+
+    /**
+     * 已知的最后页码
+     */
+    private long lastPage = Long.MAX_VALUE;
+
+    /**
+     * hasNext 已取出、尚未返回的页面
+     */
+    private PageVO<T> peeked;
+
+    private boolean closed;
+
+    /**
+     * 构造函数
+     * 使用默认预取页数，每个查询在一个虚拟线程上执行
+     *
+     * @param fetcher 分页查询
+     * @param size    每页大小
+     */
+    public PageIterator(PageFetcher<T> fetcher, long size) {
+        this(fetcher, size, DEFAULT_READ_AHEAD, Executors.newVirtualThreadPerTaskExecutor(), true);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param fetcher   分页查询
+     * @param size      每页大小
+     * @param readAhead 当前页之外最多预取的页数，0表示不预取
+     * @param executor  执行查询的执行器，迭代器关闭时不会关闭该执行器
+     */
+    public PageIterator(PageFetcher<T> fetcher, long size, int readAhead, ExecutorService executor) {
+        this(fetcher, size, readAhead, executor, false);
+    }
+
+    private PageIterator(PageFetcher<T> fetcher, long size, int readAhead, ExecutorService executor,
+                         boolean ownsExecutor) {
+        this.fetcher = fetcher;
+        this.size = size;
+        this.readAhead = Math.max(0, readAhead);
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * 以记录流的形式遍历全部页面，关闭流时取消未完成的查询
+     *
+     * @param fetcher 分页查询
+     * @param size    每页大小
+     * @param <T>     记录类型
+     * @return 记录流
+     */
+    public static <T> Stream<T> stream(PageFetcher<T> fetcher, long size) {
+        return new PageIterator<>(fetcher, size).stream();
+    }
+
+    /**
+     * 立即提交预取窗口内的查询，不等待结果
+     * 同时遍历多个迭代器时，先对每个迭代器调用本方法可使各自的首页查询并发执行
+     */
+    public void prefetch() {
+        if (!closed) {
+            schedule();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (peeked != null) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        schedule();
+        Future<PageVO<T>> head = pending.pollFirst();
+        if (head == null) {
+            return false;
+        }
+        PageVO<T> page = await(head);
+        long current = page.getCurrent() != null ? page.getCurrent() : nextPage - pending.size() - 1;
+        if (page.getCountMode() == CountMode.EXACT && page.getPages() != null) {
+            lastPage = Math.min(lastPage, page.getPages());
+        }
+        if (page.isEmpty()) {
+            finish(current - 1);
+            return false;
+        }
+        if (page.isLastPage()) {
+            finish(current);
+        }
+        peeked = page;
+        return true;
+    }
+
+    @Override
+    public PageVO<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        PageVO<T> page = peeked;
+        peeked = null;
+        return page;
+    }
+
+    /**
+     * 以记录流的形式遍历剩余页面，关闭流时关闭迭代器
+     *
+     * @return 记录流
+     */
+    public Stream<T> stream() {
+        Iterator<T> records = new Iterator<>() {
+
+            private Iterator<T> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext()) {
+                    if (!PageIterator.this.hasNext()) {
+                        return false;
+                    }
+                    current = PageIterator.this.next().getRecords().iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * 取消未完成的查询，可重复调用
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        peeked = null;
+        cancelPending();
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 补足预取窗口
+     */
+    private void schedule() {
+        while (pending.size() <= readAhead && nextPage <= lastPage) {
+            long current = nextPage++;
+            pending.addLast(executor.submit(() -> fetcher.fetch(current, size)));
+        }
+    }
+
+    /**
+     * 已读到最后一页，取消多余的预取
+     */
+    private void finish(long last) {
+        lastPage = Math.min(lastPage, Math.max(0, last));
+        cancelPending();
+        nextPage = lastPage + 1;
+    }
+
+    private void cancelPending() {
+        Future<PageVO<T>> future;
+        while ((future = pending.pollFirst()) != null) {
+            future.cancel(true);
+        }
+    }
+
+    private PageVO<T> await(Future<PageVO<T>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new IllegalStateException("分页读取被中断", e);
+        } catch (ExecutionException e) {
+            close();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("分页查询失败", e.getCause());
+        }
+    }
+
+    /**
+     * 分页查询
+     *
+     * @param <T> 记录类型
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+
+        /**
+         * 查询指定页
+         *
+         * @param current 页码，从1开始
+         * @param size    每页大小
+         * @return 分页结果
+         */
+        PageVO<T> fetch(long current, long size);
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.flashlack1314.quickstart.page;
+
+import io.github.flashlack1314.quickstart.vo.CountMode;
+import io.github.flashlack1314.quickstart.vo.PageVO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 分片分页合并器
+ * 并发查询多个分片，各分片返回按同一排序规则排好序的分页结果，通过 k 路堆合并得到全局分页。
+ * <p>
+ * 全局第 current 页只依赖每个分片的前 current*size 条记录；各分片按批次读取，
+ * 合并消费到哪里才继续读取哪个分片，读取量约为 (current*size) + 分片数*批次大小，不需要加载分片的全部数据。
+ * 所有分片的总数均为精确值时，全局总数为各分片总数之和；否则按 SKIP 模式只给出是否有下一页。
+ *
+ * @param <T> 记录类型
+ * @author flash
+ */
+public class ShardedPageMerger<T> {
+
+    /**
+     * 默认的单次分片查询最大记录数
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+    private final List<PageIterator.PageFetcher<T>> shards;
+
+    private final Comparator<? super T> comparator;
+
+    private final ExecutorService executor;
+
+    private final int maxBatchSize;
+
+    /**
+     * 构造函数
+     * 每次合并在虚拟线程上查询分片
+     *
+     * @param shards     各分片的分页查询，结果须按 comparator 排序
+     * @param comparator 排序规则
+     */
+    public ShardedPageMerger(List<PageIterator.PageFetcher<T>> shards, Comparator<? super T> comparator) {
+        this(shards, comparator, null, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param shards       各分片的分页查询，结果须按 comparator 排序
+     * @param comparator   排序规则
+     * @param executor     执行分片查询的执行器，为null时每次合并使用新的虚拟线程执行器
+     * @param maxBatchSize 单次分片查询最大记录数
+     */
+    public ShardedPageMerger(List<PageIterator.PageFetcher<T>> shards, Comparator<? super T> comparator,
+                             ExecutorService executor, int maxBatchSize) {
+        this.shards = List.copyOf(shards);
+        this.comparator = comparator;
+        this.executor = executor;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    /**
+     * 查询全局分页
+     *
+     * @param current 页码
+     * @param size    每页大小
+     * @return 全局分页结果
+     */
+    public PageVO<T> page(Long current, Long size) {
+        long page = current != null && current > 0 ? current : 1L;
+        long pageSize = size != null && size > 0 ? size : 10L;
+        long offset = PageVO.offset(page, pageSize);
+        long window = offset > Long.MAX_VALUE - pageSize ? Long.MAX_VALUE : offset + pageSize;
+        long batchSize = Math.max(1, Math.min(window, Math.max(pageSize, maxBatchSize)));
+
+        ExecutorService shardExecutor = executor != null ? executor : Executors.newVirtualThreadPerTaskExecutor();
+        List<PageIterator<T>> iterators = new ArrayList<>(shards.size());
+        try {
+            for (PageIterator.PageFetcher<T> shard : shards) {
+                PageIterator<T> iterator = new PageIterator<>(shard, batchSize, 0, shardExecutor);
+                iterator.prefetch();
+                iterators.add(iterator);
+            }
+
+            PriorityQueue<ShardCursor<T>> heap = new PriorityQueue<>(Math.max(1, shards.size()));
+            Long total = 0L;
+            for (int i = 0; i < iterators.size(); i++) {
+                PageIterator<T> iterator = iterators.get(i);
+                if (!iterator.hasNext()) {
+                    continue;
+                }
+                PageVO<T> first = iterator.next();
+                if (total != null && first.getCountMode() == CountMode.EXACT && first.getTotal() != null) {
+                    total += first.getTotal();
+                } else {
+                    total = null;
+                }
+                ShardCursor<T> cursor = new ShardCursor<>(i, comparator, first.getRecords().iterator(), iterator);
+                if (cursor.advance()) {
+                    heap.add(cursor);
+                }
+            }
+
+            if (total != null && offset >= total) {
+                // 起始位置超出总数，不必归并读取各分片的数据
+                return PageVO.of(new ArrayList<>(), total, page, pageSize);
+            }
+
+            List<T> rows = new ArrayList<>((int) Math.min(pageSize + 1, Integer.MAX_VALUE));
+            long position = 0;
+            while (!heap.isEmpty() && rows.size() <= pageSize) {
+                ShardCursor<T> cursor = heap.poll();
+                if (position++ >= offset) {
+                    rows.add(cursor.head);
+                }
+                if (cursor.advance()) {
+                    heap.add(cursor);
+                }
+            }
+
+            if (total != null) {
+                List<T> records = rows.size() > pageSize ? rows.subList(0, (int) pageSize) : rows;
+                return PageVO.of(records, total, page, pageSize);
+            }
+            return PageVO.withoutTotal(rows, page, pageSize);
+        } finally {
+            iterators.forEach(PageIterator::close);
+            if (executor == null) {
+                shardExecutor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * 单个分片的合并位置
+     */
+    private static final class ShardCursor<T> implements Comparable<ShardCursor<T>> {
+
+        private final int shard;
+
+        private final Comparator<? super T> comparator;
+
+        private final PageIterator<T> pages;
+
+        private Iterator<T> records;
+
+        private T head;
+
+        private ShardCursor(int shard, Comparator<? super T> comparator, Iterator<T> records, PageIterator<T> pages) {
+            this.shard = shard;
+            this.comparator = comparator;
+            this.records = records;
+            this.pages = pages;
+        }
+
+        /**
+         * 移动到分片的下一条记录，当前批次读完时读取下一批
+         *
+         * @return 分片没有更多记录时返回false
+         */
+        private boolean advance() {
+            while (!records.hasNext()) {
+                if (!pages.hasNext()) {
+                    records = Collections.emptyIterator();
+                    head = null;
+                    return false;
+                }
+                records = pages.next().getRecords().iterator();
+            }
+            head = records.next();
+            return true;
+        }
+
+        @Override
+        public int compareTo(ShardCursor<T> other) {
+            int result = comparator.compare(head, other.head);
+            return result != 0 ? result : Integer.compare(shard, other.shard);
+        }
+    }
+}
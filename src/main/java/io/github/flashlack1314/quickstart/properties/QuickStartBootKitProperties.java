@@ -1,7 +1,12 @@
 package io.github.flashlack1314.quickstart.properties;
 
+import org.slf4j.event.Level;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * QuickStart Boot Kit 配置属性
  *
@@ -16,9 +21,55 @@ public class QuickStartBootKitProperties {
     private boolean exceptionHandler = true;
 
     /**
-     * 是否启用响应格式统一
+     * 是否启用响应格式统一，将控制器返回的原始结果自动包装为 ResultVO
+     * 启用后会改变未返回 ResultVO 的接口的响应结构，默认关闭，需要显式开启
+     */
+    private boolean responseFormat = false;
+
+    /**
+     * 响应格式统一不包装的控制器包（含子包），Spring 自身的控制器始终不包装
+     */
+    private List<String> responseFormatExcludePackages = new ArrayList<>(List.of("org.springdoc", "springfox"));
+
+    /**
+     * 是否预序列化常量响应（如 ResultVO.success() 与固定错误码响应）
+     */
+    private boolean preSerializedResponses = true;
+
+    /**
+     * 异常相关配置
+     */
+    private ExceptionConfig exception = new ExceptionConfig();
+
+    /**
+     * 异常日志配置
+     */
+    private Logging logging = new Logging();
+
+    /**
+     * 统计配置
      */
-    private boolean responseFormat = true;
+    private Metrics metrics = new Metrics();
+
+    /**
+     * 流式响应配置
+     */
+    private Streaming streaming = new Streaming();
+
+    /**
+     * 分页配置
+     */
+    private Page page = new Page();
+
+    /**
+     * 批量导出配置
+     */
+    private Export export = new Export();
+
+    /**
+     * 虚拟线程配置
+     */
+    private VirtualThreads virtualThreads = new VirtualThreads();
 
     public boolean isExceptionHandler() {
         return exceptionHandler;
@@ -35,4 +86,687 @@ public class QuickStartBootKitProperties {
     public void setResponseFormat(boolean responseFormat) {
         this.responseFormat = responseFormat;
     }
-}
\ No newline at end of file
+
+    public List<String> getResponseFormatExcludePackages() {
+        return responseFormatExcludePackages;
+    }
+
+    public void setResponseFormatExcludePackages(List<String> responseFormatExcludePackages) {
+        this.responseFormatExcludePackages = responseFormatExcludePackages;
+    }
+
+    public boolean isPreSerializedResponses() {
+        return preSerializedResponses;
+    }
+
+    public void setPreSerializedResponses(boolean preSerializedResponses) {
+        this.preSerializedResponses = preSerializedResponses;
+    }
+
+    public ExceptionConfig getException() {
+        return exception;
+    }
+
+    public void setException(ExceptionConfig exception) {
+        this.exception = exception;
+    }
+
+    public Logging getLogging() {
+        return logging;
+    }
+
+    public void setLogging(Logging logging) {
+        this.logging = logging;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public Streaming getStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(Streaming streaming) {
+        this.streaming = streaming;
+    }
+
+    public Page getPage() {
+        return page;
+    }
+
+    public void setPage(Page page) {
+        this.page = page;
+    }
+
+    public Export getExport() {
+        return export;
+    }
+
+    public void setExport(Export export) {
+        this.export = export;
+    }
+
+    public VirtualThreads getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(VirtualThreads virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * 异常配置
+     */
+    public static class ExceptionConfig {
+
+        /**
+         * 按异常类别控制是否采集堆栈
+         */
+        private StackTrace stackTrace = new StackTrace();
+
+        public StackTrace getStackTrace() {
+            return stackTrace;
+        }
+
+        public void setStackTrace(StackTrace stackTrace) {
+            this.stackTrace = stackTrace;
+        }
+    }
+
+    /**
+     * 异常堆栈配置
+     */
+    public static class StackTrace {
+
+        /**
+         * 业务异常是否采集堆栈
+         */
+        private boolean business = false;
+
+        /**
+         * 参数异常是否采集堆栈
+         */
+        private boolean parameter = false;
+
+        /**
+         * 系统异常是否采集堆栈
+         */
+        private boolean system = true;
+
+        public boolean isBusiness() {
+            return business;
+        }
+
+        public void setBusiness(boolean business) {
+            this.business = business;
+        }
+
+        public boolean isParameter() {
+            return parameter;
+        }
+
+        public void setParameter(boolean parameter) {
+            this.parameter = parameter;
+        }
+
+        public boolean isSystem() {
+            return system;
+        }
+
+        public void setSystem(boolean system) {
+            this.system = system;
+        }
+    }
+
+    /**
+     * 分页配置
+     */
+    public static class Page {
+
+        /**
+         * 分页总数缓存配置
+         */
+        private CountCache countCache = new CountCache();
+
+        public CountCache getCountCache() {
+            return countCache;
+        }
+
+        public void setCountCache(CountCache countCache) {
+            this.countCache = countCache;
+        }
+    }
+
+    /**
+     * 批量导出配置
+     */
+    public static class Export {
+
+        /**
+         * 每次查询的记录数
+         */
+        private long pageSize = 1000;
+
+        /**
+         * 写出当前页时最多预取的页数，0表示不预取
+         */
+        private int readAhead = 1;
+
+        /**
+         * 每输出多少条记录刷新一次输出流
+         */
+        private int flushInterval = 1000;
+
+        public long getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(long pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        public int getReadAhead() {
+            return readAhead;
+        }
+
+        public void setReadAhead(int readAhead) {
+            this.readAhead = readAhead;
+        }
+
+        public int getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(int flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+    }
+
+    /**
+     * 虚拟线程配置
+     */
+    public static class VirtualThreads {
+
+        /**
+         * 是否使用虚拟线程处理 Tomcat 请求、@Async 任务与定时任务
+         */
+        private boolean enabled = false;
+
+        /**
+         * 载体线程钉住检测配置
+         */
+        private PinningDetector pinningDetector = new PinningDetector();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public PinningDetector getPinningDetector() {
+            return pinningDetector;
+        }
+
+        public void setPinningDetector(PinningDetector pinningDetector) {
+            this.pinningDetector = pinningDetector;
+        }
+    }
+
+    /**
+     * 载体线程钉住检测配置
+     */
+    public static class PinningDetector {
+
+        /**
+         * 是否启用钉住检测
+         */
+        private boolean enabled = true;
+
+        /**
+         * 钉住时间超过该阈值时报告
+         */
+        private Duration threshold = Duration.ofMillis(20);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(Duration threshold) {
+            this.threshold = threshold;
+        }
+    }
+
+    /**
+     * 分页总数缓存配置
+     */
+    public static class CountCache {
+
+        /**
+         * 是否启用分页总数缓存
+         */
+        private boolean enabled = true;
+
+        /**
+         * 总数有效期
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /**
+         * 最大缓存条目数
+         */
+        private int maxSize = 10_000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+
+    /**
+     * 流式响应配置
+     */
+    public static class Streaming {
+
+        /**
+         * 每输出多少条数据刷新一次输出流
+         */
+        private int flushInterval = 256;
+
+        public int getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(int flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+    }
+
+    /**
+     * 统计配置
+     */
+    public static class Metrics {
+
+        /**
+         * 是否将统计注册为 JMX MBean
+         */
+        private boolean jmx = true;
+
+        /**
+         * 接口延迟统计配置
+         */
+        private Latency latency = new Latency();
+
+        public boolean isJmx() {
+            return jmx;
+        }
+
+        public void setJmx(boolean jmx) {
+            this.jmx = jmx;
+        }
+
+        public Latency getLatency() {
+            return latency;
+        }
+
+        public void setLatency(Latency latency) {
+            this.latency = latency;
+        }
+    }
+
+    /**
+     * 接口延迟统计配置
+     */
+    public static class Latency {
+
+        /**
+         * 是否按处理方法与错误码统计 Spring MVC 请求延迟
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * 异常日志配置
+     * 按异常类型限流，超出突发量后按 1/N 采样输出，并定期输出被抑制的数量
+     */
+    public static class Logging {
+
+        /**
+         * 是否按异常类型限流
+         */
+        private boolean rateLimit = true;
+
+        /**
+         * 每种异常类型每秒允许输出的日志条数
+         */
+        private double permitsPerSecond = 10;
+
+        /**
+         * 每种异常类型允许的突发日志条数
+         */
+        private int burst = 20;
+
+        /**
+         * 超出限流后每N条输出1条，0表示不采样
+         */
+        private int sampleRate = 100;
+
+        /**
+         * 被抑制日志的汇总输出间隔
+         */
+        private Duration summaryInterval = Duration.ofMinutes(1);
+
+        /**
+         * 客户端错误（4xx）日志配置
+         */
+        private Category clientError = new Category(Level.WARN, false);
+
+        /**
+         * 服务端错误日志配置
+         */
+        private Category serverError = new Category(Level.ERROR, true);
+
+        /**
+         * 堆栈指纹去重配置
+         */
+        private Dedup dedup = new Dedup();
+
+        /**
+         * 异步日志配置
+         */
+        private Async async = new Async();
+
+        public boolean isRateLimit() {
+            return rateLimit;
+        }
+
+        public void setRateLimit(boolean rateLimit) {
+            this.rateLimit = rateLimit;
+        }
+
+        public double getPermitsPerSecond() {
+            return permitsPerSecond;
+        }
+
+        public void setPermitsPerSecond(double permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public int getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(int sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public Duration getSummaryInterval() {
+            return summaryInterval;
+        }
+
+        public void setSummaryInterval(Duration summaryInterval) {
+            this.summaryInterval = summaryInterval;
+        }
+
+        public Category getClientError() {
+            return clientError;
+        }
+
+        public void setClientError(Category clientError) {
+            this.clientError = clientError;
+        }
+
+        public Category getServerError() {
+            return serverError;
+        }
+
+        public void setServerError(Category serverError) {
+            this.serverError = serverError;
+        }
+
+        public Dedup getDedup() {
+            return dedup;
+        }
+
+        public void setDedup(Dedup dedup) {
+            this.dedup = dedup;
+        }
+
+        public Async getAsync() {
+            return async;
+        }
+
+        public void setAsync(Async async) {
+            this.async = async;
+        }
+    }
+
+    /**
+     * 异步日志配置
+     * 请求线程只向环形缓冲区发布异常事件，由后台线程批量格式化并输出
+     */
+    public static class Async {
+
+        /**
+         * 是否启用异步日志
+         */
+        private boolean enabled = false;
+
+        /**
+         * 环形缓冲区容量，向上取整为2的幂
+         */
+        private int bufferSize = 1024;
+
+        /**
+         * 后台线程每批次处理的事件数
+         */
+        private int batchSize = 64;
+
+        /**
+         * 缓冲区满时的处理策略
+         */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.COUNT;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+    }
+
+    /**
+     * 异步日志缓冲区满时的处理策略
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * 直接丢弃，丢弃数量仅可通过API查询
+         */
+        DROP,
+
+        /**
+         * 阻塞请求线程直到缓冲区有空位
+         */
+        BLOCK,
+
+        /**
+         * 丢弃并由后台线程定期输出丢弃数量
+         */
+        COUNT
+    }
+
+    /**
+     * 堆栈指纹去重配置
+     * 同一指纹在窗口内只输出一次完整堆栈，之后仅输出指纹与出现次数
+     */
+    public static class Dedup {
+
+        /**
+         * 是否启用去重
+         */
+        private boolean enabled = true;
+
+        /**
+         * 去重窗口
+         */
+        private Duration window = Duration.ofMinutes(1);
+
+        /**
+         * 指纹表容量，向上取整为2的幂
+         */
+        private int maxFingerprints = 1024;
+
+        /**
+         * 参与指纹计算的栈顶帧数
+         */
+        private int frames = 5;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        public int getMaxFingerprints() {
+            return maxFingerprints;
+        }
+
+        public void setMaxFingerprints(int maxFingerprints) {
+            this.maxFingerprints = maxFingerprints;
+        }
+
+        public int getFrames() {
+            return frames;
+        }
+
+        public void setFrames(int frames) {
+            this.frames = frames;
+        }
+    }
+
+    /**
+     * 异常类别日志配置
+     */
+    public static class Category {
+
+        /**
+         * 日志级别
+         */
+        private Level level;
+
+        /**
+         * 是否输出堆栈
+         */
+        private boolean stackTrace;
+
+        public Category() {
+            this(Level.ERROR, true);
+        }
+
+        public Category(Level level, boolean stackTrace) {
+            this.level = level;
+            this.stackTrace = stackTrace;
+        }
+
+        public Level getLevel() {
+            return level;
+        }
+
+        public void setLevel(Level level) {
+            this.level = level;
+        }
+
+        public boolean isStackTrace() {
+            return stackTrace;
+        }
+
+        public void setStackTrace(boolean stackTrace) {
+            this.stackTrace = stackTrace;
+        }
+    }
+}
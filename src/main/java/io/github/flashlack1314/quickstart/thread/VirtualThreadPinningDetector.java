@@ -0,0 +1,190 @@
+package io.github.flashlack1314.quickstart.thread;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 虚拟线程钉住检测器
+ * 通过进程内 JFR 事件流订阅 {@code jdk.VirtualThreadPinned}：虚拟线程在 synchronized 块或本地方法中阻塞时，
+ * 无法从载体线程上卸载，载体线程被占用的时间超过阈值即产生该事件。
+ * <p>
+ * 按阻塞点（栈中第一个非 JDK 帧）聚合，每个阻塞点首次出现时输出一次带堆栈的警告，之后只计数。
+ * 当前 JVM 不支持 JFR 时只输出一条警告，不影响应用启动。
+ *
+ * @author flash
+ */
+public class VirtualThreadPinningDetector implements AutoCloseable {
+
+    /**
+     * JFR 事件名
+     */
+    static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+
+    /**
+     * 最多聚合的阻塞点数，超出后只计入总数
+     */
+    private static final int MAX_LOCATIONS = 1024;
+
+    /**
+     * 警告中输出的最大堆栈帧数
+     */
+    private static final int MAX_FRAMES = 32;
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningDetector.class);
+
+    private final Duration threshold;
+
+    /**
+     * 钉住事件总数
+     */
+    private final LongAdder pinned = new LongAdder();
+
+    /**
+     * 阻塞点到出现次数的映射
+     */
+    private final Map<String, LongAdder> locations = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream stream;
+
+    /**
+     * 构造函数
+     *
+     * @param threshold 钉住时间超过该阈值时报告
+     */
+    public VirtualThreadPinningDetector(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * 开始订阅钉住事件，重复调用时忽略
+     */
+    public void start() {
+        if (stream != null) {
+            return;
+        }
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+            recording.onEvent(EVENT_NAME, this::onPinned);
+            recording.startAsync();
+            stream = recording;
+        } catch (RuntimeException | NoClassDefFoundError e) {
+            logger.warn("JFR 不可用，虚拟线程钉住检测未启动: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 检测器是否正在运行
+     *
+     * @return true if subscribed to pinning events
+     */
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * 钉住事件总数
+     *
+     * @return 次数
+     */
+    public long getPinnedCount() {
+        return pinned.sum();
+    }
+
+    /**
+     * 各阻塞点的钉住次数
+     *
+     * @return 阻塞点到次数的映射，按阻塞点排序
+     */
+    public Map<String, Long> getLocations() {
+        Map<String, Long> result = new TreeMap<>();
+        locations.forEach((location, count) -> result.put(location, count.sum()));
+        return result;
+    }
+
+    /**
+     * 停止订阅
+     */
+    @Override
+    public void close() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    /**
+     * 处理一个钉住事件，在 JFR 事件流线程上执行
+     *
+     * @param event 钉住事件
+     */
+    void onPinned(RecordedEvent event) {
+        pinned.increment();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String location = location(frames);
+        LongAdder count = locations.get(location);
+        if (count == null) {
+            if (locations.size() >= MAX_LOCATIONS) {
+                return;
+            }
+            LongAdder created = new LongAdder();
+            count = locations.putIfAbsent(location, created);
+            if (count == null) {
+                count = created;
+                logger.warn("虚拟线程在 {} 处钉住载体线程 {} ms，通常由 synchronized 块内的阻塞操作引起，"
+                        + "可改用 ReentrantLock:\n{}", location, event.getDuration().toMillis(), format(frames));
+            }
+        }
+        count.increment();
+    }
+
+    /**
+     * 阻塞点：栈中第一个非 JDK 帧，全部为 JDK 帧时取栈顶
+     */
+    private static String location(List<RecordedFrame> frames) {
+        RecordedFrame top = null;
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            if (top == null) {
+                top = frame;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return describe(frame);
+            }
+        }
+        return top != null ? describe(top) : "unknown";
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    private static String format(List<RecordedFrame> frames) {
+        StringBuilder builder = new StringBuilder();
+        int limit = Math.min(frames.size(), MAX_FRAMES);
+        for (int i = 0; i < limit; i++) {
+            builder.append("\tat ").append(describe(frames.get(i))).append('\n');
+        }
+        if (frames.size() > limit) {
+            builder.append("\t... ").append(frames.size() - limit).append(" more\n");
+        }
+        return builder.toString();
+    }
+}
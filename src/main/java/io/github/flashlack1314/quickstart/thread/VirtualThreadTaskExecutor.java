@@ -0,0 +1,40 @@
+package io.github.flashlack1314.quickstart.thread;
+
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 虚拟线程任务执行器
+ * 每个任务在一个新的虚拟线程上执行，不需要配置线程池大小；
+ * 作为 applicationTaskExecutor 时同时服务 @Async 方法与 Spring MVC 的异步请求处理
+ *
+ * @author flash
+ */
+public class VirtualThreadTaskExecutor extends TaskExecutorAdapter implements AutoCloseable {
+
+    private final ExecutorService executor;
+
+    /**
+     * 构造函数
+     *
+     * @param threadNamePrefix 线程名前缀，后接递增序号
+     */
+    public VirtualThreadTaskExecutor(String threadNamePrefix) {
+        this(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory()));
+    }
+
+    private VirtualThreadTaskExecutor(ExecutorService executor) {
+        super(executor);
+        this.executor = executor;
+    }
+
+    /**
+     * 不再接受新任务，已提交的任务继续执行
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,254 @@
+package io.github.flashlack1314.quickstart.thread;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+import org.springframework.scheduling.support.TaskUtils;
+import org.springframework.util.ErrorHandler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 虚拟线程定时任务调度器
+ * 由单个平台线程负责计时，每次触发都在新的虚拟线程中执行任务，
+ * 一个任务阻塞不会推迟其他任务的触发：
+ * <ul>
+ *     <li>固定频率任务按时触发，上一次执行未结束时下一次执行可能并发开始</li>
+ *     <li>固定延迟任务与 Trigger 任务在上一次执行结束后才计算下一次触发时间</li>
+ * </ul>
+ *
+ * @author flash
+ */
+public class VirtualThreadTaskScheduler implements TaskScheduler, AutoCloseable {
+
+    private final ScheduledThreadPoolExecutor timer;
+
+    private final ThreadFactory workerFactory;
+
+    private final Clock clock = Clock.systemDefaultZone();
+
+    private volatile ErrorHandler errorHandler;
+
+    /**
+     * 构造函数
+     *
+     * @param threadNamePrefix 线程名前缀，计时线程名为前缀加 timer，执行任务的虚拟线程后接递增序号
+     */
+    public VirtualThreadTaskScheduler(String threadNamePrefix) {
+        this.timer = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name(threadNamePrefix + "timer").daemon().factory());
+        this.timer.setRemoveOnCancelPolicy(true);
+        this.workerFactory = Thread.ofVirtual().name(threadNamePrefix, 0).factory();
+    }
+
+    /**
+     * 设置任务异常处理器，默认记录日志，重复执行的任务继续调度
+     *
+     * @param errorHandler 异常处理器
+     */
+    public void setErrorHandler(ErrorHandler errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    @Override
+    public Clock getClock() {
+        return clock;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+        return new TriggerTask(decorate(task, true), trigger).schedule();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+        Trigger once = context -> context.lastCompletion() == null ? startTime : null;
+        return new TriggerTask(decorate(task, false), once).schedule();
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+        Runnable decorated = decorate(task, true);
+        return timer.scheduleAtFixedRate(() -> dispatch(decorated), delayNanos(startTime), period.toNanos(),
+                TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+        return scheduleAtFixedRate(task, clock.instant(), period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+        Trigger fixedDelay = context -> {
+            Instant lastCompletion = context.lastCompletion();
+            return lastCompletion == null ? startTime : lastCompletion.plus(delay);
+        };
+        return new TriggerTask(decorate(task, true), fixedDelay).schedule();
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+        return scheduleWithFixedDelay(task, clock.instant(), delay);
+    }
+
+    /**
+     * 停止计时线程并取消尚未触发的定时任务，已在虚拟线程中执行的任务不受影响
+     */
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+
+    private Runnable decorate(Runnable task, boolean repeating) {
+        return TaskUtils.decorateTaskWithErrorHandler(task, errorHandler, repeating);
+    }
+
+    private void dispatch(Runnable task) {
+        workerFactory.newThread(task).start();
+    }
+
+    private long delayNanos(Instant time) {
+        return Math.max(0L, Duration.between(clock.instant(), time).toNanos());
+    }
+
+    /**
+     * 按 Trigger 调度的任务，每次执行结束后再计算并登记下一次触发
+     */
+    private final class TriggerTask implements ScheduledFuture<Object> {
+
+        private final Runnable task;
+
+        private final Trigger trigger;
+
+        private final SimpleTriggerContext triggerContext = new SimpleTriggerContext(clock);
+
+        private final CompletableFuture<Object> completion = new CompletableFuture<>();
+
+        /**
+         * 保护 pending 与 triggerContext；使用 ReentrantLock 避免虚拟线程持有监视器时钉住载体线程
+         */
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private ScheduledFuture<?> pending;
+
+        private Instant scheduledTime;
+
+        private volatile Thread running;
+
+        private TriggerTask(Runnable task, Trigger trigger) {
+            this.task = task;
+            this.trigger = trigger;
+        }
+
+        private TriggerTask schedule() {
+            lock.lock();
+            try {
+                if (completion.isDone()) {
+                    return this;
+                }
+                Instant next = trigger.nextExecution(triggerContext);
+                if (next == null) {
+                    completion.complete(null);
+                    return this;
+                }
+                scheduledTime = next;
+                pending = timer.schedule(() -> dispatch(this::execute), delayNanos(next), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                completion.cancel(false);
+            } finally {
+                lock.unlock();
+            }
+            return this;
+        }
+
+        private void execute() {
+            Instant actualExecution = clock.instant();
+            running = Thread.currentThread();
+            try {
+                task.run();
+            } catch (Throwable e) {
+                completion.completeExceptionally(e);
+                return;
+            } finally {
+                running = null;
+            }
+            Instant completionTime = clock.instant();
+            lock.lock();
+            try {
+                triggerContext.update(scheduledTime, actualExecution, completionTime);
+            } finally {
+                lock.unlock();
+            }
+            schedule();
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            lock.lock();
+            try {
+                boolean cancelled = completion.cancel(mayInterruptIfRunning);
+                if (pending != null) {
+                    pending.cancel(false);
+                }
+                Thread thread = running;
+                if (cancelled && mayInterruptIfRunning && thread != null) {
+                    thread.interrupt();
+                }
+                return cancelled;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return completion.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return completion.isDone();
+        }
+
+        @Override
+        public Object get() throws InterruptedException, ExecutionException {
+            return completion.get();
+        }
+
+        @Override
+        public Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return completion.get(timeout, unit);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            lock.lock();
+            try {
+                return pending != null ? pending.getDelay(unit) : 0L;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (this == other) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.flashlack1314.quickstart.vo;
+
+/**
+ * 分页总数统计模式
+ *
+ * @author flash
+ * @see PageVO#query(CountMode, Long, Long, PageVO.RecordsQuery, java.util.function.Supplier, java.util.function.Supplier)
+ */
+public enum CountMode {
+
+    /**
+     * 精确统计总数
+     */
+    EXACT,
+
+    /**
+     * 不统计总数，多取一条记录判断是否有下一页
+     */
+    SKIP,
+
+    /**
+     * 使用估算总数（如数据库统计信息），total 仅供参考
+     */
+    ESTIMATED,
+
+    /**
+     * 与记录查询并发统计总数，超时后退回估算总数；
+     * 结果中的模式为实际采用的 EXACT、ESTIMATED 或 SKIP
+     */
+    ASYNC
+}
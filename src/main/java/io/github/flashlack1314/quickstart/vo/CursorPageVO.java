@@ -0,0 +1,184 @@
+package io.github.flashlack1314.quickstart.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 游标分页响应结果类 (Cursor Page Value Object)
+ * 以定位键（keyset）代替页码翻页，不需要统计总数，也不会随页码增大而扫描更多数据。
+ * <p>
+ * 查询时多取一条记录（size+1）判断是否还有下一页：
+ * <ul>
+ *     <li>首页或向后翻页：{@code WHERE key > ? ORDER BY key ASC LIMIT size+1}</li>
+ *     <li>向前翻页：{@code WHERE key < ? ORDER BY key DESC LIMIT size+1}，结果按查询顺序原样传入</li>
+ * </ul>
+ * 游标由 {@link CursorToken} 编码，可通过 {@link CursorToken#decode(String)} 取出翻页方向与定位键。
+ *
+ * @param <T> 响应数据的泛型类型
+ * @author flash
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Accessors(chain = true)
+public class CursorPageVO<T> {
+
+    /**
+     * 数据列表
+     */
+    private List<T> records;
+
+    /**
+     * 每页大小
+     */
+    private Integer size;
+
+    /**
+     * 下一页游标，没有下一页时为null
+     */
+    private String nextCursor;
+
+    /**
+     * 上一页游标，没有上一页时为null
+     */
+    private String previousCursor;
+
+    /**
+     * 是否有下一页
+     */
+    private boolean hasNext;
+
+    /**
+     * 是否有上一页
+     */
+    private boolean hasPrevious;
+
+    /**
+     * 创建空游标分页结果
+     *
+     * @param <T> 泛型类型
+     * @return 空游标分页结果
+     */
+    public static <T> CursorPageVO<T> empty() {
+        CursorPageVO<T> pageVO = new CursorPageVO<>();
+        pageVO.setRecords(Collections.emptyList());
+        pageVO.setSize(10);
+        return pageVO;
+    }
+
+    /**
+     * 创建首页游标分页结果
+     *
+     * @param rows         按定位键升序查询的记录，最多 size+1 条
+     * @param size         每页大小
+     * @param keyExtractor 定位键提取函数，复合键返回 Object[]
+     * @param <T>          泛型类型
+     * @return 游标分页结果
+     */
+    public static <T> CursorPageVO<T> of(List<T> rows, int size, Function<? super T, ?> keyExtractor) {
+        return of(rows, size, null, keyExtractor);
+    }
+
+    /**
+     * 创建游标分页结果
+     * 向前翻页时视为游标定位的记录仍然存在，即当前页之后还有记录
+     *
+     * @param rows         查询到的记录，最多 size+1 条；向前翻页时为定位键降序
+     * @param size         每页大小
+     * @param cursor       本次请求携带的游标，首页为null
+     * @param keyExtractor 定位键提取函数，复合键返回 Object[]
+     * @param <T>          泛型类型
+     * @return 游标分页结果
+     * @throws IllegalArgumentException 游标格式无效
+     */
+    public static <T> CursorPageVO<T> of(List<T> rows, int size, String cursor, Function<? super T, ?> keyExtractor) {
+        return of(rows, size, cursor, true, keyExtractor);
+    }
+
+    /**
+     * 创建游标分页结果
+     * hasNext、hasPrevious 只在对应游标存在时为 true，客户端不会拿到空游标而回到首页
+     *
+     * @param rows         查询到的记录，最多 size+1 条；向前翻页时为定位键降序
+     * @param size         每页大小
+     * @param cursor       本次请求携带的游标，首页为null
+     * @param anchorExists 向前翻页时游标定位的记录或其后的记录是否存在，
+     *                     可通过 {@code WHERE key >= ? LIMIT 1} 查询；向后翻页时忽略
+     * @param keyExtractor 定位键提取函数，复合键返回 Object[]
+     * @param <T>          泛型类型
+     * @return 游标分页结果
+     * @throws IllegalArgumentException 游标格式无效
+     */
+    public static <T> CursorPageVO<T> of(List<T> rows, int size, String cursor, boolean anchorExists,
+                                         Function<? super T, ?> keyExtractor) {
+        boolean forward = cursor == null || CursorToken.decode(cursor).isNext();
+        boolean more = rows.size() > size;
+        List<T> records = more ? rows.subList(0, size) : rows;
+        if (!forward) {
+            records = new ArrayList<>(records);
+            Collections.reverse(records);
+        }
+
+        CursorPageVO<T> pageVO = new CursorPageVO<>();
+        pageVO.setRecords(records);
+        pageVO.setSize(size);
+        boolean hasNext = forward ? more : anchorExists;
+        boolean hasPrevious = forward ? cursor != null : more;
+        if (!records.isEmpty()) {
+            if (hasNext) {
+                pageVO.setNextCursor(CursorToken.next(keyExtractor.apply(records.get(records.size() - 1))));
+            }
+            if (hasPrevious) {
+                pageVO.setPreviousCursor(CursorToken.previous(keyExtractor.apply(records.get(0))));
+            }
+        }
+        // 空页无法生成游标，对应方向视为没有更多记录
+        pageVO.setHasNext(pageVO.getNextCursor() != null);
+        pageVO.setHasPrevious(pageVO.getPreviousCursor() != null);
+        return pageVO;
+    }
+
+    /**
+     * 判断是否为空结果
+     *
+     * @return true if records is null or empty
+     */
+    public boolean isEmpty() {
+        return records == null || records.isEmpty();
+    }
+
+    /**
+     * 创建 ResultVO 包装的首页游标分页结果
+     *
+     * @param rows         按定位键升序查询的记录，最多 size+1 条
+     * @param size         每页大小
+     * @param keyExtractor 定位键提取函数，复合键返回 Object[]
+     * @param <T>          泛型类型
+     * @return ResultVO包装的游标分页结果
+     */
+    public static <T> ResultVO<CursorPageVO<T>> success(List<T> rows, int size, Function<? super T, ?> keyExtractor) {
+        return ResultVO.success(of(rows, size, keyExtractor));
+    }
+
+    /**
+     * 创建 ResultVO 包装的游标分页结果
+     *
+     * @param rows         查询到的记录，最多 size+1 条；向前翻页时为定位键降序
+     * @param size         每页大小
+     * @param cursor       本次请求携带的游标，首页为null
+     * @param keyExtractor 定位键提取函数，复合键返回 Object[]
+     * @param <T>          泛型类型
+     * @return ResultVO包装的游标分页结果
+     */
+    public static <T> ResultVO<CursorPageVO<T>> success(List<T> rows, int size, String cursor,
+                                                        Function<? super T, ?> keyExtractor) {
+        return ResultVO.success(of(rows, size, cursor, keyExtractor));
+    }
+}
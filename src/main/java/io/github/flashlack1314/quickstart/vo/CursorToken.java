@@ -0,0 +1,219 @@
+package io.github.flashlack1314.quickstart.vo;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 游标分页令牌
+ * 将翻页方向与定位键编码为紧凑的 URL 安全字符串，客户端只需原样回传。
+ * <p>
+ * 定位键支持 Long、Integer、String、{@link Instant}、{@link LocalDateTime}，
+ * 复合键以 Object[] 或 List 形式传入，解码后按原顺序返回；Integer 解码为 Long。
+ *
+ * @author flash
+ * @see CursorPageVO
+ */
+public final class CursorToken {
+
+    private static final byte NEXT = 'N';
+    private static final byte PREVIOUS = 'P';
+
+    private static final byte TYPE_LONG = 'L';
+    private static final byte TYPE_STRING = 'S';
+    private static final byte TYPE_INSTANT = 'I';
+    private static final byte TYPE_DATE_TIME = 'T';
+
+    private final boolean next;
+
+    private final List<Object> keys;
+
+    private CursorToken(boolean next, List<Object> keys) {
+        this.next = next;
+        this.keys = keys;
+    }
+
+    /**
+     * 生成向后翻页的游标
+     *
+     * @param key 当前页最后一条记录的定位键
+     * @return 游标
+     */
+    public static String next(Object key) {
+        return encode(NEXT, key);
+    }
+
+    /**
+     * 生成向前翻页的游标
+     *
+     * @param key 当前页第一条记录的定位键
+     * @return 游标
+     */
+    public static String previous(Object key) {
+        return encode(PREVIOUS, key);
+    }
+
+    /**
+     * 解析游标
+     *
+     * @param token 游标
+     * @return 游标令牌
+     * @throws IllegalArgumentException 游标格式无效
+     */
+    public static CursorToken decode(String token) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            Reader reader = new Reader(bytes);
+            byte direction = reader.readByte();
+            if (direction != NEXT && direction != PREVIOUS) {
+                throw new IllegalArgumentException("无效的分页游标");
+            }
+            List<Object> keys = new ArrayList<>(2);
+            while (reader.hasRemaining()) {
+                keys.add(reader.readKey());
+            }
+            return new CursorToken(direction == NEXT, Collections.unmodifiableList(keys));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("无效的分页游标", e);
+        }
+    }
+
+    /**
+     * 是否向后翻页
+     *
+     * @return true if the cursor points to the following page
+     */
+    public boolean isNext() {
+        return next;
+    }
+
+    /**
+     * 定位键（单键）
+     *
+     * @return 第一个定位键
+     */
+    public Object getKey() {
+        return keys.get(0);
+    }
+
+    /**
+     * 定位键（复合键按编码顺序）
+     *
+     * @return 不可变的定位键列表
+     */
+    public List<Object> getKeys() {
+        return keys;
+    }
+
+    private static String encode(byte direction, Object key) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16);
+        out.write(direction);
+        if (key instanceof Object[] composite) {
+            for (Object part : composite) {
+                writeKey(out, part);
+            }
+        } else if (key instanceof List<?> composite) {
+            for (Object part : composite) {
+                writeKey(out, part);
+            }
+        } else {
+            writeKey(out, key);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+    }
+
+    private static void writeKey(ByteArrayOutputStream out, Object key) {
+        if (key instanceof Long || key instanceof Integer) {
+            out.write(TYPE_LONG);
+            writeVarLong(out, zigZag(((Number) key).longValue()));
+        } else if (key instanceof String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.write(TYPE_STRING);
+            writeVarLong(out, bytes.length);
+            out.write(bytes, 0, bytes.length);
+        } else if (key instanceof Instant value) {
+            out.write(TYPE_INSTANT);
+            writeVarLong(out, zigZag(value.getEpochSecond()));
+            writeVarLong(out, value.getNano());
+        } else if (key instanceof LocalDateTime value) {
+            out.write(TYPE_DATE_TIME);
+            writeVarLong(out, zigZag(value.toEpochSecond(ZoneOffset.UTC)));
+            writeVarLong(out, value.getNano());
+        } else {
+            throw new IllegalArgumentException("不支持的游标键类型: " + (key == null ? "null" : key.getClass().getName()));
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * 游标字节读取器
+     */
+    private static final class Reader {
+
+        private final byte[] bytes;
+
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private boolean hasRemaining() {
+            return position < bytes.length;
+        }
+
+        private byte readByte() {
+            return bytes[position++];
+        }
+
+        private Object readKey() {
+            byte type = readByte();
+            return switch (type) {
+                case TYPE_LONG -> unZigZag(readVarLong());
+                case TYPE_STRING -> {
+                    int length = Math.toIntExact(readVarLong());
+                    String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+                    position += length;
+                    yield value;
+                }
+                case TYPE_INSTANT -> Instant.ofEpochSecond(unZigZag(readVarLong()), readVarLong());
+                case TYPE_DATE_TIME -> LocalDateTime.ofEpochSecond(unZigZag(readVarLong()),
+                        Math.toIntExact(readVarLong()), ZoneOffset.UTC);
+                default -> throw new IllegalArgumentException("未知的游标键类型: " + type);
+            };
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("游标数值过长");
+        }
+
+        private static long unZigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
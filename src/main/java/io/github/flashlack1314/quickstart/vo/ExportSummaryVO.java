@@ -0,0 +1,48 @@
+package io.github.flashlack1314.quickstart.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * 批量导出结果汇总
+ *
+ * @author flash
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Accessors(chain = true)
+public class ExportSummaryVO {
+
+    /**
+     * 已写出的记录数
+     */
+    private Long records;
+
+    /**
+     * 已读取的页数
+     */
+    private Long pages;
+
+    /**
+     * 已写出的字节数
+     */
+    private Long bytes;
+
+    /**
+     * 耗时（毫秒）
+     */
+    private Long elapsedMillis;
+
+    /**
+     * 是否完整导出，失败时为false，此时已写出的内容只包含部分记录
+     */
+    private Boolean complete;
+
+    /**
+     * 导出文件路径，导出到输出流时为null
+     */
+    private String file;
+}
@@ -0,0 +1,30 @@
+package io.github.flashlack1314.quickstart.vo;
+
+/**
+ * 不可变响应结果
+ * 用于缓存和复用的常量响应，任何修改操作都会抛出 {@link UnsupportedOperationException}
+ *
+ * @param <T> 响应数据的泛型类型
+ * @author flash
+ */
+final class ImmutableResultVO<T> extends ResultVO<T> {
+
+    ImmutableResultVO(Integer code, String message) {
+        super(code, message, null);
+    }
+
+    @Override
+    public ResultVO<T> setCode(Integer code) {
+        throw new UnsupportedOperationException("不可变响应不允许修改");
+    }
+
+    @Override
+    public ResultVO<T> setMessage(String message) {
+        throw new UnsupportedOperationException("不可变响应不允许修改");
+    }
+
+    @Override
+    public ResultVO<T> setData(T data) {
+        throw new UnsupportedOperationException("不可变响应不允许修改");
+    }
+}
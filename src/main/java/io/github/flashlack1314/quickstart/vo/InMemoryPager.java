@@ -0,0 +1,242 @@
+package io.github.flashlack1314.quickstart.vo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * 内存分页
+ * 一次遍历完成过滤、计数与排序取窗：只用容量为 offset+size 的大顶堆保留排在最前的记录，
+ * 复杂度为 O(n log k)，不需要对全部数据排序。相同排序值的记录保持原有顺序，
+ * 结果与先稳定排序再截取一致。
+ *
+ * @author flash
+ * @see PageVO#fromCollection(Collection, Comparator, Predicate, Long, Long)
+ */
+final class InMemoryPager {
+
+    /**
+     * 并行模式下每个分段的最少元素数，数据量不足时按单线程处理
+     */
+    static final int MIN_PARALLEL_CHUNK = 8192;
+
+    private InMemoryPager() {
+    }
+
+    /**
+     * 对内存中的集合分页
+     *
+     * @param source     数据集合，非空
+     * @param comparator 排序规则，为null时保持集合原有顺序
+     * @param filter     过滤条件，为null时不过滤
+     * @param page       页码，调用方已规范化为正数
+     * @param pageSize   每页大小，调用方已规范化为非负数
+     * @param parallel   是否并行处理
+     * @param <T>        泛型类型
+     * @return 分页结果
+     */
+    static <T> PageVO<T> page(Collection<? extends T> source, Comparator<? super T> comparator,
+                              Predicate<? super T> filter, long page, long pageSize, boolean parallel) {
+        long offset = PageVO.offset(page, pageSize);
+        // 起始位置超出数据量时只需统计总数，窗口容量为0
+        long window = offset >= source.size() ? 0L : offset + Math.min(pageSize, source.size());
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8L, Math.min(window, source.size()));
+        Predicate<? super T> accept = filter != null ? filter : record -> true;
+
+        Window<T> result;
+        if (parallel && source.size() >= MIN_PARALLEL_CHUNK * 2) {
+            result = parallelWindow(source, comparator, accept, capacity);
+        } else {
+            result = new Window<>(comparator, capacity);
+            int index = 0;
+            for (T record : source) {
+                if (accept.test(record)) {
+                    result.offer(record, index);
+                }
+                index++;
+            }
+        }
+
+        List<T> sorted = result.sorted();
+        int from = (int) Math.min(sorted.size(), offset);
+        int to = from + (int) Math.min(sorted.size() - from, pageSize);
+        return PageVO.of(new ArrayList<>(sorted.subList(from, to)), result.count, page, pageSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Window<T> parallelWindow(Collection<? extends T> source, Comparator<? super T> comparator,
+                                                Predicate<? super T> accept, int capacity) {
+        List<? extends T> list = source instanceof List<?> && source instanceof RandomAccess
+                ? (List<? extends T>) source
+                : (List<? extends T>) Arrays.asList(source.toArray());
+        int chunks = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4,
+                list.size() / MIN_PARALLEL_CHUNK));
+        int chunkSize = (list.size() + chunks - 1) / chunks;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    Window<T> window = new Window<>(comparator, capacity);
+                    int end = Math.min(list.size(), (chunk + 1) * chunkSize);
+                    for (int i = chunk * chunkSize; i < end; i++) {
+                        T record = list.get(i);
+                        if (accept.test(record)) {
+                            window.offer(record, i);
+                        }
+                    }
+                    return window;
+                })
+                .reduce(Window::merge)
+                .orElseGet(() -> new Window<>(comparator, capacity));
+    }
+
+    /**
+     * 排在最前的 capacity 条记录，以大顶堆保存，堆顶为当前保留记录中排在最后的一条
+     */
+    private static final class Window<T> {
+
+        private final Comparator<? super T> comparator;
+
+        private final int capacity;
+
+        private Object[] records;
+
+        private int[] indexes;
+
+        private int size;
+
+        /**
+         * 通过过滤的记录数
+         */
+        private long count;
+
+        private Window(Comparator<? super T> comparator, int capacity) {
+            this.comparator = comparator;
+            this.capacity = capacity;
+            this.records = new Object[Math.min(capacity, 1024)];
+            this.indexes = new int[records.length];
+        }
+
+        /**
+         * 记录一条通过过滤的记录
+         *
+         * @param record 记录
+         * @param index  记录在源集合中的位置，用于相同排序值时保持原顺序
+         */
+        private void offer(T record, int index) {
+            count++;
+            if (capacity == 0) {
+                return;
+            }
+            if (size < capacity) {
+                if (size == records.length) {
+                    grow();
+                }
+                records[size] = record;
+                indexes[size] = index;
+                siftUp(size++);
+                return;
+            }
+            // 不排在堆顶之前的记录不会进入窗口；未指定排序时按源集合顺序比较
+            if (compare(record, index, 0) >= 0) {
+                return;
+            }
+            records[0] = record;
+            indexes[0] = index;
+            siftDown(0);
+        }
+
+        private void grow() {
+            int length = (int) Math.min(capacity, Math.max(16L, records.length * 2L));
+            records = Arrays.copyOf(records, length);
+            indexes = Arrays.copyOf(indexes, length);
+        }
+
+        private Window<T> merge(Window<T> other) {
+            Window<T> merged = new Window<>(comparator, capacity);
+            merged.count = count + other.count;
+            for (int i = 0; i < size; i++) {
+                merged.insert(record(i), indexes[i]);
+            }
+            for (int i = 0; i < other.size; i++) {
+                merged.insert(other.record(i), other.indexes[i]);
+            }
+            return merged;
+        }
+
+        /**
+         * 插入记录但不计数，用于合并分段结果
+         */
+        private void insert(T record, int index) {
+            long saved = count;
+            offer(record, index);
+            count = saved;
+        }
+
+        private List<T> sorted() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, this::compareSlots);
+            List<T> result = new ArrayList<>(size);
+            for (Integer slot : order) {
+                result.add(record(slot));
+            }
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T record(int slot) {
+            return (T) records[slot];
+        }
+
+        private int compare(T record, int index, int slot) {
+            int result = comparator != null ? comparator.compare(record, record(slot)) : 0;
+            return result != 0 ? result : Integer.compare(index, indexes[slot]);
+        }
+
+        private int compareSlots(int a, int b) {
+            return compare(record(a), indexes[a], b);
+        }
+
+        private void siftUp(int slot) {
+            while (slot > 0) {
+                int parent = (slot - 1) >>> 1;
+                if (compareSlots(slot, parent) <= 0) {
+                    return;
+                }
+                swap(slot, parent);
+                slot = parent;
+            }
+        }
+
+        private void siftDown(int slot) {
+            while (true) {
+                int left = slot * 2 + 1;
+                if (left >= size) {
+                    return;
+                }
+                int right = left + 1;
+                int largest = right < size && compareSlots(right, left) > 0 ? right : left;
+                if (compareSlots(largest, slot) <= 0) {
+                    return;
+                }
+                swap(slot, largest);
+                slot = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            Object record = records[a];
+            records[a] = records[b];
+            records[b] = record;
+            int index = indexes[a];
+            indexes[a] = indexes[b];
+            indexes[b] = index;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.flashlack1314.quickstart.vo;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.LongStream;
+
+/**
+ * long 记录的分页结果
+ * 适用于 ID 列表等数值分页，记录保存为 long[] 的切片，不创建 List&lt;Long&gt;。
+ * 切片与源数组共享存储，构造后不应再修改源数组。
+ *
+ * @author flash
+ */
+@JsonSerialize(using = PrimitivePageVOSerializer.class)
+public final class LongPageVO extends PrimitivePageVO {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final long[] values;
+
+    private final int offset;
+
+    private final int length;
+
+    private LongPageVO(long[] values, int offset, int length, long total, long current, long size) {
+        super(total, current, size);
+        this.values = values;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * 创建空分页结果
+     *
+     * @return 空分页结果
+     */
+    public static LongPageVO empty() {
+        return new LongPageVO(EMPTY, 0, 0, 0, 1, 10);
+    }
+
+    /**
+     * 创建分页结果
+     *
+     * @param records 当前页记录
+     * @param total   总记录数
+     * @param current 当前页码
+     * @param size    每页大小
+     * @return 分页结果
+     */
+    public static LongPageVO of(long[] records, long total, long current, long size) {
+        long[] values = records != null ? records : EMPTY;
+        return new LongPageVO(values, 0, values.length, total, current, size);
+    }
+
+    /**
+     * 创建分页结果（当前页记录为数组的一段）
+     *
+     * @param source  记录数组
+     * @param from    起始位置（包含）
+     * @param to      结束位置（不包含）
+     * @param total   总记录数
+     * @param current 当前页码
+     * @param size    每页大小
+     * @return 分页结果
+     */
+    public static LongPageVO of(long[] source, int from, int to, long total, long current, long size) {
+        Objects.checkFromToIndex(from, to, source.length);
+        return new LongPageVO(source, from, to - from, total, current, size);
+    }
+
+    /**
+     * 对内存中的全部数据分页，total为数组长度
+     *
+     * @param all     全部记录
+     * @param current 当前页码
+     * @param size    每页大小
+     * @return 分页结果
+     */
+    public static LongPageVO page(long[] all, long current, long size) {
+        int from = sliceFrom(all.length, current, size);
+        int to = sliceTo(all.length, from, size);
+        return new LongPageVO(all, from, to - from, all.length, current, size);
+    }
+
+    /**
+     * 获取当前页第 index 条记录
+     *
+     * @param index 页内位置
+     * @return 记录
+     */
+    public long get(int index) {
+        Objects.checkIndex(index, length);
+        return values[offset + index];
+    }
+
+    /**
+     * 当前页记录（复制）
+     *
+     * @return 记录数组
+     */
+    public long[] getRecords() {
+        return Arrays.copyOfRange(values, offset, offset + length);
+    }
+
+    /**
+     * 当前页记录的流
+     *
+     * @return 记录流
+     */
+    public LongStream stream() {
+        return Arrays.stream(values, offset, offset + length);
+    }
+
+    @Override
+    public int getCurrentPageSize() {
+        return length;
+    }
+
+    long[] array() {
+        return values;
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    /**
+     * 创建 ResultVO 包装的分页结果
+     *
+     * @param records 当前页记录
+     * @param total   总记录数
+     * @param current 当前页码
+     * @param size    每页大小
+     * @return ResultVO包装的分页结果
+     */
+    public static ResultVO<LongPageVO> success(long[] records, long total, long current, long size) {
+        return ResultVO.success(of(records, total, current, size));
+    }
+}
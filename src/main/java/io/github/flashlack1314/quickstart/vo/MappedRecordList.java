@@ -0,0 +1,62 @@
+package io.github.flashlack1314.quickstart.vo;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * 按需转换的只读记录视图
+ * 第一次访问某个位置时才调用转换函数，结果按位置缓存，未被访问的记录不产生转换开销。
+ * 视图不是线程安全的，并发访问同一位置可能重复转换。
+ *
+ * @param <S> 源记录类型
+ * @param <R> 转换后的记录类型
+ * @author flash
+ * @see PageVO#mapLazy(Function)
+ */
+final class MappedRecordList<S, R> extends AbstractList<R> implements RandomAccess {
+
+    /**
+     * 尚未转换的位置
+     */
+    private static final Object UNMAPPED = new Object();
+
+    private final List<S> source;
+
+    private final Function<? super S, ? extends R> mapper;
+
+    /**
+     * 已转换的记录，首次访问时创建
+     */
+    private Object[] mapped;
+
+    MappedRecordList(List<S> source, Function<? super S, ? extends R> mapper) {
+        this.source = source instanceof RandomAccess ? source : new ArrayList<>(source);
+        this.mapper = mapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R get(int index) {
+        Object[] values = mapped;
+        if (values == null) {
+            values = new Object[source.size()];
+            Arrays.fill(values, UNMAPPED);
+            mapped = values;
+        }
+        Object value = values[index];
+        if (value == UNMAPPED) {
+            value = mapper.apply(source.get(index));
+            values[index] = value;
+        }
+        return (R) value;
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
@@ -1,26 +1,53 @@
 package io.github.flashlack1314.quickstart.vo;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import lombok.AllArgsConstructor;
 import lombok.experimental.Accessors;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * 分页响应结果类 (Page Value Object)
  * 用于封装分页查询的响应数据，提供统一的分页格式
+ * <p>
+ * countMode 与 hasMore 只在非精确统计的分页中输出，精确统计分页的 JSON 与引入统计模式前一致
  *
  * @param <T> 响应数据的泛型类型
  * @author flash
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 @Accessors(chain = true)
 public class PageVO<T> {
 
+    /**
+     * ASYNC 模式下等待总数统计的默认时间
+     */
+    public static final Duration DEFAULT_COUNT_TIMEOUT = Duration.ofMillis(200);
+
+    /**
+     * ASYNC 模式默认的总数统计执行方式，每次统计启动一个虚拟线程，不持有需要关闭的资源
+     */
+    private static final Executor VIRTUAL_THREAD_PER_COUNT =
+            task -> Thread.ofVirtual().name("quickstart-page-count").start(task);
+
     /**
      * 数据列表
      */
@@ -43,9 +70,40 @@ public class PageVO<T> {
 
     /**
      * 总页数
+     * SKIP 模式下为已知的最少页数
      */
     private Long pages;
 
+    /**
+     * 总数统计模式，为 EXACT 时不输出
+     */
+    @JsonInclude(value = JsonInclude.Include.CUSTOM, valueFilter = ExactCountModeFilter.class)
+    private CountMode countMode = CountMode.EXACT;
+
+    /**
+     * 是否有下一页，由多取的一条记录得出；为null时按总页数判断，且不输出
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasMore;
+
+    /**
+     * 构造函数
+     * 创建精确统计的分页结果
+     *
+     * @param records 数据列表
+     * @param total   总记录数
+     * @param current 当前页码
+     * @param size    每页大小
+     * @param pages   总页数
+     */
+    public PageVO(List<T> records, Long total, Long current, Long size, Long pages) {
+        this.records = records;
+        this.total = total;
+        this.current = current;
+        this.size = size;
+        this.pages = pages;
+    }
+
     /**
      * 创建空分页结果
      *
@@ -59,6 +117,7 @@ public class PageVO<T> {
         pageVO.setCurrent(1L);
         pageVO.setSize(10L);
         pageVO.setPages(0L);
+        pageVO.setCountMode(CountMode.EXACT);
         return pageVO;
     }
 
@@ -74,15 +133,16 @@ public class PageVO<T> {
      */
     public static <T> PageVO<T> of(List<T> records, Long total, Long current, Long size) {
         PageVO<T> pageVO = new PageVO<>();
+        long totalCount = total != null ? total : 0L;
+        long pageSize = size != null ? size : 10L;
         pageVO.setRecords(records);
-        pageVO.setTotal(total != null ? total : 0L);
-        pageVO.setCurrent(current != null ? current : 1L);
-        pageVO.setSize(size != null ? size : 10L);
-        // 计算总页数
-        Long pageSize = size != null ? size : 10L;
-        Long totalCount = total != null ? total : 0L;
-        Long pages = pageSize == 0 ? 0L : (totalCount + pageSize - 1) / pageSize;
-        pageVO.setPages(pages);
+        // 两个分支都为 Long，避免条件表达式拆箱后重新装箱
+        pageVO.setTotal(total != null ? total : Long.valueOf(totalCount));
+        pageVO.setCurrent(current != null ? current : Long.valueOf(1L));
+        pageVO.setSize(size != null ? size : Long.valueOf(pageSize));
+        // 计算总页数，使用基本类型运算避免中间结果装箱
+        pageVO.setPages(pageSize == 0 ? 0L : (totalCount + pageSize - 1) / pageSize);
+        pageVO.setCountMode(CountMode.EXACT);
         return pageVO;
     }
 
@@ -104,6 +164,360 @@ public class PageVO<T> {
         pageVO.setCurrent(current != null ? current : 1L);
         pageVO.setSize(size != null ? size : 10L);
         pageVO.setPages(pages != null ? pages : 0L);
+        pageVO.setCountMode(CountMode.EXACT);
+        return pageVO;
+    }
+
+    /**
+     * 对内存中的集合过滤、排序并分页
+     * 只保留排在当前页及之前的记录，复杂度为 O(n log k)（k = current*size），
+     * 总数在同一次遍历中统计；相同排序值的记录保持集合原有顺序
+     *
+     * @param source     数据集合
+     * @param comparator 排序规则，为null时保持集合顺序
+     * @param filter     过滤条件，为null时不过滤
+     * @param current    当前页码
+     * @param size       每页大小
+     * @param <T>        泛型类型
+     * @return 分页结果
+     */
+    public static <T> PageVO<T> fromCollection(Collection<? extends T> source, Comparator<? super T> comparator,
+                                               Predicate<? super T> filter, Long current, Long size) {
+        return fromCollection(source, comparator, filter, current, size, false);
+    }
+
+    /**
+     * 对内存中的集合过滤、排序并分页
+     * 并行模式下集合按段在公共 ForkJoinPool 上并行处理，各段结果再合并，适用于数十万条以上的数据
+     *
+     * @param source     数据集合
+     * @param comparator 排序规则，为null时保持集合顺序
+     * @param filter     过滤条件，为null时不过滤，并行模式下须线程安全
+     * @param current    当前页码
+     * @param size       每页大小
+     * @param parallel   是否并行处理
+     * @param <T>        泛型类型
+     * @return 分页结果
+     */
+    public static <T> PageVO<T> fromCollection(Collection<? extends T> source, Comparator<? super T> comparator,
+                                               Predicate<? super T> filter, Long current, Long size,
+                                               boolean parallel) {
+        // 空集合与非空集合返回相同的规范化分页参数
+        long page = current != null && current > 0 ? current : 1L;
+        long pageSize = size != null && size >= 0 ? size : 10L;
+        if (source == null || source.isEmpty()) {
+            return of(Collections.emptyList(), 0L, page, pageSize);
+        }
+        return InMemoryPager.page(source, comparator, filter, page, pageSize, parallel);
+    }
+
+    /**
+     * 创建不统计总数的分页结果（SKIP）
+     *
+     * @param rows    查询到的记录，按 size+1 条查询
+     * @param current 当前页码
+     * @param size    每页大小
+     * @param <T>     泛型类型
+     * @return 分页结果，total为null
+     */
+    public static <T> PageVO<T> withoutTotal(List<T> rows, Long current, Long size) {
+        PageVO<T> pageVO = page(rows, current, size);
+        long known = pageVO.getHasMore() ? pageVO.getCurrent() + 1
+                : pageVO.isEmpty() ? pageVO.getCurrent() - 1 : pageVO.getCurrent();
+        pageVO.setPages(known);
+        pageVO.setCountMode(CountMode.SKIP);
+        return pageVO;
+    }
+
+    /**
+     * 创建使用估算总数的分页结果（ESTIMATED）
+     * 估算值与当前页不一致时（如估算值小于已读取的记录数）按已知数据修正
+     *
+     * @param rows           查询到的记录，按 size+1 条查询
+     * @param estimatedTotal 估算总数
+     * @param current        当前页码
+     * @param size           每页大小
+     * @param <T>            泛型类型
+     * @return 分页结果
+     */
+    public static <T> PageVO<T> estimated(List<T> rows, Long estimatedTotal, Long current, Long size) {
+        PageVO<T> pageVO = page(rows, current, size);
+        long pageSize = pageVO.getSize();
+        // 页码过大时按 Long.MAX_VALUE 饱和，不会溢出为负数
+        long seen = saturatedAdd(offset(Math.max(1L, pageVO.getCurrent()), pageSize), pageVO.getRecords().size());
+        long total;
+        if (!pageVO.getHasMore()) {
+            // 最后一页时总数已知
+            total = seen;
+        } else {
+            total = Math.max(estimatedTotal != null ? estimatedTotal : 0L, saturatedAdd(seen, 1L));
+        }
+        pageVO.setTotal(total);
+        pageVO.setPages(pageSize == 0 ? 0L : total / pageSize + (total % pageSize == 0 ? 0L : 1L));
+        pageVO.setCountMode(CountMode.ESTIMATED);
+        return pageVO;
+    }
+
+    /**
+     * 按统计模式执行分页查询，ASYNC 模式使用默认等待时间
+     *
+     * @param mode          总数统计模式
+     * @param current       当前页码
+     * @param size          每页大小
+     * @param recordsQuery  记录查询
+     * @param countQuery    精确总数查询，EXACT 与 ASYNC 模式使用
+     * @param estimateQuery 估算总数查询，ESTIMATED 与 ASYNC 模式使用，可为null
+     * @param <T>           泛型类型
+     * @return 分页结果
+     */
+    public static <T> PageVO<T> query(CountMode mode, Long current, Long size, RecordsQuery<T> recordsQuery,
+                                      Supplier<Long> countQuery, Supplier<Long> estimateQuery) {
+        return query(mode, current, size, recordsQuery, countQuery, estimateQuery, DEFAULT_COUNT_TIMEOUT);
+    }
+
+    /**
+     * 按统计模式执行分页查询
+     * <ul>
+     *     <li>EXACT：先查总数，总数为0或页码超出范围时不再查询记录</li>
+     *     <li>SKIP：只查询 size+1 条记录</li>
+     *     <li>ESTIMATED：查询 size+1 条记录与估算总数</li>
+     *     <li>ASYNC：在虚拟线程上统计总数，同时在当前线程查询 size+1 条记录；
+     *     超过 countTimeout 仍未完成时取消统计，退回估算总数，未提供估算时按 SKIP 处理</li>
+     * </ul>
+     *
+     * @param mode          总数统计模式
+     * @param current       当前页码
+     * @param size          每页大小
+     * @param recordsQuery  记录查询
+     * @param countQuery    精确总数查询，EXACT 与 ASYNC 模式使用
+     * @param estimateQuery 估算总数查询，ESTIMATED 与 ASYNC 模式使用，可为null
+     * @param countTimeout  ASYNC 模式下等待总数统计的时间
+     * @param <T>           泛型类型
+     * @return 分页结果
+     */
+    public static <T> PageVO<T> query(CountMode mode, Long current, Long size, RecordsQuery<T> recordsQuery,
+                                      Supplier<Long> countQuery, Supplier<Long> estimateQuery, Duration countTimeout) {
+        return query(mode, current, size, recordsQuery, countQuery, estimateQuery, countTimeout, VIRTUAL_THREAD_PER_COUNT);
+    }
+
+    /**
+     * 按统计模式执行分页查询，ASYNC 模式的总数统计在指定执行器上运行
+     * 超时取消统计时会中断执行统计的线程
+     *
+     * @param mode          总数统计模式
+     * @param current       当前页码
+     * @param size          每页大小
+     * @param recordsQuery  记录查询
+     * @param countQuery    精确总数查询，EXACT 与 ASYNC 模式使用
+     * @param estimateQuery 估算总数查询，ESTIMATED 与 ASYNC 模式使用，可为null
+     * @param countTimeout  ASYNC 模式下等待总数统计的时间
+     * @param countExecutor ASYNC 模式下执行总数统计的执行器
+     * @param <T>           泛型类型
+     * @return 分页结果
+     */
+    public static <T> PageVO<T> query(CountMode mode, Long current, Long size, RecordsQuery<T> recordsQuery,
+                                      Supplier<Long> countQuery, Supplier<Long> estimateQuery, Duration countTimeout,
+                                      Executor countExecutor) {
+        long page = current != null && current > 0 ? current : 1L;
+        long pageSize = size != null && size >= 0 ? size : 10L;
+        long offset = offset(page, pageSize);
+        switch (mode) {
+            case EXACT -> {
+                Long total = countQuery.get();
+                long count = total != null ? total : 0L;
+                List<T> records = count > offset ? recordsQuery.fetch(offset, pageSize) : Collections.emptyList();
+                return of(records, count, page, pageSize);
+            }
+            case SKIP -> {
+                return withoutTotal(recordsQuery.fetch(offset, pageSize + 1), page, pageSize);
+            }
+            case ESTIMATED -> {
+                List<T> rows = recordsQuery.fetch(offset, pageSize + 1);
+                return estimated(rows, estimateQuery != null ? estimateQuery.get() : null, page, pageSize);
+            }
+            case ASYNC -> {
+                return queryAsync(page, pageSize, offset, recordsQuery, countQuery, estimateQuery, countTimeout,
+                        countExecutor);
+            }
+            default -> throw new IllegalArgumentException("不支持的统计模式: " + mode);
+        }
+    }
+
+    private static <T> PageVO<T> queryAsync(long page, long pageSize, long offset, RecordsQuery<T> recordsQuery,
+                                            Supplier<Long> countQuery, Supplier<Long> estimateQuery,
+                                            Duration countTimeout, Executor countExecutor) {
+        long deadline = System.nanoTime() + countTimeout.toNanos();
+        FutureTask<Long> count = new FutureTask<>(countQuery::get);
+        countExecutor.execute(count);
+        List<T> rows;
+        try {
+            rows = recordsQuery.fetch(offset, pageSize + 1);
+        } catch (RuntimeException e) {
+            count.cancel(true);
+            throw e;
+        }
+
+        Long total = null;
+        try {
+            total = count.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            count.cancel(true);
+        } catch (InterruptedException e) {
+            count.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("分页总数统计失败", e.getCause());
+        }
+
+        if (total != null) {
+            PageVO<T> pageVO = page(rows, page, pageSize);
+            return of(pageVO.getRecords(), total, page, pageSize).setHasMore(pageVO.getHasMore());
+        }
+        if (estimateQuery != null) {
+            return estimated(rows, estimateQuery.get(), page, pageSize);
+        }
+        return withoutTotal(rows, page, pageSize);
+    }
+
+    /**
+     * 计算当前页第一条记录的位置，页码过大导致溢出时取 Long.MAX_VALUE，按超出末尾的空页处理
+     *
+     * @param page     页码，从1开始
+     * @param pageSize 每页大小
+     * @return 第一条记录的位置
+     */
+    public static long offset(long page, long pageSize) {
+        try {
+            return Math.multiplyExact(page - 1, pageSize);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static long saturatedAdd(long value, long increment) {
+        return value > Long.MAX_VALUE - increment ? Long.MAX_VALUE : value + increment;
+    }
+
+    /**
+     * 截取当前页记录并根据多取的一条记录设置 hasMore
+     */
+    private static <T> PageVO<T> page(List<T> rows, Long current, Long size) {
+        long pageSize = size != null ? size : 10L;
+        List<T> records = rows != null ? rows : Collections.emptyList();
+        boolean more = records.size() > pageSize;
+        PageVO<T> pageVO = new PageVO<>();
+        pageVO.setRecords(more ? records.subList(0, (int) pageSize) : records);
+        pageVO.setCurrent(current != null ? current : 1L);
+        pageVO.setSize(pageSize);
+        pageVO.setHasMore(more);
+        return pageVO;
+    }
+
+    /**
+     * 转换记录类型，分页信息保持不变
+     * 立即转换全部记录
+     *
+     * @param mapper 转换函数
+     * @param <R>    转换后的记录类型
+     * @return 新的分页结果
+     */
+    public <R> PageVO<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = new ArrayList<>(getCurrentPageSize());
+        if (records != null) {
+            for (T record : records) {
+                mapped.add(mapper.apply(record));
+            }
+        }
+        return withRecords(mapped);
+    }
+
+    /**
+     * 转换记录类型，分页信息保持不变
+     * 返回按需转换的只读视图，只有被读取的记录才会调用转换函数；
+     * 转换函数在读取时执行，不应依赖已关闭的资源
+     *
+     * @param mapper 转换函数
+     * @param <R>    转换后的记录类型
+     * @return 新的分页结果
+     */
+    public <R> PageVO<R> mapLazy(Function<? super T, ? extends R> mapper) {
+        if (records == null) {
+            return withRecords(null);
+        }
+        return withRecords(new MappedRecordList<>(records, mapper));
+    }
+
+    /**
+     * 转换记录类型，分页信息保持不变
+     * 在公共 ForkJoinPool 上并行转换，适用于转换开销较大且记录较多的页面
+     *
+     * @param mapper 转换函数，须线程安全
+     * @param <R>    转换后的记录类型
+     * @return 新的分页结果
+     */
+    public <R> PageVO<R> mapParallel(Function<? super T, ? extends R> mapper) {
+        if (records == null) {
+            return withRecords(null);
+        }
+        List<R> mapped = records.parallelStream().<R>map(mapper).collect(ArrayList::new, List::add, List::addAll);
+        return withRecords(mapped);
+    }
+
+    /**
+     * 转换记录类型，分页信息保持不变
+     * 记录按处理器数量分段，在指定执行器上并行转换
+     *
+     * @param mapper   转换函数，须线程安全
+     * @param executor 执行器
+     * @param <R>      转换后的记录类型
+     * @return 新的分页结果
+     */
+    @SuppressWarnings("unchecked")
+    public <R> PageVO<R> mapParallel(Function<? super T, ? extends R> mapper, Executor executor) {
+        if (records == null) {
+            return withRecords(null);
+        }
+        List<T> source = records;
+        int count = source.size();
+        Object[] mapped = new Object[count];
+        int chunks = Math.max(1, Math.min(count, Runtime.getRuntime().availableProcessors()));
+        int chunkSize = (count + chunks - 1) / Math.max(1, chunks);
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int from = chunk * chunkSize;
+            int to = Math.min(count, from + chunkSize);
+            tasks[chunk] = CompletableFuture.runAsync(() -> {
+                for (int i = from; i < to; i++) {
+                    mapped[i] = mapper.apply(source.get(i));
+                }
+            }, executor);
+        }
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return withRecords((List<R>) Arrays.asList(mapped));
+    }
+
+    /**
+     * 复制分页信息并替换记录
+     */
+    private <R> PageVO<R> withRecords(List<R> mapped) {
+        PageVO<R> pageVO = new PageVO<>();
+        pageVO.setRecords(mapped);
+        pageVO.setTotal(total);
+        pageVO.setCurrent(current);
+        pageVO.setSize(size);
+        pageVO.setPages(pages);
+        pageVO.setCountMode(countMode);
+        pageVO.setHasMore(hasMore);
         return pageVO;
     }
 
@@ -131,6 +545,9 @@ public class PageVO<T> {
      * @return true if has next page
      */
     public boolean hasNext() {
+        if (hasMore != null) {
+            return hasMore;
+        }
         return current != null && pages != null && current < pages;
     }
 
@@ -167,6 +584,9 @@ public class PageVO<T> {
      * @return true if is last page
      */
     public boolean isLastPage() {
+        if (hasMore != null) {
+            return !hasMore;
+        }
         return current != null && pages != null && (current >= pages || pages == 0);
     }
 
@@ -195,4 +615,38 @@ public class PageVO<T> {
         PageVO<T> pageVO = empty();
         return ResultVO.success(pageVO);
     }
-}
\ No newline at end of file
+
+    /**
+     * countMode 的输出过滤器，EXACT 与null视为默认值不输出
+     */
+    static final class ExactCountModeFilter {
+
+        @Override
+        public boolean equals(Object value) {
+            return value == null || value == CountMode.EXACT;
+        }
+
+        @Override
+        public int hashCode() {
+            return CountMode.EXACT.hashCode();
+        }
+    }
+
+    /**
+     * 分页记录查询
+     *
+     * @param <T> 记录类型
+     */
+    @FunctionalInterface
+    public interface RecordsQuery<T> {
+
+        /**
+         * 查询记录
+         *
+         * @param offset 起始位置
+         * @param limit  最多返回的记录数
+         * @return 记录列表
+         */
+        List<T> fetch(long offset, long limit);
+    }
+}
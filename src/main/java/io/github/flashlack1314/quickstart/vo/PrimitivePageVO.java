@@ -0,0 +1,137 @@
+package io.github.flashlack1314.quickstart.vo;
+
+/**
+ * 基本类型字段的分页结果基类
+ * total、current、size、pages 使用 long 存储，构造与判断翻页时不产生装箱对象；
+ * 记录由子类以基本类型数组切片保存，序列化为 JSON 数组时不复制、不装箱。
+ *
+ * @author flash
+ * @see LongPageVO
+ * @see IntPageVO
+ */
+public abstract class PrimitivePageVO {
+
+    /**
+     * 总记录数
+     */
+    private final long total;
+
+    /**
+     * 当前页码
+     */
+    private final long current;
+
+    /**
+     * 每页大小
+     */
+    private final long size;
+
+    /**
+     * 总页数
+     */
+    private final long pages;
+
+    /**
+     * 构造函数
+     *
+     * @param total   总记录数
+     * @param current 当前页码
+     * @param size    每页大小
+     */
+    protected PrimitivePageVO(long total, long current, long size) {
+        this.total = Math.max(0, total);
+        this.current = current > 0 ? current : 1;
+        this.size = Math.max(0, size);
+        this.pages = this.size == 0 ? 0 : (this.total + this.size - 1) / this.size;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getCurrent() {
+        return current;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getPages() {
+        return pages;
+    }
+
+    /**
+     * 获取当前页数据量
+     *
+     * @return 当前页记录数
+     */
+    public abstract int getCurrentPageSize();
+
+    /**
+     * 判断是否为空结果
+     *
+     * @return true if the page has no records
+     */
+    public boolean isEmpty() {
+        return getCurrentPageSize() == 0;
+    }
+
+    /**
+     * 判断是否有下一页
+     *
+     * @return true if has next page
+     */
+    public boolean hasNext() {
+        return current < pages;
+    }
+
+    /**
+     * 判断是否有上一页
+     *
+     * @return true if has previous page
+     */
+    public boolean hasPrevious() {
+        return current > 1;
+    }
+
+    /**
+     * 判断是否为第一页
+     *
+     * @return true if is first page
+     */
+    public boolean isFirstPage() {
+        return current <= 1;
+    }
+
+    /**
+     * 判断是否为最后一页
+     *
+     * @return true if is last page
+     */
+    public boolean isLastPage() {
+        return current >= pages;
+    }
+
+    /**
+     * 计算当前页在全部数据中的起止位置
+     * 页码过大时返回 length（空页），不会因乘法溢出得到负数位置
+     *
+     * @param length  全部数据长度
+     * @param current 当前页码
+     * @param size    每页大小
+     * @return 起始位置
+     */
+    static int sliceFrom(int length, long current, long size) {
+        long pageIndex = Math.max(1, current) - 1;
+        long pageSize = Math.max(0, size);
+        if (pageSize == 0) {
+            return 0;
+        }
+        return pageIndex > length / pageSize ? length : (int) Math.min(length, pageIndex * pageSize);
+    }
+
+    static int sliceTo(int length, int from, long size) {
+        return from + (int) Math.min(length - from, Math.max(0, size));
+    }
+}
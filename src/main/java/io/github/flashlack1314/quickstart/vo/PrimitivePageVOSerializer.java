@@ -0,0 +1,47 @@
+package io.github.flashlack1314.quickstart.vo;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * {@link PrimitivePageVO} 的 JSON 序列化器
+ * 直接输出基本类型数组切片，字段与精确统计的 {@link PageVO} 一致：
+ * 基本类型分页总是精确统计，因此与 PageVO 一样不输出 countMode 与 hasMore
+ *
+ * @author flash
+ */
+public class PrimitivePageVOSerializer extends StdSerializer<PrimitivePageVO> {
+
+    /**
+     * 构造函数
+     */
+    public PrimitivePageVOSerializer() {
+        super(PrimitivePageVO.class);
+    }
+
+    @Override
+    public void serialize(PrimitivePageVO page, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName("records");
+        if (page instanceof LongPageVO longPage) {
+            generator.writeArray(longPage.array(), longPage.offset(), longPage.getCurrentPageSize());
+        } else if (page instanceof IntPageVO intPage) {
+            generator.writeArray(intPage.array(), intPage.offset(), intPage.getCurrentPageSize());
+        } else {
+            generator.writeStartArray();
+            generator.writeEndArray();
+        }
+        generator.writeNumberField("total", page.getTotal());
+        generator.writeNumberField("current", page.getCurrent());
+        generator.writeNumberField("size", page.getSize());
+        generator.writeNumberField("pages", page.getPages());
+        generator.writeBooleanField("empty", page.isEmpty());
+        generator.writeNumberField("currentPageSize", page.getCurrentPageSize());
+        generator.writeBooleanField("firstPage", page.isFirstPage());
+        generator.writeBooleanField("lastPage", page.isLastPage());
+        generator.writeEndObject();
+    }
+}
@@ -1,10 +1,15 @@
 package io.github.flashlack1314.quickstart.vo;
 
+import io.github.flashlack1314.quickstart.exception.ErrorCode;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.experimental.Accessors;
 
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
 /**
  * 统一响应结果类 (Result Value Object)
  * 用于封装API响应数据，提供统一的响应格式
@@ -18,6 +23,16 @@ import lombok.experimental.Accessors;
 @Accessors(chain = true)
 public class ResultVO<T> {
 
+    /**
+     * 成功状态码，复用同一个 Integer 实例（200 不在 Integer 缓存范围内）
+     */
+    private static final Integer SUCCESS_CODE = 200;
+
+    /**
+     * 默认失败状态码
+     */
+    private static final Integer ERROR_CODE = 500;
+
     /**
      * 响应状态码
      * 200: 成功
@@ -42,7 +57,7 @@ public class ResultVO<T> {
      */
     public static <T> ResultVO<T> success() {
         ResultVO<T> result = new ResultVO<>();
-        result.setCode(200);
+        result.setCode(SUCCESS_CODE);
         result.setMessage("success");
         return result;
     }
@@ -55,7 +70,7 @@ public class ResultVO<T> {
      */
     public static <T> ResultVO<T> success(T data) {
         ResultVO<T> result = new ResultVO<>();
-        result.setCode(200);
+        result.setCode(SUCCESS_CODE);
         result.setMessage("success");
         result.setData(data);
         return result;
@@ -69,7 +84,7 @@ public class ResultVO<T> {
      */
     public static <T> ResultVO<T> error(String message) {
         ResultVO<T> result = new ResultVO<>();
-        result.setCode(500);
+        result.setCode(ERROR_CODE);
         result.setMessage(message);
         return result;
     }
@@ -87,4 +102,59 @@ public class ResultVO<T> {
         result.setMessage(message);
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * 错误响应（错误码）
+     *
+     * @param errorCode 错误码
+     * @return 错误响应结果
+     */
+    public static <T> ResultVO<T> error(ErrorCode errorCode) {
+        return error(errorCode.getCode(), errorCode.getMessage());
+    }
+
+    /**
+     * 不可变响应（不带数据）
+     * 适用于缓存复用的常量响应，调用任何setter都会抛出 {@link UnsupportedOperationException}
+     *
+     * @param code    响应状态码
+     * @param message 响应消息
+     * @return 不可变响应结果
+     */
+    public static <T> ResultVO<T> immutable(Integer code, String message) {
+        return new ImmutableResultVO<>(code, message);
+    }
+
+    /**
+     * 流式成功响应（Stream数据）
+     * 输出结束后关闭该Stream
+     *
+     * @param data 数据流
+     * @return 流式响应结果
+     */
+    public static <T> StreamingResultVO<T> stream(Stream<T> data) {
+        return StreamingResultVO.of(data);
+    }
+
+    /**
+     * 流式成功响应（迭代器数据）
+     * 迭代器实现 {@link AutoCloseable} 时，输出结束后关闭该迭代器
+     *
+     * @param data 数据迭代器
+     * @return 流式响应结果
+     */
+    public static <T> StreamingResultVO<T> stream(Iterator<T> data) {
+        return StreamingResultVO.of(data);
+    }
+
+    /**
+     * 流式成功响应（游标数据）
+     * 游标每次返回一条数据，返回null表示结束；游标实现 {@link AutoCloseable} 时，输出结束后关闭该游标
+     *
+     * @param cursor 数据游标
+     * @return 流式响应结果
+     */
+    public static <T> StreamingResultVO<T> stream(Supplier<T> cursor) {
+        return StreamingResultVO.of(cursor);
+    }
+}
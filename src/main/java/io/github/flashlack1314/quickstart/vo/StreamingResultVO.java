@@ -0,0 +1,88 @@
+package io.github.flashlack1314.quickstart.vo;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 流式响应结果
+ * 数据以迭代器形式逐条产生，由流式写出器边读取边输出，不需要一次性把全部数据加载到内存。
+ * 数据只能被消费一次，消费结束或失败后应调用 {@link #close()} 释放底层资源（如数据库游标）。
+ *
+ * @param <T> 数据元素的泛型类型
+ * @author flash
+ * @see ResultVO#stream(Stream)
+ */
+public class StreamingResultVO<T> extends ResultVO<Iterator<T>> implements AutoCloseable {
+
+    /**
+     * 底层资源的关闭操作
+     */
+    private final AutoCloseable onClose;
+
+    StreamingResultVO(Iterator<T> data, AutoCloseable onClose) {
+        super(200, "success", data);
+        this.onClose = onClose;
+    }
+
+    static <T> StreamingResultVO<T> of(Stream<T> stream) {
+        return new StreamingResultVO<>(stream.iterator(), stream);
+    }
+
+    static <T> StreamingResultVO<T> of(Iterator<T> iterator) {
+        return new StreamingResultVO<>(iterator, iterator instanceof AutoCloseable closeable ? closeable : null);
+    }
+
+    static <T> StreamingResultVO<T> of(Supplier<T> cursor) {
+        return new StreamingResultVO<>(new CursorIterator<>(cursor),
+                cursor instanceof AutoCloseable closeable ? closeable : null);
+    }
+
+    /**
+     * 释放底层资源，可重复调用
+     *
+     * @throws Exception 关闭失败
+     */
+    @Override
+    public void close() throws Exception {
+        if (onClose != null) {
+            onClose.close();
+        }
+    }
+
+    /**
+     * 将游标适配为迭代器，游标返回null表示数据结束
+     */
+    private static final class CursorIterator<T> implements Iterator<T> {
+
+        private final Supplier<T> cursor;
+
+        private T next;
+
+        private boolean done;
+
+        private CursorIterator(Supplier<T> cursor) {
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                next = cursor.get();
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T current = next;
+            next = null;
+            return current;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.flashlack1314.quickstart.web;
+
+import io.github.flashlack1314.quickstart.metrics.LatencyMetrics;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 接口延迟记录过滤器
+ * 记录每个请求从进入过滤器到处理完成的耗时，按处理器类型、处理方法与响应错误码计入 {@link LatencyMetrics}，
+ * 继承自公共父类控制器的方法按子类分别统计。
+ * <p>
+ * 错误码优先取 {@link ResultCodeCaptureAdvice} 记录的 ResultVO 错误码，没有时使用HTTP状态码；
+ * 异常未被处理而抛出过滤器时按500记录。未匹配到处理方法的请求（静态资源、404）与异步请求不记录。
+ * 开始时间保存在局部变量中，记录过程不产生新对象。
+ *
+ * @author flash
+ */
+public class LatencyRecordingFilter implements Filter {
+
+    private final LatencyMetrics latencyMetrics;
+
+    /**
+     * 构造函数
+     *
+     * @param latencyMetrics 接口延迟统计
+     */
+    public LatencyRecordingFilter(LatencyMetrics latencyMetrics) {
+        this.latencyMetrics = latencyMetrics;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!request.isAsyncStarted()) {
+                record(request, response, failed, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void record(ServletRequest request, ServletResponse response, boolean failed, long nanos) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler)) {
+            return;
+        }
+        int code;
+        if (failed) {
+            code = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        } else if (request.getAttribute(ResultCodeCaptureAdvice.RESULT_CODE_ATTRIBUTE) instanceof Integer resultCode) {
+            code = resultCode;
+        } else {
+            code = response instanceof HttpServletResponse http ? http.getStatus() : HttpServletResponse.SC_OK;
+        }
+        latencyMetrics.record(ClassUtils.getUserClass(handler.getBeanType()), handler.getMethod(), code, nanos);
+    }
+}
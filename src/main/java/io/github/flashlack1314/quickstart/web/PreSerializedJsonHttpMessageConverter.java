@@ -0,0 +1,65 @@
+package io.github.flashlack1314.quickstart.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 支持预序列化常量响应的 JSON 消息转换器
+ * 常量响应直接写入预编码的字节并设置 Content-Length，其余响应仍由 Jackson 序列化
+ *
+ * @author flash
+ */
+public class PreSerializedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final PreSerializedResponses responses;
+
+    /**
+     * 构造函数
+     *
+     * @param objectMapper JSON序列化器，常量响应同样用它编码
+     */
+    public PreSerializedJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+        this.responses = new PreSerializedResponses(objectMapper);
+    }
+
+    /**
+     * 获取预序列化的常量响应
+     *
+     * @return 常量响应
+     */
+    public PreSerializedResponses getResponses() {
+        return responses;
+    }
+
+    @Override
+    protected Long getContentLength(Object object, MediaType contentType) throws IOException {
+        byte[] bytes = encoded(object, contentType);
+        return bytes != null ? Long.valueOf(bytes.length) : super.getContentLength(object, contentType);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        byte[] bytes = encoded(object, outputMessage.getHeaders().getContentType());
+        if (bytes != null) {
+            outputMessage.getBody().write(bytes);
+            return;
+        }
+        super.writeInternal(object, type, outputMessage);
+    }
+
+    private byte[] encoded(Object object, MediaType contentType) {
+        Charset charset = contentType != null ? contentType.getCharset() : null;
+        if (charset != null && !StandardCharsets.UTF_8.equals(charset)) {
+            return null;
+        }
+        return responses.lookup(object);
+    }
+}
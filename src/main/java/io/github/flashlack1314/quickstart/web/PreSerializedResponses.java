@@ -0,0 +1,74 @@
+package io.github.flashlack1314.quickstart.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.flashlack1314.quickstart.exception.ErrorCodeRegistry;
+import io.github.flashlack1314.quickstart.vo.PageVO;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 预序列化的常量响应
+ * 启动时用应用的 {@link ObjectMapper} 把常量响应编码为 UTF-8 字节，
+ * 之后相同内容的响应直接输出这些字节，不再经过 JSON 序列化
+ * <p>
+ * 默认包含 {@link ResultVO#success()}、{@link PageVO#emptyResult()} 以及
+ * 创建时 {@link ErrorCodeRegistry} 中已缓存的全部错误响应；其他常量可通过 {@link #register(ResultVO)} 追加。
+ *
+ * @author flash
+ */
+public class PreSerializedResponses {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 常量响应到编码结果的映射，按 ResultVO 的内容匹配
+     */
+    private final Map<ResultVO<?>, byte[]> encoded = new ConcurrentHashMap<>();
+
+    /**
+     * 构造函数
+     *
+     * @param objectMapper JSON序列化器
+     */
+    public PreSerializedResponses(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        register(ResultVO.success());
+        register(PageVO.emptyResult());
+        ErrorCodeRegistry.responses().forEach(this::register);
+    }
+
+    /**
+     * 注册常量响应
+     * 注册后不应再修改该响应对象
+     *
+     * @param response 常量响应
+     */
+    public void register(ResultVO<?> response) {
+        try {
+            encoded.put(response, objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("常量响应序列化失败: " + response, e);
+        }
+    }
+
+    /**
+     * 查找响应体对应的预编码字节
+     * 只有不带数据或带空分页数据的 ResultVO 才会查找，其余响应直接返回null
+     *
+     * @param body 响应体
+     * @return UTF-8 JSON 字节，不是已注册的常量响应时返回null
+     */
+    public byte[] lookup(Object body) {
+        if (!(body instanceof ResultVO<?> result)) {
+            return null;
+        }
+        Object data = result.getData();
+        if (data != null && !(data instanceof PageVO<?> page && page.isEmpty())) {
+            return null;
+        }
+        return encoded.get(result);
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.flashlack1314.quickstart.web;
+
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 将 MVC 中的 Jackson 消息转换器替换为 {@link PreSerializedJsonHttpMessageConverter}
+ * 沿用原转换器的 {@link com.fasterxml.jackson.databind.ObjectMapper}、支持的媒体类型与默认字符集，序列化结果保持一致；
+ * 只替换 MappingJackson2HttpMessageConverter 本身，用户自定义的子类保持不变
+ *
+ * @author flash
+ */
+public class PreSerializedResponsesConfigurer implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            HttpMessageConverter<?> converter = converters.get(i);
+            if (converter.getClass() == MappingJackson2HttpMessageConverter.class) {
+                MappingJackson2HttpMessageConverter jackson = (MappingJackson2HttpMessageConverter) converter;
+                PreSerializedJsonHttpMessageConverter replacement =
+                        new PreSerializedJsonHttpMessageConverter(jackson.getObjectMapper());
+                replacement.setSupportedMediaTypes(jackson.getSupportedMediaTypes());
+                replacement.setDefaultCharset(jackson.getDefaultCharset());
+                converters.set(i, replacement);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.flashlack1314.quickstart.web;
+
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 响应错误码记录
+ * 将控制器与异常处理器返回的 {@link ResultVO} 错误码保存为请求属性，供 {@link LatencyRecordingFilter} 按错误码统计延迟。
+ * <p>
+ * 只读取响应体，不修改；由 {@link ResultWrappingAdvice} 包装的成功结果若在本类之后处理，则按HTTP状态码记录，两者一致。
+ *
+ * @author flash
+ */
+@ControllerAdvice
+public class ResultCodeCaptureAdvice implements ResponseBodyAdvice<Object> {
+
+    /**
+     * 保存 ResultVO 错误码的请求属性名
+     */
+    public static final String RESULT_CODE_ATTRIBUTE = ResultCodeCaptureAdvice.class.getName() + ".CODE";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof ResultVO<?> result && result.getCode() != null
+                && request instanceof ServletServerHttpRequest servletRequest) {
+            servletRequest.getServletRequest().setAttribute(RESULT_CODE_ATTRIBUTE, result.getCode());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,193 @@
+package io.github.flashlack1314.quickstart.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 响应格式统一
+ * 将控制器返回的原始结果自动包装为 {@link ResultVO#success(Object)}。
+ * <p>
+ * 是否包装按控制器类与处理方法判断一次后缓存，之后每次请求只做两次缓存查找；
+ * 同一个继承来的方法在不同子类控制器中分别判断：
+ * <ul>
+ *     <li>方法或控制器标注 {@link SkipResultWrapping} 时不包装</li>
+ *     <li>返回类型已是 {@link ResultVO}、{@link HttpEntity}、{@link Resource} 或 byte[] 时不包装</li>
+ *     <li>Spring 自身的控制器（如错误页、Actuator）与排除包下的控制器（如 springdoc）不包装</li>
+ *     <li>返回 String 时由 {@link StringHttpMessageConverter} 输出，需先将 ResultVO 序列化为 JSON 字符串</li>
+ * </ul>
+ * 声明为 Object 等宽泛类型的方法在运行时返回 ResultVO 时同样不会重复包装。
+ *
+ * @author flash
+ */
+@ControllerAdvice
+public class ResultWrappingAdvice implements ResponseBodyAdvice<Object> {
+
+    /**
+     * 默认排除的第三方控制器包
+     */
+    public static final List<String> DEFAULT_EXCLUDED_PACKAGES = List.of("org.springdoc", "springfox");
+
+    /**
+     * 始终排除的包，其中的控制器（错误页、Actuator 等）有自己的响应格式
+     */
+    private static final String SPRING_PACKAGE = "org.springframework.";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 排除的包前缀，均以"."结尾
+     */
+    private final String[] excludedPackages;
+
+    /**
+     * 控制器类到（处理方法到包装方式）的缓存
+     */
+    private final Map<Class<?>, Map<Method, Wrapping>> decisions = new ConcurrentHashMap<>();
+
+    /**
+     * 构造函数
+     * 排除 {@link #DEFAULT_EXCLUDED_PACKAGES} 中的控制器
+     *
+     * @param objectMapper JSON序列化器，用于 String 返回值
+     */
+    public ResultWrappingAdvice(ObjectMapper objectMapper) {
+        this(objectMapper, DEFAULT_EXCLUDED_PACKAGES);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param objectMapper     JSON序列化器，用于 String 返回值
+     * @param excludedPackages 不包装的控制器包，包含子包；Spring 自身的控制器始终不包装
+     */
+    public ResultWrappingAdvice(ObjectMapper objectMapper, Collection<String> excludedPackages) {
+        this.objectMapper = objectMapper;
+        this.excludedPackages = excludedPackages.stream()
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(name -> name.endsWith(".") ? name : name + ".")
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        Wrapping wrapping = decision(returnType);
+        return switch (wrapping) {
+            case SKIP -> false;
+            case OBJECT -> AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+            case STRING -> StringHttpMessageConverter.class.isAssignableFrom(converterType);
+        };
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof ResultVO<?>) {
+            return body;
+        }
+        ResultVO<Object> result = ResultVO.success(body);
+        if (decision(returnType) != Wrapping.STRING) {
+            return result;
+        }
+        try {
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("响应序列化失败", e);
+        }
+    }
+
+    /**
+     * 获取处理方法的包装方式
+     *
+     * @param returnType 处理方法返回值
+     * @return 包装方式
+     */
+    Wrapping decision(MethodParameter returnType) {
+        Method method = returnType.getMethod();
+        if (method == null) {
+            return Wrapping.SKIP;
+        }
+        Class<?> controller = returnType.getContainingClass();
+        Map<Method, Wrapping> byMethod = decisions.get(controller);
+        if (byMethod == null) {
+            byMethod = decisions.computeIfAbsent(controller, key -> new ConcurrentHashMap<>());
+        }
+        Wrapping wrapping = byMethod.get(method);
+        if (wrapping != null) {
+            return wrapping;
+        }
+        return byMethod.computeIfAbsent(method, key -> resolve(returnType));
+    }
+
+    private Wrapping resolve(MethodParameter returnType) {
+        Class<?> controller = returnType.getContainingClass();
+        if (isExcluded(controller.getName())
+                || returnType.hasMethodAnnotation(SkipResultWrapping.class)
+                || controller.isAnnotationPresent(SkipResultWrapping.class)) {
+            return Wrapping.SKIP;
+        }
+        Class<?> type = returnType.getParameterType();
+        if (ResultVO.class.isAssignableFrom(type)
+                || HttpEntity.class.isAssignableFrom(type)
+                || Resource.class.isAssignableFrom(type)
+                || ResourceRegion.class.isAssignableFrom(type)
+                || type == byte[].class) {
+            return Wrapping.SKIP;
+        }
+        return type == String.class ? Wrapping.STRING : Wrapping.OBJECT;
+    }
+
+    private boolean isExcluded(String className) {
+        if (className.startsWith(SPRING_PACKAGE)) {
+            return true;
+        }
+        for (String excludedPackage : excludedPackages) {
+            if (className.startsWith(excludedPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 包装方式
+     */
+    enum Wrapping {
+
+        /**
+         * 不包装
+         */
+        SKIP,
+
+        /**
+         * 包装为 ResultVO，由 JSON 转换器输出
+         */
+        OBJECT,
+
+        /**
+         * 包装为 ResultVO 后序列化为 JSON 字符串
+         */
+        STRING
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.flashlack1314.quickstart.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记不需要自动包装为 ResultVO 的控制器或处理方法
+ *
+ * @author flash
+ * @see ResultWrappingAdvice
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SkipResultWrapping {
+}
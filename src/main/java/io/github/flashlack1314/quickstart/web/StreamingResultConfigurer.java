@@ -0,0 +1,31 @@
+package io.github.flashlack1314.quickstart.web;
+
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 将 {@link StreamingResultHttpMessageConverter} 注册到 MVC 转换器列表首位，
+ * 使 {@link io.github.flashlack1314.quickstart.vo.StreamingResultVO} 不经过 Jackson 转换器一次性序列化
+ *
+ * @author flash
+ */
+public class StreamingResultConfigurer implements WebMvcConfigurer {
+
+    private final StreamingResultWriter writer;
+
+    /**
+     * 构造函数
+     *
+     * @param writer 流式响应写出器
+     */
+    public StreamingResultConfigurer(StreamingResultWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new StreamingResultHttpMessageConverter(writer));
+    }
+}
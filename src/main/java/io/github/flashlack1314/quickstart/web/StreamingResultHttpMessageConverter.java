@@ -0,0 +1,51 @@
+package io.github.flashlack1314.quickstart.web;
+
+import io.github.flashlack1314.quickstart.vo.StreamingResultVO;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * 流式响应消息转换器
+ * 通过 {@link StreamingResultWriter} 逐条输出 {@link StreamingResultVO}，只支持写出
+ *
+ * @author flash
+ */
+public class StreamingResultHttpMessageConverter extends AbstractHttpMessageConverter<StreamingResultVO<?>> {
+
+    private final StreamingResultWriter writer;
+
+    /**
+     * 构造函数
+     *
+     * @param writer 流式响应写出器
+     */
+    public StreamingResultHttpMessageConverter(StreamingResultWriter writer) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.writer = writer;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return StreamingResultVO.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected StreamingResultVO<?> readInternal(Class<? extends StreamingResultVO<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("流式响应不支持读取", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(StreamingResultVO<?> result, HttpOutputMessage outputMessage) throws IOException {
+        writer.write(result, outputMessage.getBody());
+    }
+}
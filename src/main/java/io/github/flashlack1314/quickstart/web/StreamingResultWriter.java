@@ -0,0 +1,160 @@
+package io.github.flashlack1314.quickstart.web;
+
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.flashlack1314.quickstart.handler.ExceptionLogger;
+import io.github.flashlack1314.quickstart.handler.ExceptionTranslator;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import io.github.flashlack1314.quickstart.vo.StreamingResultVO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * 流式响应写出器
+ * 先输出 {@code {"code":..,"message":..,"data":[}，再逐条序列化数据元素，
+ * 每输出 flushInterval 条刷新一次，内存中只保留生成器的缓冲区。
+ * <p>
+ * 输出以固定的结尾字段结束：
+ * <ul>
+ *     <li>成功：{@code ],"complete":true}}</li>
+ *     <li>读取或序列化数据时失败：{@code ],"complete":false,"error":{"code":..,"message":..}}}，
+ *     错误内容由 {@link ExceptionTranslator} 转换</li>
+ * </ul>
+ * 响应头在输出第一个字节时已经提交，客户端应以 complete 字段判断数据是否完整。
+ * 写入输出流本身失败（如客户端断开）时直接抛出 {@link IOException}。
+ *
+ * @author flash
+ */
+public class StreamingResultWriter {
+
+    /**
+     * 默认刷新间隔（元素数）
+     */
+    public static final int DEFAULT_FLUSH_INTERVAL = 256;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 元素序列化器，关闭每写一个值就刷新的默认行为，由写出器按间隔刷新
+     */
+    private final ObjectWriter elementWriter;
+
+    private final ExceptionTranslator exceptionTranslator;
+
+    private final ExceptionLogger exceptionLogger;
+
+    private final int flushInterval;
+
+    /**
+     * 构造函数
+     *
+     * @param objectMapper        JSON序列化器
+     * @param exceptionTranslator 异常转换器
+     * @param exceptionLogger     异常日志记录器，为null时不输出日志
+     * @param flushInterval       刷新间隔（元素数）
+     */
+    public StreamingResultWriter(ObjectMapper objectMapper, ExceptionTranslator exceptionTranslator,
+                                 ExceptionLogger exceptionLogger, int flushInterval) {
+        this.objectMapper = objectMapper;
+        this.elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.exceptionTranslator = exceptionTranslator;
+        this.exceptionLogger = exceptionLogger;
+        this.flushInterval = Math.max(1, flushInterval);
+    }
+
+    /**
+     * 输出流式响应，结束后关闭数据源，不关闭输出流
+     *
+     * @param result 流式响应
+     * @param out    输出流
+     * @return 成功输出的元素数
+     * @throws IOException 写入输出流失败
+     */
+    public long write(StreamingResultVO<?> result, OutputStream out) throws IOException {
+        try (result; JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeObjectField("code", result.getCode());
+            generator.writeStringField("message", result.getMessage());
+            generator.writeArrayFieldStart("data");
+            JsonStreamContext dataContext = generator.getOutputContext();
+
+            long count = 0;
+            Throwable failure = null;
+            try {
+                Iterator<?> data = result.getData();
+                while (data != null && data.hasNext()) {
+                    elementWriter.writeValue(generator, data.next());
+                    if (++count % flushInterval == 0) {
+                        generator.flush();
+                    }
+                }
+            } catch (RuntimeException | JsonProcessingException e) {
+                failure = e;
+                unwind(generator, dataContext);
+            }
+
+            generator.writeEndArray();
+            generator.writeBooleanField("complete", failure == null);
+            if (failure != null) {
+                writeError(generator, failure);
+            }
+            generator.writeEndObject();
+            generator.flush();
+            return count;
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("流式响应数据源关闭失败", e);
+        }
+    }
+
+    private void writeError(JsonGenerator generator, Throwable failure) throws IOException {
+        ExceptionTranslator.Translation translation = exceptionTranslator.resolve(failure.getClass());
+        ResultVO<Void> error = translation.apply(failure);
+        if (exceptionLogger != null) {
+            exceptionLogger.log(translation.getLabel(), error.getCode(), failure);
+        }
+        generator.writeObjectFieldStart("error");
+        generator.writeObjectField("code", error.getCode());
+        generator.writeStringField("message", error.getMessage());
+        generator.writeEndObject();
+    }
+
+    /**
+     * 关闭序列化失败的元素中尚未结束的对象与数组，回到 data 数组层级
+     * 对象中已写出字段名但未写出值时先补写null，保证输出仍是合法的 JSON
+     */
+    private static void unwind(JsonGenerator generator, JsonStreamContext dataContext) throws IOException {
+        while (generator.getOutputContext() != dataContext) {
+            JsonStreamContext context = generator.getOutputContext();
+            if (context.inObject()) {
+                completePendingField(generator);
+                generator.writeEndObject();
+            } else if (context.inArray()) {
+                generator.writeEndArray();
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 为已写出字段名的字段补写null
+     * 生成器在输出任何内容之前校验是否有待写值的字段名，没有时写入null直接失败，不影响已有输出
+     */
+    private static void completePendingField(JsonGenerator generator) throws IOException {
+        try {
+            generator.writeNull();
+        } catch (JsonGenerationException e) {
+            // 没有待写值的字段名
+        }
+    }
+}
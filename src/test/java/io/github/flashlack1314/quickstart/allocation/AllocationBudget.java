@@ -0,0 +1,91 @@
+package io.github.flashlack1314.quickstart.allocation;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 单次操作分配字节数的测量工具
+ * 通过 {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)} 读取当前线程的累计分配量，
+ * 先预热使 JIT 完成编译与逃逸分析，再取多次执行的平均值。
+ * 预算是上限：JIT 只会减少分配，超出预算说明代码路径新增了对象。
+ *
+ * @author flash
+ */
+final class AllocationBudget {
+
+    /**
+     * 预热次数
+     */
+    private static final int WARMUP_ITERATIONS = 50_000;
+
+    /**
+     * 测量次数
+     */
+    private static final int MEASURE_ITERATIONS = 100_000;
+
+    /**
+     * 测量轮数，取最小值以排除偶发的类加载、缓存扩容等一次性分配
+     */
+    private static final int ROUNDS = 3;
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    /**
+     * 保存操作结果，避免被 JIT 当作无用代码消除
+     */
+    private static volatile Object sink;
+
+    private AllocationBudget() {
+    }
+
+    /**
+     * 断言单次操作的平均分配字节数不超过预算
+     *
+     * @param name      操作名称，用于失败信息
+     * @param budget    预算（字节）
+     * @param operation 被测操作
+     */
+    static void assertWithinBudget(String name, long budget, Supplier<?> operation) {
+        double allocated = bytesPerOperation(operation);
+        if (allocated > budget) {
+            fail(String.format("%s 每次操作分配 %.1f 字节，超出预算 %d 字节", name, allocated, budget));
+        }
+    }
+
+    /**
+     * 测量单次操作的平均分配字节数
+     *
+     * @param operation 被测操作
+     * @return 平均分配字节数
+     */
+    static double bytesPerOperation(Supplier<?> operation) {
+        assumeTrue(THREADS != null && THREADS.isThreadAllocatedMemorySupported(),
+                "当前 JVM 不支持线程分配统计");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = THREADS.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+                sink = operation.get();
+            }
+            long after = THREADS.getThreadAllocatedBytes(threadId);
+            best = Math.min(best, (double) (after - before) / MEASURE_ITERATIONS);
+        }
+        sink = null;
+        return best;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads) {
+            return threads;
+        }
+        return null;
+    }
+}
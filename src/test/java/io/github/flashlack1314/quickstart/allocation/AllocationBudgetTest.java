@@ -0,0 +1,125 @@
+package io.github.flashlack1314.quickstart.allocation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.flashlack1314.quickstart.exception.BusinessException;
+import io.github.flashlack1314.quickstart.exception.CommonErrorCode;
+import io.github.flashlack1314.quickstart.exception.ErrorCodeRegistry;
+import io.github.flashlack1314.quickstart.handler.ExceptionLogger;
+import io.github.flashlack1314.quickstart.handler.GlobalExceptionHandler;
+import io.github.flashlack1314.quickstart.metrics.LatencyMetrics;
+import io.github.flashlack1314.quickstart.properties.QuickStartBootKitProperties;
+import io.github.flashlack1314.quickstart.vo.PageVO;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import io.github.flashlack1314.quickstart.web.PreSerializedResponses;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.helpers.NOPLogger;
+
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static io.github.flashlack1314.quickstart.allocation.AllocationBudget.assertWithinBudget;
+
+/**
+ * 请求与异常路径的分配预算测试
+ * 预算按 64 位 JVM、压缩指针实测，超出预算时构建失败；
+ * 有意增加分配的改动应同时更新预算并在提交中说明原因。
+ * <p>
+ * 结果依赖 C2 的逃逸分析，标记为 allocation 分组，由 surefire 的 allocation-budgets 执行
+ * 在默认构建的 test 阶段以 -XX:-TieredCompilation 单独运行。
+ * 零分配路径的预算为 16 字节，不足以容纳任何新增对象。
+ *
+ * @author flash
+ */
+@Tag("allocation")
+class AllocationBudgetTest {
+
+    private final List<Long> records = List.of(1_000_000_001L, 1_000_000_002L);
+
+    private final Long total = 12_345L;
+
+    private final Long current = 300L;
+
+    private final Long size = 20L;
+
+    private final Integer code = 40401;
+
+    @Test
+    void testResultVOSuccess() {
+        // ResultVO 对象本身：对象头 + 3 个引用
+        assertWithinBudget("ResultVO.success", 24, () -> ResultVO.success(records));
+    }
+
+    @Test
+    void testResultVOError() {
+        assertWithinBudget("ResultVO.error", 24, () -> ResultVO.error(code, "订单不存在"));
+    }
+
+    @Test
+    void testCachedErrorResponse() {
+        assertWithinBudget("ErrorCodeRegistry.response", 16,
+                () -> ErrorCodeRegistry.response(CommonErrorCode.BAD_REQUEST));
+    }
+
+    @Test
+    void testPageVOOf() {
+        // PageVO 对象 + 装箱的总页数
+        assertWithinBudget("PageVO.of", 64, () -> PageVO.of(records, total, current, size));
+    }
+
+    @Test
+    void testGlobalExceptionHandlerWithStaticMessage() {
+        GlobalExceptionHandler handler = handler();
+        BusinessException exception = new BusinessException(CommonErrorCode.BAD_REQUEST);
+
+        assertWithinBudget("GlobalExceptionHandler(错误码异常)", 16, () -> handler.handleBusinessException(exception));
+    }
+
+    @Test
+    void testGlobalExceptionHandlerWithMessage() {
+        GlobalExceptionHandler handler = handler();
+        BusinessException exception = new BusinessException(code, "订单不存在");
+
+        assertWithinBudget("GlobalExceptionHandler(自定义消息异常)", 24, () -> handler.handleBusinessException(exception));
+    }
+
+    @Test
+    void testEnvelopeSerialization() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ResultVO<List<Long>> result = ResultVO.success(records);
+
+        assertWithinBudget("ResultVO 序列化", 640, () -> {
+            try {
+                return objectMapper.writeValueAsBytes(result);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Test
+    void testPreSerializedLookup() {
+        ResultVO<Void> response = ErrorCodeRegistry.response(CommonErrorCode.BAD_REQUEST);
+        PreSerializedResponses responses = new PreSerializedResponses(new ObjectMapper());
+
+        assertWithinBudget("PreSerializedResponses.lookup", 16, () -> responses.lookup(response));
+    }
+
+    @Test
+    void testLatencyRecording() throws NoSuchMethodException {
+        LatencyMetrics metrics = new LatencyMetrics();
+        Method method = ResultVO.class.getMethod("success", Object.class);
+        metrics.record(ResultVO.class, method, code, 1_000L);
+
+        assertWithinBudget("LatencyMetrics.record", 16, () -> {
+            metrics.record(ResultVO.class, method, code, 1_000L);
+            return null;
+        });
+    }
+
+    private static GlobalExceptionHandler handler() {
+        return new GlobalExceptionHandler(new ExceptionLogger(NOPLogger.NOP_LOGGER, new QuickStartBootKitProperties.Logging()));
+    }
+}
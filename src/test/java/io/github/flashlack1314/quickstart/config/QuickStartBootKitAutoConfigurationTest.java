@@ -1,10 +1,26 @@
 package io.github.flashlack1314.quickstart.config;
 
+import io.github.flashlack1314.quickstart.exception.StackTracePolicy;
+import io.github.flashlack1314.quickstart.export.PageExporter;
+import io.github.flashlack1314.quickstart.handler.ExceptionTranslator;
 import io.github.flashlack1314.quickstart.handler.GlobalExceptionHandler;
+import io.github.flashlack1314.quickstart.handler.ReactiveGlobalExceptionHandler;
+import io.github.flashlack1314.quickstart.metrics.ExceptionMetrics;
+import io.github.flashlack1314.quickstart.metrics.LatencyMetrics;
+import io.github.flashlack1314.quickstart.page.PageCountCache;
 import io.github.flashlack1314.quickstart.properties.QuickStartBootKitProperties;
+import io.github.flashlack1314.quickstart.web.PreSerializedResponsesConfigurer;
+import io.github.flashlack1314.quickstart.web.ResultCodeCaptureAdvice;
+import io.github.flashlack1314.quickstart.web.ResultWrappingAdvice;
+import io.github.flashlack1314.quickstart.web.StreamingResultConfigurer;
+import io.github.flashlack1314.quickstart.web.StreamingResultWriter;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,9 +36,18 @@ class QuickStartBootKitAutoConfigurationTest {
             .withUserConfiguration(TestConfiguration.class)
             .withConfiguration(AutoConfigurations.of(QuickStartBootKitAutoConfiguration.class));
 
+    private final WebApplicationContextRunner webContextRunner = new WebApplicationContextRunner()
+            .withUserConfiguration(TestConfiguration.class)
+            .withConfiguration(AutoConfigurations.of(QuickStartBootKitAutoConfiguration.class));
+
+    @AfterEach
+    void tearDown() {
+        StackTracePolicy.reset();
+    }
+
     @Test
     void testGlobalExceptionHandlerAutoConfiguration() {
-        contextRunner.withPropertyValues("quickstart.bootkit.exception-handler=true")
+        webContextRunner.withPropertyValues("quickstart.bootkit.exception-handler=true")
                 .run(context -> {
                     assertThat(context).hasSingleBean(GlobalExceptionHandler.class);
                     assertThat(context).hasSingleBean(QuickStartBootKitProperties.class);
@@ -31,21 +56,153 @@ class QuickStartBootKitAutoConfigurationTest {
 
     @Test
     void testGlobalExceptionHandlerDisabled() {
-        contextRunner.withPropertyValues("quickstart.bootkit.exception-handler=false")
+        webContextRunner.withPropertyValues("quickstart.bootkit.exception-handler=false")
                 .run(context -> {
                     assertThat(context).doesNotHaveBean(GlobalExceptionHandler.class);
                     assertThat(context).hasSingleBean(QuickStartBootKitProperties.class);
+                    assertThat(context).hasSingleBean(ExceptionTranslator.class);
                 });
     }
 
     @Test
-    void testDefaultConfiguration() {
+    void testGlobalExceptionHandlerOnlyOnServletApplications() {
         contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(GlobalExceptionHandler.class);
+            assertThat(context).hasSingleBean(ExceptionTranslator.class);
+        });
+
+        new ReactiveWebApplicationContextRunner()
+                .withUserConfiguration(TestConfiguration.class)
+                .withConfiguration(AutoConfigurations.of(QuickStartBootKitAutoConfiguration.class))
+                .withPropertyValues("quickstart.bootkit.metrics.jmx=false")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(GlobalExceptionHandler.class);
+                    assertThat(context).hasSingleBean(ReactiveGlobalExceptionHandler.class);
+                });
+    }
+
+    @Test
+    void testDefaultConfiguration() {
+        webContextRunner.run(context -> {
             assertThat(context).hasSingleBean(GlobalExceptionHandler.class);
             assertThat(context).hasSingleBean(QuickStartBootKitProperties.class);
         });
     }
 
+    @Test
+    void testExceptionMetricsAutoConfiguration() {
+        webContextRunner.withPropertyValues("quickstart.bootkit.metrics.jmx=false")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ExceptionMetrics.class);
+                    assertThat(context.getBean(GlobalExceptionHandler.class).getExceptionMetrics())
+                            .isSameAs(context.getBean(ExceptionMetrics.class));
+                });
+    }
+
+    @Test
+    void testReactiveExceptionHandlerOnlyOnReactiveApplications() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(ReactiveGlobalExceptionHandler.class));
+
+        new ReactiveWebApplicationContextRunner()
+                .withUserConfiguration(TestConfiguration.class)
+                .withConfiguration(AutoConfigurations.of(QuickStartBootKitAutoConfiguration.class))
+                .withPropertyValues("quickstart.bootkit.metrics.jmx=false")
+                .run(context -> assertThat(context).hasSingleBean(ReactiveGlobalExceptionHandler.class));
+    }
+
+    @Test
+    void testPreSerializedResponsesOnlyOnServletApplications() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(PreSerializedResponsesConfigurer.class));
+
+        WebApplicationContextRunner webContextRunner = new WebApplicationContextRunner()
+                .withUserConfiguration(TestConfiguration.class)
+                .withConfiguration(AutoConfigurations.of(QuickStartBootKitAutoConfiguration.class))
+                .withPropertyValues("quickstart.bootkit.metrics.jmx=false");
+        webContextRunner.run(context -> assertThat(context).hasSingleBean(PreSerializedResponsesConfigurer.class));
+        webContextRunner.withPropertyValues("quickstart.bootkit.pre-serialized-responses=false")
+                .run(context -> assertThat(context).doesNotHaveBean(PreSerializedResponsesConfigurer.class));
+    }
+
+    @Test
+    void testResponseFormatConfiguration() {
+        WebApplicationContextRunner webContextRunner = new WebApplicationContextRunner()
+                .withUserConfiguration(TestConfiguration.class)
+                .withConfiguration(AutoConfigurations.of(QuickStartBootKitAutoConfiguration.class))
+                .withPropertyValues("quickstart.bootkit.metrics.jmx=false");
+        webContextRunner.run(context -> assertThat(context).doesNotHaveBean(ResultWrappingAdvice.class));
+        webContextRunner.withPropertyValues("quickstart.bootkit.response-format=true")
+                .run(context -> assertThat(context).hasSingleBean(ResultWrappingAdvice.class));
+        webContextRunner.withPropertyValues("quickstart.bootkit.response-format=false")
+                .run(context -> assertThat(context).doesNotHaveBean(ResultWrappingAdvice.class));
+    }
+
+    @Test
+    void testStreamingResultConfiguration() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(StreamingResultConfigurer.class));
+
+        new WebApplicationContextRunner()
+                .withUserConfiguration(TestConfiguration.class)
+                .withConfiguration(AutoConfigurations.of(QuickStartBootKitAutoConfiguration.class))
+                .withPropertyValues("quickstart.bootkit.metrics.jmx=false")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(StreamingResultWriter.class);
+                    assertThat(context).hasSingleBean(StreamingResultConfigurer.class);
+                });
+    }
+
+    @Test
+    void testLatencyMetricsConfiguration() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(LatencyMetrics.class));
+
+        WebApplicationContextRunner webContextRunner = new WebApplicationContextRunner()
+                .withUserConfiguration(TestConfiguration.class)
+                .withConfiguration(AutoConfigurations.of(QuickStartBootKitAutoConfiguration.class))
+                .withPropertyValues("quickstart.bootkit.metrics.jmx=false");
+        webContextRunner.run(context -> {
+            assertThat(context).hasSingleBean(LatencyMetrics.class);
+            assertThat(context).hasSingleBean(ResultCodeCaptureAdvice.class);
+            assertThat(context).hasBean("latencyRecordingFilter");
+            assertThat(context.getBean("latencyRecordingFilter")).isInstanceOf(FilterRegistrationBean.class);
+        });
+        webContextRunner.withPropertyValues("quickstart.bootkit.metrics.latency.enabled=false")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(LatencyMetrics.class);
+                    assertThat(context).doesNotHaveBean("latencyRecordingFilter");
+                });
+    }
+
+    @Test
+    void testPageCountCacheConfiguration() {
+        contextRunner.run(context -> assertThat(context).hasSingleBean(PageCountCache.class));
+        contextRunner.withPropertyValues("quickstart.bootkit.page.count-cache.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(PageCountCache.class));
+    }
+
+    @Test
+    void testPageExporterConfiguration() {
+        contextRunner.withPropertyValues("quickstart.bootkit.export.page-size=500")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(PageExporter.class);
+                    assertThat(context.getBean(QuickStartBootKitProperties.class).getExport().getPageSize())
+                            .isEqualTo(500L);
+                });
+    }
+
+    @Test
+    void testStackTracePolicyConfiguration() {
+        contextRunner.withPropertyValues(
+                        "quickstart.bootkit.exception.stack-trace.business=true",
+                        "quickstart.bootkit.exception.stack-trace.system=false")
+                .run(context -> {
+                    assertThat(StackTracePolicy.isBusiness()).isTrue();
+                    assertThat(StackTracePolicy.isParameter()).isFalse();
+                    assertThat(StackTracePolicy.isSystem()).isFalse();
+                });
+
+        assertThat(StackTracePolicy.isBusiness()).isFalse();
+        assertThat(StackTracePolicy.isSystem()).isTrue();
+    }
+
     @Configuration
     static class TestConfiguration {
         // 测试配置类
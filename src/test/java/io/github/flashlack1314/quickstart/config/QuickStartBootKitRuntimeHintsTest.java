@@ -0,0 +1,61 @@
+package io.github.flashlack1314.quickstart.config;
+
+import io.github.flashlack1314.quickstart.exception.BusinessException;
+import io.github.flashlack1314.quickstart.exception.CommonErrorCode;
+import io.github.flashlack1314.quickstart.metrics.ExceptionMetricsMXBean;
+import io.github.flashlack1314.quickstart.metrics.LatencyMetricsMXBean;
+import io.github.flashlack1314.quickstart.vo.LongPageVO;
+import io.github.flashlack1314.quickstart.vo.PageVO;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.annotation.ImportCandidates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * QuickStartBootKitRuntimeHints 测试类
+ *
+ * @author flash
+ */
+class QuickStartBootKitRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    QuickStartBootKitRuntimeHintsTest() {
+        new QuickStartBootKitRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void testResponseTypesAreSerializable() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ResultVO.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_PUBLIC_METHODS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(PageVO.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_PUBLIC_METHODS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(LongPageVO.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.github.flashlack1314.quickstart.vo.ImmutableResultVO")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.github.flashlack1314.quickstart.vo.PrimitivePageVOSerializer"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+    }
+
+    @Test
+    void testExceptionTypesAreRegistered() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(BusinessException.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(CommonErrorCode.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ExceptionMetricsMXBean.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(LatencyMetricsMXBean.class).test(hints));
+    }
+
+    @Test
+    void testRegisteredAsAutoConfiguration() {
+        assertTrue(ImportCandidates.load(AutoConfiguration.class, getClass().getClassLoader()).getCandidates()
+                .contains(QuickStartBootKitAutoConfiguration.class.getName()));
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.flashlack1314.quickstart.config;
+
+import io.github.flashlack1314.quickstart.thread.VirtualThreadPinningDetector;
+import io.github.flashlack1314.quickstart.thread.VirtualThreadTaskExecutor;
+import io.github.flashlack1314.quickstart.thread.VirtualThreadTaskScheduler;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VirtualThreadAutoConfiguration 测试类
+ *
+ * @author flash
+ */
+class VirtualThreadAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(VirtualThreadAutoConfiguration.class,
+                    TaskExecutionAutoConfiguration.class, TaskSchedulingAutoConfiguration.class));
+
+    @Test
+    void testDisabledByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(VirtualThreadTaskExecutor.class);
+            assertThat(context).doesNotHaveBean(VirtualThreadPinningDetector.class);
+            assertThat(context).hasSingleBean(ThreadPoolTaskExecutor.class);
+        });
+    }
+
+    @Test
+    void testApplicationTaskExecutorUsesVirtualThreads() {
+        contextRunner.withPropertyValues("quickstart.bootkit.virtual-threads.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(Executor.class);
+                    assertThat(context).hasBean("applicationTaskExecutor");
+                    assertThat(context).hasBean("taskExecutor");
+                    AsyncTaskExecutor executor = context.getBean(AsyncTaskExecutor.class);
+                    assertThat(executor.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS))
+                            .isTrue();
+                });
+    }
+
+    @Test
+    void testUserExecutorTakesPrecedence() {
+        contextRunner.withPropertyValues("quickstart.bootkit.virtual-threads.enabled=true")
+                .withBean("customExecutor", Executor.class, () -> Runnable::run)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(VirtualThreadTaskExecutor.class);
+                    assertThat(context).hasSingleBean(Executor.class);
+                });
+    }
+
+    @Test
+    void testSchedulerOnlyWithScheduling() {
+        contextRunner.withPropertyValues("quickstart.bootkit.virtual-threads.enabled=true")
+                .run(context -> assertThat(context).doesNotHaveBean(TaskScheduler.class));
+
+        contextRunner.withPropertyValues("quickstart.bootkit.virtual-threads.enabled=true")
+                .withUserConfiguration(SchedulingConfiguration.class)
+                .run(context -> {
+                    assertThat(context).hasSingleBean(TaskScheduler.class);
+                    assertThat(context).hasSingleBean(VirtualThreadTaskScheduler.class);
+                });
+    }
+
+    @Test
+    void testPinningDetector() {
+        contextRunner.withPropertyValues("quickstart.bootkit.virtual-threads.enabled=true")
+                .run(context -> assertThat(context).hasSingleBean(VirtualThreadPinningDetector.class));
+        contextRunner.withPropertyValues("quickstart.bootkit.virtual-threads.enabled=true",
+                        "quickstart.bootkit.virtual-threads.pinning-detector.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(VirtualThreadPinningDetector.class));
+    }
+
+    @Test
+    void testPinningDetectorRequiresJfr() {
+        contextRunner.withPropertyValues("quickstart.bootkit.virtual-threads.enabled=true")
+                .withClassLoader(new FilteredClassLoader("jdk.jfr."))
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).doesNotHaveBean(VirtualThreadPinningDetector.class);
+                });
+    }
+
+    @Test
+    void testTomcatCustomizerOnServletApplications() {
+        contextRunner.withPropertyValues("quickstart.bootkit.virtual-threads.enabled=true")
+                .run(context -> assertThat(context).doesNotHaveBean(TomcatProtocolHandlerCustomizer.class));
+
+        new WebApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(VirtualThreadAutoConfiguration.class))
+                .withPropertyValues("quickstart.bootkit.virtual-threads.enabled=true")
+                .run(context -> assertThat(context).hasSingleBean(TomcatProtocolHandlerCustomizer.class));
+    }
+
+    @Configuration
+    @EnableScheduling
+    static class SchedulingConfiguration {
+        // 启用定时任务
+    }
+}
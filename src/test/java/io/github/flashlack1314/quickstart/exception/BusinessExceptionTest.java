@@ -207,4 +207,20 @@ class BusinessExceptionTest {
         assertEquals("优惠券已过期", couponExpired.getMessage());
         assertEquals("超出购买限制", purchaseLimit.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStackTraceDisabledByDefault() {
+        BusinessException exception = new BusinessException("默认不带堆栈的业务异常");
+
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void testStackTraceEnabledPerInstance() {
+        Throwable cause = new RuntimeException("根本原因");
+        BusinessException exception = new BusinessException(500, "带堆栈的业务异常", cause, true);
+
+        assertTrue(exception.getStackTrace().length > 0);
+        assertEquals(cause, exception.getCause());
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.flashlack1314.quickstart.exception;
+
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ErrorCodeRegistry 测试类
+ *
+ * @author flash
+ */
+class ErrorCodeRegistryTest {
+
+    /**
+     * 测试用错误码
+     */
+    enum TestErrorCode implements ErrorCode {
+        USER_NOT_FOUND(1001, "用户不存在"),
+        DUPLICATE_CODE(1001, "重复的错误码");
+
+        private final Integer code;
+        private final String message;
+
+        TestErrorCode(Integer code, String message) {
+            this.code = code;
+            this.message = message;
+        }
+
+        @Override
+        public Integer getCode() {
+            return code;
+        }
+
+        @Override
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    @Test
+    void testResponseIsCachedPerErrorCode() {
+        ResultVO<Void> first = ErrorCodeRegistry.response(CommonErrorCode.INTERNAL_ERROR);
+        ResultVO<Void> second = ErrorCodeRegistry.response(CommonErrorCode.INTERNAL_ERROR);
+
+        assertSame(first, second);
+        assertEquals(500, first.getCode());
+        assertEquals("系统内部错误", first.getMessage());
+        assertNull(first.getData());
+    }
+
+    @Test
+    void testCachedResponseIsImmutable() {
+        ResultVO<Void> response = ErrorCodeRegistry.response(CommonErrorCode.BAD_REQUEST);
+
+        assertThrows(UnsupportedOperationException.class, () -> response.setCode(200));
+        assertThrows(UnsupportedOperationException.class, () -> response.setMessage("修改"));
+        assertThrows(UnsupportedOperationException.class, () -> response.setData(null));
+    }
+
+    @Test
+    void testFindRegisteredCode() {
+        ErrorCodeRegistry.register(TestErrorCode.values());
+
+        assertEquals(TestErrorCode.USER_NOT_FOUND, ErrorCodeRegistry.find(1001));
+        assertEquals(CommonErrorCode.BAD_REQUEST, ErrorCodeRegistry.find(400));
+        assertNull(ErrorCodeRegistry.find(null));
+        assertNull(ErrorCodeRegistry.find(-12345));
+    }
+
+    @Test
+    void testExceptionFromErrorCode() {
+        BusinessException exception = new BusinessException(TestErrorCode.USER_NOT_FOUND);
+
+        assertEquals(1001, exception.getCode());
+        assertEquals("用户不存在", exception.getMessage());
+        assertEquals(TestErrorCode.USER_NOT_FOUND, exception.getErrorCode());
+        assertTrue(exception.hasStaticMessage());
+    }
+
+    @Test
+    void testExceptionFromRawCodeHasNoErrorCode() {
+        ParameterException exception = new ParameterException(400, "参数错误");
+
+        assertNull(exception.getErrorCode());
+        assertFalse(exception.hasStaticMessage());
+    }
+}
@@ -253,4 +253,20 @@ class ParameterExceptionTest {
         assertEquals(message, exception.getMessage());
         assertTrue(exception.getMessage().length() > 200);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStackTraceDisabledByDefault() {
+        ParameterException exception = new ParameterException("默认不带堆栈的参数异常");
+
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void testStackTraceEnabledPerInstance() {
+        Throwable cause = new RuntimeException("根本原因");
+        ParameterException exception = new ParameterException(400, "带堆栈的参数异常", cause, true);
+
+        assertTrue(exception.getStackTrace().length > 0);
+        assertEquals(cause, exception.getCause());
+    }
+}
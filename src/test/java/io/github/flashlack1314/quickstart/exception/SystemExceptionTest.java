@@ -281,4 +281,19 @@ class SystemExceptionTest {
         assertEquals(longMessage.toString(), exception.getMessage());
         assertTrue(exception.getMessage().length() > 1000); // 降低断言要求
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStackTraceEnabledByDefault() {
+        SystemException exception = new SystemException("默认带堆栈的系统异常");
+
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+
+    @Test
+    void testStackTraceDisabledPerInstance() {
+        SystemException exception = new SystemException(500, "不带堆栈的系统异常", null, false);
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(500, exception.getCode());
+    }
+}
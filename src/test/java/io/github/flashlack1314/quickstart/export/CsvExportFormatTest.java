@@ -0,0 +1,62 @@
+package io.github.flashlack1314.quickstart.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CsvExportFormat 测试类
+ *
+ * @author flash
+ */
+class CsvExportFormatTest {
+
+    private final CsvExportFormat<Map<String, Object>> format = new CsvExportFormat<Map<String, Object>>()
+            .column("id", row -> row.get("id"))
+            .column("name", row -> row.get("name"));
+
+    @Test
+    void testWritesHeaderAndRows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExportFormat.RecordWriter<Map<String, Object>> writer = format.open(out);
+        writer.write(Map.of("id", 1, "name", "张三"));
+        writer.write(Map.of("id", 2, "name", "李四"));
+        writer.flush();
+
+        assertEquals("id,name\r\n1,张三\r\n2,李四\r\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testQuotesSpecialCharacters() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExportFormat.RecordWriter<Map<String, Object>> writer = format.open(out);
+        writer.write(Map.of("id", 1, "name", "a,b"));
+        writer.write(Map.of("id", 2, "name", "say \"hi\""));
+        writer.write(Map.of("id", 3, "name", "line1\nline2"));
+        writer.flush();
+
+        assertEquals("id,name\r\n1,\"a,b\"\r\n2,\"say \"\"hi\"\"\"\r\n3,\"line1\nline2\"\r\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testNullValueAndWithoutHeader() throws Exception {
+        CsvExportFormat<Map<String, Object>> noHeader = new CsvExportFormat<Map<String, Object>>()
+                .column("id", row -> row.get("id"))
+                .column("name", row -> row.get("name"))
+                .withoutHeader();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExportFormat.RecordWriter<Map<String, Object>> writer = noHeader.open(out);
+        writer.write(Map.of("id", 1));
+        writer.flush();
+
+        assertEquals("1,\r\n", out.toString(StandardCharsets.UTF_8));
+    }
+}
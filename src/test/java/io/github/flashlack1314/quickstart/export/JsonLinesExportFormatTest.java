@@ -0,0 +1,44 @@
+package io.github.flashlack1314.quickstart.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonLinesExportFormat 测试类
+ *
+ * @author flash
+ */
+class JsonLinesExportFormatTest {
+
+    private final JsonLinesExportFormat<Map<String, Object>> format = new JsonLinesExportFormat<>(new ObjectMapper());
+
+    @Test
+    void testWritesOneRecordPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExportFormat.RecordWriter<Map<String, Object>> writer = format.open(out);
+        writer.write(Map.of("id", 1));
+        writer.write(Map.of("id", 2));
+        writer.flush();
+
+        assertEquals("{\"id\":1}\n{\"id\":2}\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testBuffersUntilFlush() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExportFormat.RecordWriter<Map<String, Object>> writer = format.open(out);
+        writer.write(Map.of("id", 1));
+
+        assertEquals(0, out.size());
+        writer.flush();
+        assertEquals("{\"id\":1}\n", out.toString(StandardCharsets.UTF_8));
+    }
+}
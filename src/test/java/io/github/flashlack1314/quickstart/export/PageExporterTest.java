@@ -0,0 +1,146 @@
+package io.github.flashlack1314.quickstart.export;
+
+import io.github.flashlack1314.quickstart.exception.BusinessException;
+import io.github.flashlack1314.quickstart.handler.ExceptionTranslator;
+import io.github.flashlack1314.quickstart.page.PageIterator;
+import io.github.flashlack1314.quickstart.vo.ExportSummaryVO;
+import io.github.flashlack1314.quickstart.vo.PageVO;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PageExporter 测试类
+ *
+ * @author flash
+ */
+class PageExporterTest {
+
+    private final ExportFormat<Long> format = new CsvExportFormat<Long>().column("id", id -> id);
+
+    private final PageExporter exporter = new PageExporter(new ExceptionTranslator(), null, 10, 1, 5);
+
+    @Test
+    void testExportToOutputStream() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<long[]> progress = new ArrayList<>();
+
+        ExportSummaryVO summary = exporter.export(fetcher(25), format, out,
+                (records, pages, bytes) -> progress.add(new long[]{records, pages, bytes}));
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("id\r\n1\r\n2\r\n"));
+        assertTrue(csv.endsWith("24\r\n25\r\n"));
+        assertEquals(25L, summary.getRecords());
+        assertEquals(3L, summary.getPages());
+        assertEquals((long) out.size(), summary.getBytes());
+        assertTrue(summary.getComplete());
+        assertNull(summary.getFile());
+        assertEquals(3, progress.size());
+        assertEquals(10L, progress.get(0)[0]);
+        assertEquals(25L, progress.get(2)[0]);
+        assertEquals(3L, progress.get(2)[1]);
+    }
+
+    @Test
+    void testFlushesPeriodically() throws Exception {
+        AtomicInteger flushes = new AtomicInteger();
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+
+        exporter.export(fetcher(25), format, out, null);
+
+        // 每5条刷新一次，结束时再刷新一次
+        assertEquals(6, flushes.get());
+    }
+
+    @Test
+    void testOutputStreamExportRethrowsFailure() {
+        PageIterator.PageFetcher<Long> failing = (current, size) -> {
+            throw new BusinessException(4001, "导出条件无效");
+        };
+
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> exporter.export(failing, format, new ByteArrayOutputStream(), null));
+        assertEquals(4001, e.getCode());
+    }
+
+    @Test
+    void testExportToFile(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("ids.csv");
+
+        ResultVO<ExportSummaryVO> result = exporter.export(fetcher(12), format, file, null);
+
+        assertEquals(200, result.getCode());
+        assertEquals(12L, result.getData().getRecords());
+        assertEquals(file.toString(), result.getData().getFile());
+        assertEquals(Files.size(file), result.getData().getBytes());
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(13, lines.size());
+        assertEquals("12", lines.get(12));
+    }
+
+    @Test
+    void testFileExportMapsBusinessExceptionCode(@TempDir Path dir) {
+        PageIterator.PageFetcher<Long> failOnSecondPage = (current, size) -> {
+            if (current == 2) {
+                throw new BusinessException(4002, "数据已变更，请重新导出");
+            }
+            return fetcher(30).fetch(current, size);
+        };
+
+        ResultVO<ExportSummaryVO> result = exporter.export(failOnSecondPage, format, dir.resolve("ids.csv"), null);
+
+        assertEquals(4002, result.getCode());
+        assertEquals("数据已变更，请重新导出", result.getMessage());
+        assertFalse(result.getData().getComplete());
+        assertEquals(10L, result.getData().getRecords());
+        assertEquals(1L, result.getData().getPages());
+    }
+
+    @Test
+    void testFileExportMapsUnknownFailure(@TempDir Path dir) throws IOException {
+        Path directory = Files.createDirectory(dir.resolve("target"));
+
+        ResultVO<ExportSummaryVO> result = exporter.export(fetcher(5), format, directory, null);
+
+        assertEquals(500, result.getCode());
+        assertFalse(result.getData().getComplete());
+        assertEquals(0L, result.getData().getRecords());
+    }
+
+    private static PageIterator.PageFetcher<Long> fetcher(long total) {
+        return (current, size) -> {
+            long from = (current - 1) * size + 1;
+            long to = Math.min(total, current * size);
+            List<Long> records = LongStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+            return PageVO.of(records, total, current, size);
+        };
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.flashlack1314.quickstart.handler;
+
+import io.github.flashlack1314.quickstart.properties.QuickStartBootKitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AsyncExceptionLogger 测试类
+ *
+ * @author flash
+ */
+class AsyncExceptionLoggerTest {
+
+    private RecordingLogger logger;
+
+    private QuickStartBootKitProperties.Logging config;
+
+    @BeforeEach
+    void setUp() {
+        logger = new RecordingLogger();
+        config = new QuickStartBootKitProperties.Logging();
+        config.setRateLimit(false);
+        config.getDedup().setEnabled(false);
+        config.getAsync().setEnabled(true);
+        config.getAsync().setBufferSize(2);
+    }
+
+    @Test
+    void testEventsLoggedByBackgroundThread() {
+        config.getAsync().setBufferSize(64);
+        AsyncExceptionLogger exceptionLogger = new AsyncExceptionLogger(logger, config);
+        exceptionLogger.start();
+
+        for (int i = 0; i < 10; i++) {
+            exceptionLogger.log("业务异常", 500, new RuntimeException("异常" + i));
+        }
+        exceptionLogger.close();
+
+        assertEquals(10, logger.events.size());
+        assertEquals("业务异常: 异常0", logger.events.get(0).message());
+        assertEquals(0, exceptionLogger.getPendingCount());
+    }
+
+    @Test
+    void testDropPolicy() {
+        config.getAsync().setOverflowPolicy(QuickStartBootKitProperties.OverflowPolicy.DROP);
+        AsyncExceptionLogger exceptionLogger = new AsyncExceptionLogger(logger, config);
+
+        for (int i = 0; i < 5; i++) {
+            exceptionLogger.log("业务异常", 500, new RuntimeException("异常" + i));
+        }
+
+        assertEquals(3, exceptionLogger.getDroppedCount());
+        assertEquals(2, exceptionLogger.getPendingCount());
+
+        exceptionLogger.close();
+
+        assertEquals(2, logger.events.size());
+    }
+
+    @Test
+    void testCountPolicyReportsDroppedEvents() {
+        config.getAsync().setOverflowPolicy(QuickStartBootKitProperties.OverflowPolicy.COUNT);
+        AsyncExceptionLogger exceptionLogger = new AsyncExceptionLogger(logger, config);
+
+        for (int i = 0; i < 5; i++) {
+            exceptionLogger.log("业务异常", 500, new RuntimeException("异常" + i));
+        }
+        exceptionLogger.close();
+
+        assertEquals(3, logger.events.size());
+        assertEquals("异常日志缓冲区已满，已丢弃 3 条异常日志", logger.events.get(2).message());
+    }
+
+    @Test
+    void testBlockPolicyWaitsForSpace() throws InterruptedException {
+        config.getAsync().setOverflowPolicy(QuickStartBootKitProperties.OverflowPolicy.BLOCK);
+        AsyncExceptionLogger exceptionLogger = new AsyncExceptionLogger(logger, config);
+        exceptionLogger.start();
+
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < 50; i++) {
+                    exceptionLogger.log("业务异常", 500, new RuntimeException());
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        exceptionLogger.close();
+
+        assertEquals(200, logger.events.size());
+        assertEquals(0, exceptionLogger.getDroppedCount());
+    }
+
+    @Test
+    void testLogsSynchronouslyAfterClose() {
+        AsyncExceptionLogger exceptionLogger = new AsyncExceptionLogger(logger, config);
+        exceptionLogger.close();
+
+        exceptionLogger.log("业务异常", 500, new RuntimeException("关闭后"));
+
+        assertEquals(1, logger.events.size());
+    }
+
+    @Test
+    void testNoEventsLostWhenClosingDuringPublish() throws InterruptedException {
+        config.getAsync().setBufferSize(64);
+        config.getAsync().setOverflowPolicy(QuickStartBootKitProperties.OverflowPolicy.BLOCK);
+        AsyncExceptionLogger exceptionLogger = new AsyncExceptionLogger(logger, config);
+        exceptionLogger.start();
+
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    exceptionLogger.log("业务异常", 500, new RuntimeException());
+                }
+            });
+            producers[t].start();
+        }
+        exceptionLogger.close();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertEquals(2000, logger.events.size());
+    }
+
+    @Test
+    void testIdleConsumerIsWokenByPublisher() throws InterruptedException {
+        config.getAsync().setBufferSize(64);
+        AsyncExceptionLogger exceptionLogger = new AsyncExceptionLogger(logger, config);
+        exceptionLogger.start();
+        Thread.sleep(20);
+
+        exceptionLogger.log("业务异常", 500, new RuntimeException("空闲后"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (logger.events.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+
+        assertEquals(1, logger.events.size());
+        exceptionLogger.close();
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.flashlack1314.quickstart.handler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExceptionEventRingBuffer 测试类
+ *
+ * @author flash
+ */
+class ExceptionEventRingBufferTest {
+
+    @Test
+    void testOfferAndDrainInOrder() {
+        ExceptionEventRingBuffer buffer = new ExceptionEventRingBuffer(4);
+        List<String> messages = new ArrayList<>();
+
+        assertTrue(buffer.offer(1L, 500, "异常", "a", new RuntimeException()));
+        assertTrue(buffer.offer(2L, 400, "异常", "b", new IllegalArgumentException()));
+
+        int count = buffer.drain((timestamp, code, type, label, message, throwable) -> messages.add(message), 10);
+
+        assertEquals(2, count);
+        assertEquals(List.of("a", "b"), messages);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void testRejectsWhenFullAndReusesSlots() {
+        ExceptionEventRingBuffer buffer = new ExceptionEventRingBuffer(3);
+
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i, 500, "异常", "m" + i, new RuntimeException()));
+        }
+        assertFalse(buffer.offer(4L, 500, "异常", "m4", new RuntimeException()));
+
+        assertEquals(1, buffer.drain((timestamp, code, type, label, message, throwable) -> { }, 1));
+        assertTrue(buffer.offer(5L, 500, "异常", "m5", new RuntimeException()));
+        assertEquals(4, buffer.size());
+    }
+
+    @Test
+    void testDrainPassesExceptionType() {
+        ExceptionEventRingBuffer buffer = new ExceptionEventRingBuffer(2);
+        List<Class<?>> types = new ArrayList<>();
+
+        buffer.offer(0L, 500, "异常", null, new NullPointerException());
+        buffer.drain((timestamp, code, type, label, message, throwable) -> types.add(type), 1);
+
+        assertEquals(List.of(NullPointerException.class), types);
+    }
+}
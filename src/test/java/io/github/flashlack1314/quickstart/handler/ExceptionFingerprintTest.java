@@ -0,0 +1,67 @@
+package io.github.flashlack1314.quickstart.handler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExceptionFingerprint 与 FingerprintTable 测试类
+ *
+ * @author flash
+ */
+class ExceptionFingerprintTest {
+
+    @Test
+    void testSameThrowSiteHasSameFingerprint() {
+        long[] fingerprints = new long[2];
+        for (int i = 0; i < 2; i++) {
+            fingerprints[i] = ExceptionFingerprint.of(new IllegalStateException("消息" + i), 5);
+        }
+
+        assertEquals(fingerprints[0], fingerprints[1]);
+    }
+
+    @Test
+    void testDifferentTypeOrCauseChangesFingerprint() {
+        long[] fingerprints = new long[3];
+        for (int i = 0; i < 3; i++) {
+            Throwable throwable = switch (i) {
+                case 0 -> new IllegalStateException();
+                case 1 -> new IllegalArgumentException();
+                default -> new IllegalStateException(new NullPointerException());
+            };
+            fingerprints[i] = ExceptionFingerprint.of(throwable, 5);
+        }
+
+        assertNotEquals(fingerprints[0], fingerprints[1]);
+        assertNotEquals(fingerprints[0], fingerprints[2]);
+    }
+
+    @Test
+    void testToIdIsFixedWidthHex() {
+        assertEquals("000000000000000f", ExceptionFingerprint.toId(15L));
+        assertEquals("ffffffffffffffff", ExceptionFingerprint.toId(-1L));
+    }
+
+    @Test
+    void testTableCountsWithinWindow() {
+        FingerprintTable table = new FingerprintTable(16, 1_000L);
+
+        assertEquals(1, table.record(42L, 0L));
+        assertEquals(2, table.record(42L, 10L));
+        assertEquals(3, table.record(42L, 999L));
+        // 窗口过期后重新计数
+        assertEquals(1, table.record(42L, 1_000L));
+    }
+
+    @Test
+    void testTableIsBoundedAndEvictsOnCollision() {
+        FingerprintTable table = new FingerprintTable(10, Long.MAX_VALUE);
+
+        assertEquals(16, table.capacity());
+        assertEquals(1, table.record(1L, 0L));
+        // 17 与 1 映射到同一槽位，替换旧条目
+        assertEquals(1, table.record(17L, 0L));
+        assertEquals(1, table.record(1L, 0L));
+    }
+}
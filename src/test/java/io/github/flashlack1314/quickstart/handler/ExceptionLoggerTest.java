@@ -0,0 +1,160 @@
+package io.github.flashlack1314.quickstart.handler;
+
+import io.github.flashlack1314.quickstart.properties.QuickStartBootKitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExceptionLogger 测试类
+ *
+ * @author flash
+ */
+class ExceptionLoggerTest {
+
+    private RecordingLogger logger;
+
+    private QuickStartBootKitProperties.Logging config;
+
+    @BeforeEach
+    void setUp() {
+        logger = new RecordingLogger();
+        config = new QuickStartBootKitProperties.Logging();
+        config.setPermitsPerSecond(0.001);
+        config.setBurst(3);
+        config.setSampleRate(10);
+        config.setSummaryInterval(Duration.ofHours(1));
+    }
+
+    @Test
+    void testNonPositivePermitsRejected() {
+        config.setPermitsPerSecond(0);
+        assertThrows(IllegalArgumentException.class, () -> new ExceptionLogger(logger, config));
+        config.setPermitsPerSecond(-1);
+        assertThrows(IllegalArgumentException.class, () -> new ExceptionLogger(logger, config));
+        config.setPermitsPerSecond(Double.NaN);
+        assertThrows(IllegalArgumentException.class, () -> new ExceptionLogger(logger, config));
+    }
+
+    @Test
+    void testTinyPermitsDoNotOverflow() {
+        config.setPermitsPerSecond(Double.MIN_VALUE);
+        config.setBurst(Integer.MAX_VALUE);
+        ExceptionLogger exceptionLogger = new ExceptionLogger(logger, config);
+
+        exceptionLogger.log("运行时异常", 500, new RuntimeException("运行时异常"));
+
+        assertEquals(1, logger.events.size());
+    }
+
+    @Test
+    void testServerErrorLoggedWithStackTrace() {
+        ExceptionLogger exceptionLogger = new ExceptionLogger(logger, config);
+        RuntimeException exception = new RuntimeException("运行时异常");
+
+        exceptionLogger.log("运行时异常", 500, exception);
+
+        assertEquals(1, logger.events.size());
+        assertEquals(Level.ERROR, logger.events.get(0).level());
+        assertTrue(logger.events.get(0).message().startsWith("运行时异常: 运行时异常 [指纹 "));
+        assertSame(exception, logger.events.get(0).throwable());
+    }
+
+    @Test
+    void testClientErrorLoggedAsWarnWithoutStackTrace() {
+        ExceptionLogger exceptionLogger = new ExceptionLogger(logger, config);
+
+        exceptionLogger.log("参数异常", 400, new IllegalArgumentException("参数错误"));
+
+        assertEquals(1, logger.events.size());
+        assertEquals(Level.WARN, logger.events.get(0).level());
+        assertNull(logger.events.get(0).throwable());
+    }
+
+    @Test
+    void testBurstThenSampling() {
+        ExceptionLogger exceptionLogger = new ExceptionLogger(logger, config);
+
+        for (int i = 0; i < 23; i++) {
+            exceptionLogger.log("运行时异常", 500, new RuntimeException("异常" + i));
+        }
+
+        // 突发3条 + 超限的20条中采样2条
+        assertEquals(5, logger.events.size());
+        assertTrue(logger.events.get(3).message().contains("采样 1/10"));
+    }
+
+    @Test
+    void testRateLimitIsPerExceptionClass() {
+        ExceptionLogger exceptionLogger = new ExceptionLogger(logger, config);
+
+        for (int i = 0; i < 5; i++) {
+            exceptionLogger.log("运行时异常", 500, new RuntimeException());
+            exceptionLogger.log("空指针异常", 500, new NullPointerException());
+        }
+
+        assertEquals(6, logger.events.size());
+    }
+
+    @Test
+    void testSuppressedSummary() {
+        config.setSampleRate(0);
+        ExceptionLogger exceptionLogger = new ExceptionLogger(logger, config);
+
+        for (int i = 0; i < 10; i++) {
+            exceptionLogger.log("运行时异常", 500, new RuntimeException());
+        }
+        exceptionLogger.flushSummaries();
+
+        assertEquals(4, logger.events.size());
+        assertEquals("已抑制 7 条相似异常: java.lang.RuntimeException", logger.events.get(3).message());
+
+        exceptionLogger.flushSummaries();
+        assertEquals(4, logger.events.size());
+    }
+
+    @Test
+    void testRateLimitDisabled() {
+        config.setRateLimit(false);
+        ExceptionLogger exceptionLogger = new ExceptionLogger(logger, config);
+
+        for (int i = 0; i < 50; i++) {
+            exceptionLogger.log("运行时异常", 500, new RuntimeException());
+        }
+
+        assertEquals(50, logger.events.size());
+    }
+
+    @Test
+    void testDuplicateStackTraceLoggedOnlyOnce() {
+        config.setRateLimit(false);
+        ExceptionLogger exceptionLogger = new ExceptionLogger(logger, config);
+
+        for (int i = 0; i < 3; i++) {
+            exceptionLogger.log("空指针异常", 500, new NullPointerException("空指针"));
+        }
+
+        assertEquals(3, logger.events.size());
+        assertNotNull(logger.events.get(0).throwable());
+        assertNull(logger.events.get(1).throwable());
+        assertTrue(logger.events.get(1).message().contains("窗口内第 2 次"));
+        assertTrue(logger.events.get(2).message().contains("窗口内第 3 次"));
+    }
+
+    @Test
+    void testDedupDisabled() {
+        config.setRateLimit(false);
+        config.getDedup().setEnabled(false);
+        ExceptionLogger exceptionLogger = new ExceptionLogger(logger, config);
+
+        for (int i = 0; i < 3; i++) {
+            exceptionLogger.log("空指针异常", 500, new NullPointerException("空指针"));
+        }
+
+        assertTrue(logger.events.stream().allMatch(event -> event.throwable() != null));
+    }
+}
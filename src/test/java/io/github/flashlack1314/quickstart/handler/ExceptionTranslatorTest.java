@@ -0,0 +1,91 @@
+package io.github.flashlack1314.quickstart.handler;
+
+import io.github.flashlack1314.quickstart.exception.BusinessException;
+import io.github.flashlack1314.quickstart.exception.CommonErrorCode;
+import io.github.flashlack1314.quickstart.exception.ParameterException;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExceptionTranslator 测试类
+ *
+ * @author flash
+ */
+class ExceptionTranslatorTest {
+
+    private ExceptionTranslator translator;
+
+    @BeforeEach
+    void setUp() {
+        translator = new ExceptionTranslator();
+    }
+
+    @Test
+    void testTranslateBaseExceptions() {
+        ResultVO<Void> result = translator.translate(new ParameterException(4001, "参数验证失败"));
+
+        assertEquals(4001, result.getCode());
+        assertEquals("参数验证失败", result.getMessage());
+        assertEquals("参数异常", translator.resolve(ParameterException.class).getLabel());
+    }
+
+    @Test
+    void testMostSpecificMappingWins() {
+        // NumberFormatException 继承自 IllegalArgumentException
+        ResultVO<Void> result = translator.translate(new NumberFormatException("abc"));
+
+        assertEquals(400, result.getCode());
+        assertEquals("数字格式错误", result.getMessage());
+    }
+
+    @Test
+    void testUnmappedSubclassUsesNearestSuperclass() {
+        ResultVO<Void> runtime = translator.translate(new IllegalStateException("状态错误"));
+        ResultVO<Void> checked = translator.translate(new IOException("IO错误"));
+        ResultVO<Void> error = translator.translate(new StackOverflowError());
+
+        assertEquals("系统内部错误", runtime.getMessage());
+        assertEquals("系统异常，请联系管理员", checked.getMessage());
+        assertEquals("系统异常，请联系管理员", error.getMessage());
+    }
+
+    @Test
+    void testResolutionIsMemoized() {
+        assertSame(translator.resolve(IllegalStateException.class), translator.resolve(IllegalStateException.class));
+        assertSame(translator.resolve(RuntimeException.class), translator.resolve(IllegalStateException.class));
+    }
+
+    @Test
+    void testRegisterCustomMappingInvalidatesCache() {
+        assertEquals(500, translator.translate(new TimeoutException()).getCode());
+
+        translator.register(TimeoutException.class, "超时异常", e -> ResultVO.error(504, "请求超时"));
+
+        ResultVO<Void> result = translator.translate(new TimeoutException());
+        assertEquals(504, result.getCode());
+        assertEquals("请求超时", result.getMessage());
+        assertEquals("超时异常", translator.resolve(TimeoutException.class).getLabel());
+    }
+
+    @Test
+    void testRegisterErrorCodeMappingReusesCachedResponse() {
+        translator.register(UnsupportedOperationException.class, "不支持的操作", CommonErrorCode.BAD_REQUEST);
+
+        assertSame(translator.translate(new UnsupportedOperationException()),
+                translator.translate(new UnsupportedOperationException()));
+    }
+
+    @Test
+    void testAnonymousSubclassUsesBusinessMapping() {
+        ResultVO<Void> result = translator.translate(new BusinessException(2001, "业务逻辑错误") {});
+
+        assertEquals(2001, result.getCode());
+        assertEquals("业务逻辑错误", result.getMessage());
+    }
+}
@@ -334,4 +334,38 @@ class GlobalExceptionHandlerTest {
         assertTrue(result3 != null);
         assertTrue(result4 != null);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testHandleExceptionFromErrorCodeReusesCachedResponse() {
+        BusinessException first = new BusinessException(CommonErrorCode.CONFIGURATION_ERROR);
+        BusinessException second = new BusinessException(CommonErrorCode.CONFIGURATION_ERROR);
+
+        ResultVO<Void> result1 = handler.handleBusinessException(first);
+        ResultVO<Void> result2 = handler.handleBusinessException(second);
+
+        assertSame(result1, result2);
+        assertSame(ErrorCodeRegistry.response(CommonErrorCode.CONFIGURATION_ERROR), result1);
+        assertEquals(500, result1.getCode());
+        assertEquals("系统配置错误", result1.getMessage());
+    }
+
+    @Test
+    void testHandleStaticMessageExceptionsReuseCachedResponse() {
+        ResultVO<Void> result1 = handler.handleRuntimeException(new RuntimeException("a"));
+        ResultVO<Void> result2 = handler.handleRuntimeException(new RuntimeException("b"));
+
+        assertSame(result1, result2);
+        assertThrows(UnsupportedOperationException.class, () -> result1.setMessage("修改"));
+    }
+
+    @Test
+    void testHandledExceptionsAreCounted() {
+        handler.handleBusinessException(new BusinessException(2001, "业务逻辑错误"));
+        handler.handleBusinessException(new BusinessException(2001, "业务逻辑错误"));
+        handler.handleNumberFormatException(new NumberFormatException("abc"));
+
+        assertEquals(3, handler.getExceptionMetrics().getTotalCount());
+        assertEquals(2, handler.getExceptionMetrics().forCode(2001).getCount());
+        assertEquals(1, handler.getExceptionMetrics().forType(NumberFormatException.class).getCount());
+    }
+}
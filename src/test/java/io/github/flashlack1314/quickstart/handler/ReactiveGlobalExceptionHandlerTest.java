@@ -0,0 +1,73 @@
+package io.github.flashlack1314.quickstart.handler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.flashlack1314.quickstart.exception.BusinessException;
+import io.github.flashlack1314.quickstart.metrics.ExceptionMetrics;
+import io.github.flashlack1314.quickstart.properties.QuickStartBootKitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReactiveGlobalExceptionHandler 测试类
+ *
+ * @author flash
+ */
+class ReactiveGlobalExceptionHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ExceptionMetrics metrics;
+
+    private ReactiveGlobalExceptionHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new ExceptionMetrics();
+        ExceptionLogger logger = new ExceptionLogger(new RecordingLogger(), new QuickStartBootKitProperties.Logging());
+        handler = new ReactiveGlobalExceptionHandler(new ExceptionTranslator(), logger, metrics, objectMapper);
+    }
+
+    @Test
+    void testWritesResultVoBody() throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/orders"));
+
+        handler.handle(exchange, new BusinessException(2001, "业务逻辑错误")).block();
+
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, exchange.getResponse().getHeaders().getContentType());
+        JsonNode body = objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+        assertEquals(2001, body.get("code").asInt());
+        assertEquals("业务逻辑错误", body.get("message").asText());
+        assertEquals(1, metrics.forCode(2001).getCount());
+    }
+
+    @Test
+    void testUsesSameMappingAsMvcHandler() throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/orders"));
+
+        handler.handle(exchange, new NullPointerException()).block();
+
+        JsonNode body = objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+        assertEquals(500, body.get("code").asInt());
+        assertEquals("系统内部错误 - 空指针异常", body.get("message").asText());
+    }
+
+    @Test
+    void testResponseStatusExceptionIsPassedThrough() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/missing"));
+        ResponseStatusException notFound = new ResponseStatusException(HttpStatus.NOT_FOUND);
+
+        ResponseStatusException thrown = assertThrows(ResponseStatusException.class,
+                () -> handler.handle(exchange, notFound).block());
+
+        assertSame(notFound, thrown);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.flashlack1314.quickstart.handler;
+
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 记录日志事件的测试用 Logger
+ *
+ * @author flash
+ */
+class RecordingLogger extends LegacyAbstractLogger {
+
+    /**
+     * 日志事件
+     *
+     * @param level     日志级别
+     * @param message   格式化后的消息
+     * @param throwable 异常
+     */
+    record Event(Level level, String message, Throwable throwable) {
+    }
+
+    final List<Event> events = new CopyOnWriteArrayList<>();
+
+    RecordingLogger() {
+        this.name = "recording";
+    }
+
+    @Override
+    protected String getFullyQualifiedCallerName() {
+        return null;
+    }
+
+    @Override
+    protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern,
+                                               Object[] arguments, Throwable throwable) {
+        events.add(new Event(level, MessageFormatter.basicArrayFormat(messagePattern, arguments), throwable));
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return true;
+    }
+}
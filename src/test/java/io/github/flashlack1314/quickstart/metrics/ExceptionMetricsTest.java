@@ -0,0 +1,118 @@
+package io.github.flashlack1314.quickstart.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExceptionMetrics 测试类
+ *
+ * @author flash
+ */
+class ExceptionMetricsTest {
+
+    @Test
+    void testRecordByTypeAndCode() {
+        ExceptionMetrics metrics = new ExceptionMetrics();
+
+        metrics.record(IllegalArgumentException.class, 400);
+        metrics.record(IllegalArgumentException.class, 400);
+        metrics.record(NullPointerException.class, 500);
+        metrics.record(IllegalStateException.class, null);
+
+        assertEquals(4, metrics.getTotalCount());
+        assertEquals(2, metrics.forType(IllegalArgumentException.class).getCount());
+        assertEquals(2, metrics.forCode(400).getCount());
+        assertEquals(1, metrics.forCode(500).getCount());
+        assertNull(metrics.forType(ArithmeticException.class));
+        assertEquals(2L, metrics.getCountsByType().get("java.lang.IllegalArgumentException"));
+        assertEquals(1L, metrics.getCountsByCode().get("500"));
+    }
+
+    @Test
+    void testConcurrentRecording() throws InterruptedException {
+        ExceptionMetrics metrics = new ExceptionMetrics();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    metrics.record(RuntimeException.class, 500);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(80_000, metrics.getTotalCount());
+        assertEquals(80_000, metrics.forCode(500).getCount());
+    }
+
+    @Test
+    void testMovingAverageRates() {
+        long start = System.nanoTime();
+        long tick = TimeUnit.SECONDS.toNanos(5);
+        RateCounter counter = new RateCounter(start);
+
+        for (int i = 0; i < 50; i++) {
+            counter.increment();
+        }
+        counter.tickIfNecessary(start + tick);
+
+        // 首个5秒区间内50次，即每秒10次
+        assertEquals(10.0, counter.getOneMinuteRate(), 0.5);
+        assertEquals(10.0, counter.getFiveMinuteRate(), 0.5);
+
+        // 之后一分钟无异常，1分钟速率比5分钟速率衰减得更快
+        counter.tickIfNecessary(start + tick * 13);
+        assertTrue(counter.getOneMinuteRate() < counter.getFiveMinuteRate());
+    }
+
+    @Test
+    void testLongIdleDecaysInClosedForm() {
+        long start = System.nanoTime();
+        long tick = TimeUnit.SECONDS.toNanos(5);
+        RateCounter stepped = new RateCounter(start);
+        RateCounter idle = new RateCounter(start);
+        for (int i = 0; i < 50; i++) {
+            stepped.increment();
+            idle.increment();
+        }
+        for (int i = 1; i <= 12; i++) {
+            stepped.tickIfNecessary(start + tick * i);
+        }
+        idle.tickIfNecessary(start + tick * 12);
+
+        assertEquals(stepped.getOneMinuteRate(), idle.getOneMinuteRate(), 1e-9);
+        assertEquals(stepped.getFiveMinuteRate(), idle.getFiveMinuteRate(), 1e-9);
+
+        // 空闲一年后的首次更新不再逐个间隔循环
+        idle.tickIfNecessary(start + TimeUnit.DAYS.toNanos(365));
+        assertEquals(0.0, idle.getOneMinuteRate(), 1e-9);
+    }
+
+    @Test
+    void testJmxRegistration() throws Exception {
+        ExceptionMetrics metrics = new ExceptionMetrics();
+        metrics.registerMBean();
+        try {
+            metrics.record(IllegalStateException.class, 500);
+
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(JmxExporter.DOMAIN + ":type=ExceptionMetrics");
+            assertTrue(server.isRegistered(name));
+            assertEquals(1L, server.getAttribute(name, "TotalCount"));
+        } finally {
+            metrics.close();
+        }
+
+        assertFalse(ManagementFactory.getPlatformMBeanServer()
+                .isRegistered(new ObjectName(JmxExporter.DOMAIN + ":type=ExceptionMetrics")));
+    }
+}
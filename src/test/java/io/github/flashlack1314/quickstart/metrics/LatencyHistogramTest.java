@@ -0,0 +1,101 @@
+package io.github.flashlack1314.quickstart.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LatencyHistogram 测试类
+ *
+ * @author flash
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void testBucketBoundaries() {
+        assertEquals(0, LatencyHistogram.index(0));
+        assertEquals(63, LatencyHistogram.index(63));
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.index(LatencyHistogram.MAX_VALUE));
+
+        int previous = -1;
+        for (long value = 0; value < 1 << 16; value++) {
+            int index = LatencyHistogram.index(value);
+            assertTrue(index == previous || index == previous + 1, "桶下标应连续递增: " + value);
+            assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value);
+            previous = index;
+        }
+        for (int index = 0; index < LatencyHistogram.BUCKET_COUNT; index++) {
+            long highest = LatencyHistogram.highestEquivalentValue(index);
+            assertEquals(index, LatencyHistogram.index(highest));
+            if (index + 1 < LatencyHistogram.BUCKET_COUNT) {
+                assertEquals(index + 1, LatencyHistogram.index(highest + 1));
+            }
+        }
+    }
+
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(10), snapshot.getMax());
+        assertWithin(TimeUnit.MICROSECONDS.toNanos(5_000), snapshot.getP50());
+        assertWithin(TimeUnit.MICROSECONDS.toNanos(9_000), snapshot.getP90());
+        assertWithin(TimeUnit.MICROSECONDS.toNanos(9_900), snapshot.getP99());
+        assertWithin(TimeUnit.MICROSECONDS.toNanos(9_990), snapshot.getP999());
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(5_000) + 500, snapshot.getMean(), 1.0);
+    }
+
+    @Test
+    void testEmptyAndOutOfRangeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        LatencySnapshot empty = histogram.snapshot();
+        assertEquals(0, empty.getCount());
+        assertEquals(0, empty.getP99());
+
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(0, snapshot.getP50());
+        assertEquals(LatencyHistogram.MAX_VALUE, snapshot.getMax());
+        assertEquals(LatencyHistogram.MAX_VALUE, snapshot.getP999());
+    }
+
+    @Test
+    void testConcurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            long value = TimeUnit.MILLISECONDS.toNanos(t + 1);
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(value);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(80_000, snapshot.getCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(8), snapshot.getMax());
+        assertWithin(TimeUnit.MILLISECONDS.toNanos(4), snapshot.getP50());
+    }
+
+    /**
+     * 分位数为桶上界，相对误差不超过1/32
+     */
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 32,
+                "期望 " + expected + " 附近，实际 " + actual);
+    }
+}
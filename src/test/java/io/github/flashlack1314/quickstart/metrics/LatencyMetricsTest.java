@@ -0,0 +1,192 @@
+package io.github.flashlack1314.quickstart.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LatencyMetrics 测试类
+ *
+ * @author flash
+ */
+class LatencyMetricsTest {
+
+    private static final long ONE_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final String LIST = SampleController.class.getName() + "#list()";
+
+    private static final String DETAIL_BY_ID = SampleController.class.getName() + "#detail(long)";
+
+    private static final String DETAIL_BY_CODE = SampleController.class.getName() + "#detail(java.lang.String)";
+
+    @Test
+    void testRecordByMethodAndCode() throws NoSuchMethodException {
+        LatencyMetrics metrics = new LatencyMetrics();
+        Method list = SampleController.class.getMethod("list");
+
+        metrics.record(list, 200, ONE_MILLI);
+        metrics.record(list, 200, 2 * ONE_MILLI);
+        metrics.record(list, 4001, 40 * ONE_MILLI);
+
+        assertEquals(3, metrics.snapshot(LIST).getCount());
+        assertEquals(2, metrics.snapshot(LIST, 200).getCount());
+        assertEquals(40 * ONE_MILLI, metrics.snapshot(LIST, 4001).getMax());
+        assertNull(metrics.snapshot(LIST, 500));
+        assertNull(metrics.snapshot(DETAIL_BY_ID));
+        assertEquals(Map.of(LIST, 3L), metrics.getCounts());
+        assertEquals(2L, metrics.getCountsByCode().get(LIST + " [200]"));
+        assertEquals(40.0, metrics.getP99MillisByCode().get(LIST + " [4001]"), 40.0 / 32);
+    }
+
+    @Test
+    void testOverloadedMethodsAreSeparate() throws NoSuchMethodException {
+        LatencyMetrics metrics = new LatencyMetrics();
+
+        metrics.record(SampleController.class.getMethod("detail", long.class), 200, ONE_MILLI);
+        metrics.record(SampleController.class.getMethod("detail", String.class), 200, ONE_MILLI);
+        metrics.record(DETAIL_BY_CODE, 200, ONE_MILLI);
+
+        assertEquals(2, metrics.snapshots().size());
+        assertEquals(1, metrics.snapshot(DETAIL_BY_ID).getCount());
+        assertEquals(2, metrics.snapshot(DETAIL_BY_CODE).getCount());
+    }
+
+    @Test
+    void testInheritedMethodIsRecordedPerHandlerType() throws NoSuchMethodException {
+        LatencyMetrics metrics = new LatencyMetrics();
+        Method health = BaseController.class.getMethod("health");
+
+        metrics.record(OrderController.class, health, 200, ONE_MILLI);
+        metrics.record(OrderController.class, health, 200, ONE_MILLI);
+        metrics.record(UserController.class, health, 200, ONE_MILLI);
+
+        assertEquals(2, metrics.snapshots().size());
+        assertEquals(2, metrics.snapshot(OrderController.class.getName() + "#health()").getCount());
+        assertEquals(1, metrics.snapshot(UserController.class.getName() + "#health()").getCount());
+        assertNull(metrics.snapshot(BaseController.class.getName() + "#health()"));
+    }
+
+    @Test
+    void testSameSimpleNameInDifferentClassesAreSeparate() throws NoSuchMethodException {
+        LatencyMetrics metrics = new LatencyMetrics();
+
+        metrics.record(Admin.UserController.class.getMethod("list"), 200, ONE_MILLI);
+        metrics.record(Api.UserController.class.getMethod("list"), 200, ONE_MILLI);
+
+        assertEquals(2, metrics.snapshots().size());
+        assertEquals(1, metrics.snapshot(Admin.UserController.class.getName() + "#list()").getCount());
+        assertEquals(1, metrics.snapshot(Api.UserController.class.getName() + "#list()").getCount());
+    }
+
+    @Test
+    void testCodesPerEndpointAreCapped() {
+        LatencyMetrics metrics = new LatencyMetrics();
+        int codes = LatencyMetrics.MAX_CODES_PER_ENDPOINT + 8;
+        for (int code = 0; code < codes; code++) {
+            metrics.record("endpoint", code, ONE_MILLI);
+        }
+
+        assertEquals(codes, metrics.snapshot("endpoint").getCount());
+        assertEquals(LatencyMetrics.MAX_CODES_PER_ENDPOINT, metrics.snapshotsByCode().size());
+        assertNull(metrics.snapshot("endpoint", codes - 1));
+    }
+
+    @Test
+    void testConcurrentRecording() throws InterruptedException {
+        LatencyMetrics metrics = new LatencyMetrics();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            int code = t % 4;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    metrics.record("endpoint", code, ONE_MILLI);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(80_000, metrics.snapshot("endpoint").getCount());
+        for (int code = 0; code < 4; code++) {
+            assertEquals(20_000, metrics.snapshot("endpoint", code).getCount());
+        }
+    }
+
+    @Test
+    void testJmxRegistration() throws Exception {
+        LatencyMetrics metrics = new LatencyMetrics();
+        metrics.registerMBean();
+        try {
+            metrics.record("endpoint", 200, ONE_MILLI);
+
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(JmxExporter.DOMAIN + ":type=LatencyMetrics");
+            assertTrue(server.isRegistered(name));
+            assertEquals(1, ((TabularData) server.getAttribute(name, "Counts")).size());
+            assertEquals(1, ((TabularData) server.getAttribute(name, "P99MillisByCode")).size());
+        } finally {
+            metrics.close();
+        }
+
+        assertFalse(ManagementFactory.getPlatformMBeanServer()
+                .isRegistered(new ObjectName(JmxExporter.DOMAIN + ":type=LatencyMetrics")));
+    }
+
+    static class SampleController {
+
+        public String list() {
+            return "list";
+        }
+
+        public String detail(long id) {
+            return "detail";
+        }
+
+        public String detail(String code) {
+            return "detail";
+        }
+    }
+
+    static class BaseController {
+
+        public String health() {
+            return "ok";
+        }
+    }
+
+    static class OrderController extends BaseController {
+    }
+
+    static class UserController extends BaseController {
+    }
+
+    static class Admin {
+
+        static class UserController {
+
+            public String list() {
+                return "admin";
+            }
+        }
+    }
+
+    static class Api {
+
+        static class UserController {
+
+            public String list() {
+                return "api";
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package io.github.flashlack1314.quickstart.page;
+
+import io.github.flashlack1314.quickstart.vo.CountMode;
+import io.github.flashlack1314.quickstart.vo.PageVO;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PageCountCache 测试类
+ *
+ * @author flash
+ */
+class PageCountCacheTest {
+
+    @Test
+    void testKeyIsIndependentOfFilterOrder() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("status", "PAID");
+        first.put("userId", 7);
+        first.put("keyword", null);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("userId", 7);
+        second.put("status", "PAID");
+
+        assertEquals("orders?status=PAID&userId=7", PageCountCache.key("orders", first));
+        assertEquals(PageCountCache.key("orders", first), PageCountCache.key("orders", second));
+        assertEquals("orders", PageCountCache.key("orders", Map.of()));
+    }
+
+    @Test
+    void testKeyEscapesSeparators() {
+        Map<String, Object> embedded = Map.of("status", "A&userId=7");
+        Map<String, Object> separate = Map.of("status", "A", "userId", "7");
+
+        assertEquals("orders?status=A%26userId%3D7", PageCountCache.key("orders", embedded));
+        assertNotEquals(PageCountCache.key("orders", embedded), PageCountCache.key("orders", separate));
+        assertNotEquals(PageCountCache.key("orders", Map.of("a", "%26")), PageCountCache.key("orders", Map.of("a", "&")));
+    }
+
+    @Test
+    void testCountIsCachedUntilInvalidated() {
+        PageCountCache cache = new PageCountCache(Duration.ofMinutes(1), 100);
+        AtomicInteger queries = new AtomicInteger();
+
+        assertEquals(42L, cache.count("orders?status=PAID", () -> {
+            queries.incrementAndGet();
+            return 42L;
+        }));
+        assertEquals(42L, cache.count("orders?status=PAID", () -> 0L));
+        assertEquals(1, queries.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        cache.invalidate("orders?status=PAID");
+        assertEquals(7L, cache.count("orders?status=PAID", () -> 7L));
+    }
+
+    @Test
+    void testExpiredCountIsRecomputed() throws Exception {
+        PageCountCache cache = new PageCountCache(Duration.ofMillis(10), 100);
+        cache.count("orders", () -> 1L);
+
+        TimeUnit.MILLISECONDS.sleep(30);
+
+        assertEquals(2L, cache.count("orders", () -> 2L));
+    }
+
+    @Test
+    void testInvalidatePrefix() {
+        PageCountCache cache = new PageCountCache(Duration.ofMinutes(1), 100);
+        cache.count("orders?status=PAID", () -> 1L);
+        cache.count("orders?status=NEW", () -> 2L);
+        cache.count("users", () -> 3L);
+
+        assertEquals(2, cache.invalidatePrefix("orders"));
+        assertEquals(1, cache.size());
+        assertEquals(3L, cache.count("users", () -> 0L));
+    }
+
+    @Test
+    void testFailedCountIsNotCached() {
+        PageCountCache cache = new PageCountCache(Duration.ofMinutes(1), 100);
+
+        assertThrows(IllegalStateException.class, () -> cache.count("orders", () -> {
+            throw new IllegalStateException("数据库不可用");
+        }));
+        assertEquals(0, cache.size());
+        assertEquals(5L, cache.count("orders", () -> 5L));
+    }
+
+    @Test
+    void testFailedCountWithErrorReleasesWaiters() throws Exception {
+        PageCountCache cache = new PageCountCache(Duration.ofMinutes(1), 100);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Long> failing = executor.submit(() -> cache.count("orders", () -> {
+                started.countDown();
+                await(release);
+                throw new AssertionError("统计失败");
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<Long> waiting = executor.submit(() -> cache.count("orders", () -> 0L));
+            release.countDown();
+
+            ExecutionException first = assertThrows(ExecutionException.class, () -> failing.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(AssertionError.class, first.getCause());
+            // 等待中的请求要么收到同一个错误，要么在条目移除后自行统计，不会永久阻塞
+            try {
+                assertEquals(0L, waiting.get(5, TimeUnit.SECONDS));
+            } catch (ExecutionException e) {
+                assertInstanceOf(AssertionError.class, e.getCause());
+            }
+            assertEquals(9L, cache.count("orders", () -> 9L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntriesAreEvicted() {
+        PageCountCache cache = new PageCountCache(Duration.ofMinutes(1), 10);
+        for (int i = 0; i < 10; i++) {
+            cache.count("key-" + i, () -> 1L);
+        }
+        cache.count("key-0", () -> 0L);
+
+        cache.count("key-10", () -> 1L);
+        cache.count("key-11", () -> 1L);
+
+        assertTrue(cache.size() <= 10);
+        long hitsBefore = cache.getHitCount();
+        cache.count("key-0", () -> 0L);
+        assertEquals(hitsBefore + 1, cache.getHitCount());
+    }
+
+    @Test
+    void testConcurrentMissesRunSingleQuery() throws Exception {
+        PageCountCache cache = new PageCountCache(Duration.ofMinutes(1), 100);
+        AtomicInteger queries = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<Long> first = executor.submit(() -> cache.count("orders", () -> {
+                queries.incrementAndGet();
+                started.countDown();
+                await(release);
+                return 99L;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            List<Future<Long>> others = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                others.add(executor.submit(() -> cache.count("orders", () -> {
+                    queries.incrementAndGet();
+                    return -1L;
+                })));
+            }
+            release.countDown();
+
+            assertEquals(99L, first.get(5, TimeUnit.SECONDS));
+            for (Future<Long> other : others) {
+                assertEquals(99L, other.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, queries.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCounterWithPageQuery() {
+        PageCountCache cache = new PageCountCache(Duration.ofMinutes(1), 100);
+        AtomicInteger queries = new AtomicInteger();
+        PageVO.RecordsQuery<Long> records = (offset, limit) -> List.of(offset + 1);
+
+        for (long page = 1; page <= 3; page++) {
+            PageVO<Long> result = PageVO.query(CountMode.EXACT, page, 1L, records,
+                    cache.counter("orders", () -> {
+                        queries.incrementAndGet();
+                        return 3L;
+                    }), null);
+            assertEquals(3L, result.getPages());
+        }
+
+        assertEquals(1, queries.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
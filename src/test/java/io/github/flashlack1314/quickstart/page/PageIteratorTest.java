@@ -0,0 +1,144 @@
+package io.github.flashlack1314.quickstart.page;
+
+import io.github.flashlack1314.quickstart.vo.PageVO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PageIterator 测试类
+ *
+ * @author flash
+ */
+class PageIteratorTest {
+
+    @Test
+    void testStreamsAllRecordsInOrder() {
+        try (Stream<Long> records = PageIterator.stream(exact(23), 5)) {
+            assertEquals(rows(1, 23), records.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testExactTotalBoundsPrefetch() {
+        Set<Long> fetched = ConcurrentHashMap.newKeySet();
+        PageIterator.PageFetcher<Long> fetcher = (current, size) -> {
+            fetched.add(current);
+            return exact(10).fetch(current, size);
+        };
+
+        try (PageIterator<Long> pages = new PageIterator<>(fetcher, 5)) {
+            int count = 0;
+            while (pages.hasNext()) {
+                pages.next();
+                count++;
+            }
+            assertEquals(2, count);
+        }
+        assertTrue(fetched.stream().allMatch(page -> page <= 3));
+        assertTrue(fetched.containsAll(Set.of(1L, 2L)));
+    }
+
+    @Test
+    void testSkipCountStopsAtLastPage() {
+        PageIterator.PageFetcher<Long> fetcher = (current, size) -> {
+            long from = (current - 1) * size + 1;
+            return PageVO.withoutTotal(rows(from, Math.min(12, from + size)), current, size);
+        };
+
+        try (PageIterator<Long> pages = new PageIterator<>(fetcher, 5)) {
+            assertEquals(List.of(1L, 2L, 3L), pagesOf(pages));
+        }
+    }
+
+    @Test
+    void testEmptyResult() {
+        try (PageIterator<Long> pages = new PageIterator<>(exact(0), 5)) {
+            assertFalse(pages.hasNext());
+        }
+    }
+
+    @Test
+    void testPagesArePrefetchedWhileProcessing() throws Exception {
+        CountDownLatch secondPageFetched = new CountDownLatch(1);
+        PageIterator.PageFetcher<Long> fetcher = (current, size) -> {
+            if (current == 2) {
+                secondPageFetched.countDown();
+            }
+            return exact(15).fetch(current, size);
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (PageIterator<Long> pages = new PageIterator<>(fetcher, 5, 1, executor)) {
+            assertEquals(1L, pages.next().getCurrent());
+            // 处理第一页时第二页已在后台查询
+            assertTrue(secondPageFetched.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testReadAheadIsBounded() {
+        AtomicInteger fetches = new AtomicInteger();
+        PageIterator.PageFetcher<Long> fetcher = (current, size) -> {
+            fetches.incrementAndGet();
+            return exact(1000).fetch(current, size);
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (PageIterator<Long> pages = new PageIterator<>(fetcher, 10, 3, executor)) {
+            pages.next();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(fetches.get() <= 4);
+    }
+
+    @Test
+    void testFailureIsPropagatedAndCancelsPrefetch() {
+        PageIterator.PageFetcher<Long> fetcher = (current, size) -> {
+            if (current == 2) {
+                throw new IllegalStateException("分片不可用");
+            }
+            return exact(50).fetch(current, size);
+        };
+
+        try (PageIterator<Long> pages = new PageIterator<>(fetcher, 10)) {
+            pages.next();
+            IllegalStateException e = assertThrows(IllegalStateException.class, pages::next);
+            assertEquals("分片不可用", e.getMessage());
+            assertFalse(pages.hasNext());
+        }
+    }
+
+    private static PageIterator.PageFetcher<Long> exact(long total) {
+        return (current, size) -> {
+            long from = (current - 1) * size + 1;
+            List<Long> records = from > total ? List.of() : rows(from, Math.min(total, from + size - 1));
+            return PageVO.of(records, total, current, size);
+        };
+    }
+
+    private static List<Long> pagesOf(PageIterator<Long> pages) {
+        List<Long> numbers = new ArrayList<>();
+        pages.forEachRemaining(page -> numbers.add(page.getCurrent()));
+        return numbers;
+    }
+
+    private static List<Long> rows(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.flashlack1314.quickstart.page;
+
+import io.github.flashlack1314.quickstart.vo.CountMode;
+import io.github.flashlack1314.quickstart.vo.PageVO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ShardedPageMerger 测试类
+ *
+ * @author flash
+ */
+class ShardedPageMergerTest {
+
+    /**
+     * 三个分片：按3取模分布的 1..30
+     */
+    private final List<List<Long>> shardData = List.of(
+            range(1, 30, 0), range(1, 30, 1), range(1, 30, 2));
+
+    @Test
+    void testMergesSortedShardsIntoGlobalPage() {
+        ShardedPageMerger<Long> merger = new ShardedPageMerger<>(exactShards(), Comparator.naturalOrder());
+
+        PageVO<Long> first = merger.page(1L, 7L);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L), first.getRecords());
+        assertEquals(30L, first.getTotal());
+        assertEquals(5L, first.getPages());
+        assertTrue(first.hasNext());
+
+        PageVO<Long> third = merger.page(3L, 7L);
+        assertEquals(List.of(15L, 16L, 17L, 18L, 19L, 20L, 21L), third.getRecords());
+
+        PageVO<Long> last = merger.page(5L, 7L);
+        assertEquals(List.of(29L, 30L), last.getRecords());
+        assertTrue(last.isLastPage());
+    }
+
+    @Test
+    void testReadsOnlyWhatTheRequestedPageNeeds() {
+        AtomicLong rowsRead = new AtomicLong();
+        List<PageIterator.PageFetcher<Long>> shards = new ArrayList<>();
+        for (List<Long> data : shardData) {
+            shards.add((current, size) -> {
+                PageVO<Long> page = slice(data, current, size);
+                rowsRead.addAndGet(page.getCurrentPageSize());
+                return page;
+            });
+        }
+        ShardedPageMerger<Long> merger = new ShardedPageMerger<>(shards, Comparator.naturalOrder(), null, 2);
+
+        merger.page(1L, 2L);
+
+        // 每个分片只读一批（2条）
+        assertTrue(rowsRead.get() <= 6);
+    }
+
+    @Test
+    void testShardsAreQueriedConcurrently() {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        List<PageIterator.PageFetcher<Long>> shards = new ArrayList<>();
+        for (List<Long> data : shardData) {
+            shards.add((current, size) -> {
+                allStarted.countDown();
+                try {
+                    assertTrue(allStarted.await(5, TimeUnit.SECONDS), "分片查询未并发执行");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return slice(data, current, size);
+            });
+        }
+
+        PageVO<Long> page = new ShardedPageMerger<>(shards, Comparator.<Long>naturalOrder()).page(1L, 3L);
+
+        assertEquals(List.of(1L, 2L, 3L), page.getRecords());
+    }
+
+    @Test
+    void testHugePageNumberIsEmpty() {
+        ShardedPageMerger<Long> merger = new ShardedPageMerger<>(exactShards(), Comparator.naturalOrder());
+
+        PageVO<Long> beyond = merger.page(Long.MAX_VALUE, 7L);
+        PageVO<Long> wrapped = merger.page(Long.MAX_VALUE / 4 + 2, 4L);
+
+        assertTrue(beyond.isEmpty());
+        assertEquals(30L, beyond.getTotal());
+        assertTrue(wrapped.isEmpty());
+        assertEquals(30L, wrapped.getTotal());
+    }
+
+    @Test
+    void testUnknownShardTotalFallsBackToSkip() {
+        List<PageIterator.PageFetcher<Long>> shards = new ArrayList<>(exactShards());
+        shards.add((current, size) -> PageVO.withoutTotal(current == 1 ? List.of(100L) : List.of(), current, size));
+        ShardedPageMerger<Long> merger = new ShardedPageMerger<>(shards, Comparator.naturalOrder());
+
+        PageVO<Long> page = merger.page(2L, 10L);
+
+        assertEquals(CountMode.SKIP, page.getCountMode());
+        assertNull(page.getTotal());
+        assertEquals(Stream.iterate(11L, i -> i + 1).limit(10).collect(Collectors.toList()), page.getRecords());
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    void testDescendingOrder() {
+        List<PageIterator.PageFetcher<Long>> shards = new ArrayList<>();
+        for (List<Long> data : shardData) {
+            List<Long> descending = new ArrayList<>(data);
+            descending.sort(Comparator.reverseOrder());
+            shards.add((current, size) -> slice(descending, current, size));
+        }
+
+        PageVO<Long> page = new ShardedPageMerger<>(shards, Comparator.<Long>reverseOrder()).page(1L, 4L);
+
+        assertEquals(List.of(30L, 29L, 28L, 27L), page.getRecords());
+    }
+
+    private List<PageIterator.PageFetcher<Long>> exactShards() {
+        List<PageIterator.PageFetcher<Long>> shards = new ArrayList<>();
+        for (List<Long> data : shardData) {
+            shards.add((current, size) -> slice(data, current, size));
+        }
+        return shards;
+    }
+
+    private static PageVO<Long> slice(List<Long> data, long current, long size) {
+        int from = (int) Math.min(data.size(), (current - 1) * size);
+        int to = (int) Math.min(data.size(), from + size);
+        return PageVO.of(data.subList(from, to), (long) data.size(), current, size);
+    }
+
+    private static List<Long> range(long from, long to, long remainder) {
+        List<Long> values = new ArrayList<>();
+        for (long i = from; i <= to; i++) {
+            if (i % 3 == remainder) {
+                values.add(i);
+            }
+        }
+        return values;
+    }
+}
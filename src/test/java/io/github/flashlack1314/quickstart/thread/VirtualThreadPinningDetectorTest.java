@@ -0,0 +1,60 @@
+package io.github.flashlack1314.quickstart.thread;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * VirtualThreadPinningDetector 测试类
+ *
+ * @author flash
+ */
+class VirtualThreadPinningDetectorTest {
+
+    private final Object monitor = new Object();
+
+    @Test
+    void testReportsSynchronizedPinning() throws Exception {
+        // JDK 24 起 synchronized 不再钉住载体线程（JEP 491）
+        assumeTrue(Runtime.version().feature() < 24, "当前 JDK 的 synchronized 不会钉住载体线程");
+        try (VirtualThreadPinningDetector detector = new VirtualThreadPinningDetector(Duration.ofMillis(5))) {
+            detector.start();
+            assumeTrue(detector.isRunning(), "JFR 不可用");
+
+            Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (detector.getPinnedCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertTrue(detector.getPinnedCount() > 0);
+            assertTrue(detector.getLocations().keySet().stream()
+                    .anyMatch(location -> location.contains("sleepWhileHoldingMonitor")));
+        }
+    }
+
+    @Test
+    void testCloseIsIdempotent() {
+        VirtualThreadPinningDetector detector = new VirtualThreadPinningDetector(Duration.ofMillis(20));
+        detector.start();
+        detector.close();
+        detector.close();
+
+        assertFalse(detector.isRunning());
+        assertEquals(0, detector.getPinnedCount());
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (monitor) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
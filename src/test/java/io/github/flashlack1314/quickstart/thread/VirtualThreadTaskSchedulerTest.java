@@ -0,0 +1,124 @@
+package io.github.flashlack1314.quickstart.thread;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VirtualThreadTaskScheduler 测试类
+ *
+ * @author flash
+ */
+class VirtualThreadTaskSchedulerTest {
+
+    private final VirtualThreadTaskScheduler scheduler = new VirtualThreadTaskScheduler("test-scheduling-");
+
+    @AfterEach
+    void tearDown() {
+        scheduler.close();
+    }
+
+    @Test
+    void testOneShotTaskRunsOnVirtualThread() throws Exception {
+        AtomicBoolean virtual = new AtomicBoolean();
+
+        ScheduledFuture<?> future = scheduler.schedule(() -> virtual.set(Thread.currentThread().isVirtual()),
+                Instant.now().plusMillis(10));
+
+        future.get(5, TimeUnit.SECONDS);
+        assertTrue(future.isDone());
+        assertTrue(virtual.get());
+    }
+
+    @Test
+    void testOneShotFailureCompletesFuture() {
+        ScheduledFuture<?> future = scheduler.schedule(() -> {
+            throw new IllegalStateException("任务失败");
+        }, Instant.now());
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    void testBlockingTaskDoesNotStallOtherTasks() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch ticks = new CountDownLatch(3);
+        scheduler.scheduleWithFixedDelay(() -> await(release), Duration.ofMillis(1));
+
+        ScheduledFuture<?> ticking = scheduler.scheduleAtFixedRate(ticks::countDown, Duration.ofMillis(10));
+        try {
+            assertTrue(ticks.await(5, TimeUnit.SECONDS));
+        } finally {
+            ticking.cancel(false);
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testFixedDelayWaitsForCompletionAndStopsWhenCancelled() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(3);
+
+        ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(20);
+            running.decrementAndGet();
+            runs.incrementAndGet();
+            started.countDown();
+        }, Duration.ofMillis(1));
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(future.cancel(false));
+        assertTrue(future.isCancelled());
+        sleep(50);
+        int stopped = runs.get();
+        sleep(100);
+
+        assertEquals(1, maxRunning.get());
+        assertEquals(stopped, runs.get());
+    }
+
+    @Test
+    void testRepeatingTaskContinuesAfterFailure() throws Exception {
+        CountDownLatch runs = new CountDownLatch(3);
+
+        ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay(() -> {
+            runs.countDown();
+            throw new IllegalStateException("任务失败");
+        }, Duration.ofMillis(1));
+        try {
+            assertTrue(runs.await(5, TimeUnit.SECONDS));
+        } finally {
+            future.cancel(false);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
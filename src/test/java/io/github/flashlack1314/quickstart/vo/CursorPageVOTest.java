@@ -0,0 +1,129 @@
+package io.github.flashlack1314.quickstart.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CursorPageVO 测试类
+ *
+ * @author flash
+ */
+class CursorPageVOTest {
+
+    private static final Function<Long, Object> ID = id -> id;
+
+    @Test
+    void testFirstPageWithMoreRows() {
+        CursorPageVO<Long> page = CursorPageVO.of(ids(1, 4), 3, ID);
+
+        assertEquals(List.of(1L, 2L, 3L), page.getRecords());
+        assertEquals(3, page.getSize());
+        assertTrue(page.isHasNext());
+        assertFalse(page.isHasPrevious());
+        assertNull(page.getPreviousCursor());
+        CursorToken next = CursorToken.decode(page.getNextCursor());
+        assertTrue(next.isNext());
+        assertEquals(3L, next.getKey());
+    }
+
+    @Test
+    void testLastPage() {
+        String cursor = CursorToken.next(3L);
+
+        CursorPageVO<Long> page = CursorPageVO.of(ids(4, 5), 3, cursor, ID);
+
+        assertEquals(List.of(4L, 5L), page.getRecords());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        assertTrue(page.isHasPrevious());
+        CursorToken previous = CursorToken.decode(page.getPreviousCursor());
+        assertFalse(previous.isNext());
+        assertEquals(4L, previous.getKey());
+    }
+
+    @Test
+    void testBackwardPageIsReversed() {
+        String cursor = CursorToken.previous(7L);
+        // WHERE id < 7 ORDER BY id DESC LIMIT 4
+        List<Long> rows = List.of(6L, 5L, 4L, 3L);
+
+        CursorPageVO<Long> page = CursorPageVO.of(rows, 3, cursor, ID);
+
+        assertEquals(List.of(4L, 5L, 6L), page.getRecords());
+        assertTrue(page.isHasNext());
+        assertTrue(page.isHasPrevious());
+        assertEquals(6L, CursorToken.decode(page.getNextCursor()).getKey());
+        assertEquals(4L, CursorToken.decode(page.getPreviousCursor()).getKey());
+    }
+
+    @Test
+    void testBackwardToFirstPage() {
+        CursorPageVO<Long> page = CursorPageVO.of(List.of(2L, 1L), 3, CursorToken.previous(3L), ID);
+
+        assertEquals(List.of(1L, 2L), page.getRecords());
+        assertTrue(page.isHasNext());
+        assertFalse(page.isHasPrevious());
+        assertNull(page.getPreviousCursor());
+    }
+
+    @Test
+    void testBackwardPageWithoutFollowingRows() {
+        // 游标定位的记录已删除且其后没有记录
+        CursorPageVO<Long> page = CursorPageVO.of(List.of(2L, 1L), 3, CursorToken.previous(3L), false, ID);
+
+        assertEquals(List.of(1L, 2L), page.getRecords());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        assertFalse(page.isHasPrevious());
+        assertNull(page.getPreviousCursor());
+    }
+
+    @Test
+    void testEmptyPageHasNoNavigationWithoutCursors() {
+        CursorPageVO<Long> forward = CursorPageVO.of(List.of(), 3, CursorToken.next(9L), ID);
+        CursorPageVO<Long> backward = CursorPageVO.of(List.of(), 3, CursorToken.previous(1L), ID);
+
+        assertTrue(forward.isEmpty());
+        assertFalse(forward.isHasNext());
+        assertFalse(forward.isHasPrevious());
+        assertNull(forward.getPreviousCursor());
+        assertTrue(backward.isEmpty());
+        assertFalse(backward.isHasNext());
+        assertNull(backward.getNextCursor());
+        assertFalse(backward.isHasPrevious());
+    }
+
+    @Test
+    void testEmpty() {
+        CursorPageVO<Long> page = CursorPageVO.of(List.of(), 3, ID);
+
+        assertTrue(page.isEmpty());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        assertTrue(CursorPageVO.<Long>empty().isEmpty());
+    }
+
+    @Test
+    void testSuccess() {
+        ResultVO<CursorPageVO<Long>> result = CursorPageVO.success(ids(1, 2), 5, ID);
+
+        assertEquals(200, result.getCode());
+        assertEquals(List.of(1L, 2L), result.getData().getRecords());
+        assertFalse(result.getData().isHasNext());
+    }
+
+    @Test
+    void testInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> CursorPageVO.of(ids(1, 2), 3, "@@", ID));
+    }
+
+    private static List<Long> ids(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.flashlack1314.quickstart.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CursorToken 测试类
+ *
+ * @author flash
+ */
+class CursorTokenTest {
+
+    @Test
+    void testSingleKeyRoundTrip() {
+        CursorToken next = CursorToken.decode(CursorToken.next(123456789L));
+        CursorToken previous = CursorToken.decode(CursorToken.previous(-42));
+
+        assertTrue(next.isNext());
+        assertEquals(123456789L, next.getKey());
+        assertFalse(previous.isNext());
+        assertEquals(-42L, previous.getKey());
+    }
+
+    @Test
+    void testCompositeKeyRoundTrip() {
+        Instant instant = Instant.parse("2024-05-01T08:30:00.123456789Z");
+        LocalDateTime dateTime = LocalDateTime.of(2024, 5, 1, 8, 30, 15);
+
+        CursorToken token = CursorToken.decode(CursorToken.next(new Object[]{instant, dateTime, "订单-1", 7L}));
+
+        assertEquals(List.of(instant, dateTime, "订单-1", 7L), token.getKeys());
+    }
+
+    @Test
+    void testTokenIsCompactAndUrlSafe() {
+        String token = CursorToken.next(1000L);
+
+        assertTrue(token.length() <= 6);
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void testInvalidToken() {
+        assertThrows(IllegalArgumentException.class, () -> CursorToken.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> CursorToken.decode("WA"));
+        assertThrows(IllegalArgumentException.class, () -> CursorToken.next(new Object()));
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.flashlack1314.quickstart.vo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IntPageVO 测试类
+ *
+ * @author flash
+ */
+class IntPageVOTest {
+
+    @Test
+    void testPage() {
+        int[] ids = IntStream.rangeClosed(1, 12).toArray();
+
+        IntPageVO page = IntPageVO.page(ids, 2, 5);
+
+        assertArrayEquals(new int[]{6, 7, 8, 9, 10}, page.getRecords());
+        assertEquals(12, page.getTotal());
+        assertEquals(3, page.getPages());
+        assertEquals(40, page.stream().sum());
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    void testSerializesSlice() throws Exception {
+        int[] ids = IntStream.rangeClosed(1, 12).toArray();
+
+        String json = new ObjectMapper().writeValueAsString(ResultVO.success(IntPageVO.of(ids, 10, 12, 12, 3, 5)));
+
+        assertEquals("{\"code\":200,\"message\":\"success\",\"data\":"
+                + "{\"records\":[11,12],\"total\":12,\"current\":3,\"size\":5,\"pages\":3,"
+                + "\"empty\":false,\"currentPageSize\":2,\"firstPage\":false,\"lastPage\":true}}", json);
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.flashlack1314.quickstart.vo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LongPageVO 测试类
+ *
+ * @author flash
+ */
+class LongPageVOTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testOf() {
+        LongPageVO page = LongPageVO.of(new long[]{11, 12, 13}, 23, 2, 10);
+
+        assertEquals(23, page.getTotal());
+        assertEquals(2, page.getCurrent());
+        assertEquals(10, page.getSize());
+        assertEquals(3, page.getPages());
+        assertEquals(3, page.getCurrentPageSize());
+        assertEquals(12, page.get(1));
+        assertTrue(page.hasNext());
+        assertTrue(page.hasPrevious());
+        assertFalse(page.isLastPage());
+    }
+
+    @Test
+    void testPageSlicesWithoutCopy() {
+        long[] ids = LongStream.rangeClosed(1, 25).toArray();
+
+        LongPageVO last = LongPageVO.page(ids, 3, 10);
+
+        assertArrayEquals(new long[]{21, 22, 23, 24, 25}, last.getRecords());
+        assertEquals(25, last.getTotal());
+        assertTrue(last.isLastPage());
+        assertSame(ids, last.array());
+        assertEquals(115, last.stream().sum());
+
+        LongPageVO beyond = LongPageVO.page(ids, 4, 10);
+        assertTrue(beyond.isEmpty());
+    }
+
+    @Test
+    void testHugePageNumberIsEmpty() {
+        long[] ids = LongStream.rangeClosed(1, 25).toArray();
+
+        LongPageVO page = LongPageVO.page(ids, Long.MAX_VALUE, 10);
+        LongPageVO all = LongPageVO.page(ids, 1, Long.MAX_VALUE);
+        LongPageVO tail = LongPageVO.page(ids, 2, Long.MAX_VALUE);
+
+        assertTrue(page.isEmpty());
+        assertEquals(25, page.getTotal());
+        assertEquals(25, all.getCurrentPageSize());
+        assertTrue(tail.isEmpty());
+    }
+
+    @Test
+    void testInvalidSlice() {
+        assertThrows(IndexOutOfBoundsException.class, () -> LongPageVO.of(new long[3], 2, 5, 3, 1, 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> LongPageVO.of(new long[]{1}, 0, 1, 1, 1, 10).get(1));
+    }
+
+    @Test
+    void testSerializesAsPageVo() throws Exception {
+        long[] ids = LongStream.rangeClosed(1, 25).toArray();
+
+        String json = objectMapper.writeValueAsString(LongPageVO.page(ids, 2, 10));
+
+        assertEquals("{\"records\":[11,12,13,14,15,16,17,18,19,20],\"total\":25,\"current\":2,\"size\":10,\"pages\":3,"
+                + "\"empty\":false,\"currentPageSize\":10,\"firstPage\":false,\"lastPage\":false}", json);
+        List<Long> records = LongStream.rangeClosed(11, 20).boxed().toList();
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(PageVO.of(records, 25L, 2L, 10L))),
+                objectMapper.readTree(json));
+    }
+
+    @Test
+    void testSuccessAndEmpty() throws Exception {
+        ResultVO<LongPageVO> result = LongPageVO.success(new long[]{7}, 1, 1, 10);
+
+        assertEquals(200, result.getCode());
+        assertEquals(7, result.getData().get(0));
+        assertTrue(LongPageVO.empty().isEmpty());
+        assertEquals("{\"records\":[],\"total\":0,\"current\":1,\"size\":10,\"pages\":0,"
+                        + "\"empty\":true,\"currentPageSize\":0,\"firstPage\":true,\"lastPage\":true}",
+                objectMapper.writeValueAsString(LongPageVO.empty()));
+    }
+}
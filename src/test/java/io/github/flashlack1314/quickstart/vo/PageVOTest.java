@@ -1,12 +1,24 @@
 package io.github.flashlack1314.quickstart.vo;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 /**
  * PageVO 测试类
@@ -182,4 +194,335 @@ class PageVOTest {
         PageVO<String> page4 = PageVO.of(testData, 5L, 1L, 100L);
         assertEquals(1L, page4.getPages()); // (5 + 100 - 1) / 100 = 1
     }
-}
\ No newline at end of file
+
+    @Test
+    void testOfUsesExactCountMode() {
+        PageVO<String> page = PageVO.of(testData, 100L, 2L, 10L);
+
+        assertEquals(CountMode.EXACT, page.getCountMode());
+        assertNull(page.getHasMore());
+    }
+
+    @Test
+    void testWithoutTotal() {
+        PageVO<Long> middle = PageVO.withoutTotal(rows(21, 31), 3L, 10L);
+        assertEquals(CountMode.SKIP, middle.getCountMode());
+        assertNull(middle.getTotal());
+        assertEquals(10, middle.getCurrentPageSize());
+        assertTrue(middle.hasNext());
+        assertFalse(middle.isLastPage());
+        assertEquals(4L, middle.getPages());
+
+        PageVO<Long> last = PageVO.withoutTotal(rows(31, 35), 4L, 10L);
+        assertFalse(last.hasNext());
+        assertTrue(last.isLastPage());
+        assertEquals(4L, last.getPages());
+    }
+
+    @Test
+    void testEstimatedTotalIsCorrectedByData() {
+        PageVO<Long> underestimated = PageVO.estimated(rows(11, 21), 5L, 2L, 10L);
+        assertEquals(CountMode.ESTIMATED, underestimated.getCountMode());
+        assertEquals(21L, underestimated.getTotal());
+        assertEquals(3L, underestimated.getPages());
+        assertTrue(underestimated.hasNext());
+
+        PageVO<Long> overestimated = PageVO.estimated(rows(11, 15), 1000L, 2L, 10L);
+        assertEquals(15L, overestimated.getTotal());
+        assertEquals(2L, overestimated.getPages());
+        assertFalse(overestimated.hasNext());
+        assertTrue(overestimated.isLastPage());
+    }
+
+    @Test
+    void testEstimatedHugePageNumberDoesNotOverflow() {
+        PageVO<Long> page = PageVO.estimated(rows(1, 11), 100L, Long.MAX_VALUE, 10L);
+        PageVO<Long> last = PageVO.estimated(rows(1, 3), 100L, Long.MAX_VALUE, 10L);
+
+        assertEquals(Long.MAX_VALUE, page.getTotal());
+        assertEquals(Long.MAX_VALUE / 10 + 1, page.getPages());
+        assertEquals(Long.MAX_VALUE, last.getTotal());
+        assertTrue(last.getPages() > 0);
+    }
+
+    @Test
+    void testQueryExactSkipsRecordsBeyondTotal() {
+        AtomicInteger fetches = new AtomicInteger();
+        PageVO.RecordsQuery<Long> query = (offset, limit) -> {
+            fetches.incrementAndGet();
+            return rows(offset + 1, offset + limit);
+        };
+
+        PageVO<Long> page = PageVO.query(CountMode.EXACT, 2L, 10L, query, () -> 25L, null);
+        assertEquals(rows(11, 20), page.getRecords());
+        assertEquals(3L, page.getPages());
+
+        PageVO<Long> beyond = PageVO.query(CountMode.EXACT, 5L, 10L, query, () -> 25L, null);
+        assertTrue(beyond.isEmpty());
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    void testQueryHugePageNumberDoesNotOverflow() {
+        List<Long> offsets = new ArrayList<>();
+        PageVO.RecordsQuery<Long> query = (offset, limit) -> {
+            offsets.add(offset);
+            return List.of();
+        };
+
+        PageVO<Long> exact = PageVO.query(CountMode.EXACT, Long.MAX_VALUE, 10L, query, () -> 25L, null);
+        PageVO<Long> skip = PageVO.query(CountMode.SKIP, Long.MAX_VALUE / 2, 10L, query, null, null);
+
+        assertTrue(exact.isEmpty());
+        assertEquals(25L, exact.getTotal());
+        assertTrue(skip.isEmpty());
+        assertEquals(List.of(Long.MAX_VALUE), offsets);
+    }
+
+    @Test
+    void testQuerySkipFetchesOneExtraRow() {
+        AtomicInteger limit = new AtomicInteger();
+
+        PageVO<Long> page = PageVO.query(CountMode.SKIP, 1L, 10L, (offset, max) -> {
+            limit.set((int) max);
+            return rows(1, 11);
+        }, () -> fail("SKIP 模式不应统计总数"), null);
+
+        assertEquals(11, limit.get());
+        assertEquals(10, page.getCurrentPageSize());
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    void testQueryAsyncUsesCountWhenInTime() {
+        PageVO<Long> page = PageVO.query(CountMode.ASYNC, 3L, 10L,
+                (offset, limit) -> rows(offset + 1, Math.min(25, offset + limit)), () -> 25L, () -> 100L,
+                Duration.ofSeconds(5));
+
+        assertEquals(CountMode.EXACT, page.getCountMode());
+        assertEquals(25L, page.getTotal());
+        assertEquals(3L, page.getPages());
+        assertFalse(page.hasNext());
+        assertTrue(page.isLastPage());
+    }
+
+    @Test
+    void testQueryAsyncRunsCountOnGivenExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "count-thread"));
+        try {
+            String[] thread = new String[1];
+            PageVO<Long> page = PageVO.query(CountMode.ASYNC, 1L, 10L, (offset, limit) -> rows(1, 5), () -> {
+                thread[0] = Thread.currentThread().getName();
+                return 5L;
+            }, null, Duration.ofSeconds(5), executor);
+
+            assertEquals(5L, page.getTotal());
+            assertEquals("count-thread", thread[0]);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testExactPageJsonOmitsCountModeAndHasMore() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        PageVO<String> legacy = new PageVO<>(testData, 5L, 1L, 10L, 1L);
+
+        assertEquals(PageVO.of(testData, 5L, 1L, 10L), legacy);
+        assertEquals(PageVO.of(testData, 5L, 1L, 10L).hashCode(), legacy.hashCode());
+        JsonNode exact = objectMapper.valueToTree(legacy);
+        assertFalse(exact.has("countMode"));
+        assertFalse(exact.has("hasMore"));
+        assertEquals(1L, exact.get("pages").asLong());
+
+        JsonNode skipped = objectMapper.valueToTree(PageVO.withoutTotal(rows(1, 11), 1L, 10L));
+        assertEquals("SKIP", skipped.get("countMode").asText());
+        assertTrue(skipped.get("hasMore").asBoolean());
+    }
+
+    @Test
+    void testQueryAsyncFallsBackToEstimateOnTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        PageVO<Long> page = PageVO.query(CountMode.ASYNC, 1L, 10L, (offset, limit) -> rows(1, 11), () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 25L;
+        }, () -> 500L, Duration.ofMillis(20));
+
+        assertEquals(CountMode.ESTIMATED, page.getCountMode());
+        assertEquals(500L, page.getTotal());
+        assertTrue(page.hasNext());
+
+        PageVO<Long> skipped = PageVO.query(CountMode.ASYNC, 1L, 10L, (offset, limit) -> rows(1, 11), () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 25L;
+        }, null, Duration.ofMillis(20));
+
+        assertEquals(CountMode.SKIP, skipped.getCountMode());
+        assertNull(skipped.getTotal());
+        assertTrue(skipped.hasNext());
+        release.countDown();
+    }
+
+    @Test
+    void testFromCollectionMatchesFullSort() {
+        List<Long> source = new Random(42).longs(5_000, 0, 1_000).boxed().collect(Collectors.toList());
+        Comparator<Long> comparator = Comparator.reverseOrder();
+
+        for (long current : new long[]{1, 7, 40, 51}) {
+            PageVO<Long> page = PageVO.fromCollection(source, comparator, value -> value % 3 == 0, current, 50L);
+
+            List<Long> expected = source.stream().filter(value -> value % 3 == 0).sorted(comparator)
+                    .skip((current - 1) * 50).limit(50).collect(Collectors.toList());
+            long total = source.stream().filter(value -> value % 3 == 0).count();
+            assertEquals(expected, page.getRecords());
+            assertEquals(total, page.getTotal());
+            assertEquals((total + 49) / 50, page.getPages());
+        }
+    }
+
+    @Test
+    void testFromCollectionKeepsOrderOfEqualKeys() {
+        List<String> source = List.of("b1", "a1", "b2", "a2", "b3", "a3");
+
+        PageVO<String> page = PageVO.fromCollection(source, Comparator.comparing(value -> value.charAt(0)), null, 1L, 4L);
+
+        assertEquals(List.of("a1", "a2", "a3", "b1"), page.getRecords());
+        assertEquals(6L, page.getTotal());
+    }
+
+    @Test
+    void testFromCollectionWithoutComparator() {
+        PageVO<Long> page = PageVO.fromCollection(rows(1, 30), null, value -> value % 2 == 0, 2L, 5L);
+
+        assertEquals(List.of(12L, 14L, 16L, 18L, 20L), page.getRecords());
+        assertEquals(15L, page.getTotal());
+        assertTrue(PageVO.fromCollection(Collections.<Long>emptyList(), null, null, 1L, 5L).isEmpty());
+    }
+
+    @Test
+    void testFromCollectionNormalizesPageParametersForEmptySource() {
+        PageVO<Long> empty = PageVO.fromCollection(Collections.<Long>emptyList(), null, null, null, -5L);
+        PageVO<Long> nonEmpty = PageVO.fromCollection(rows(1, 3), null, null, null, -5L);
+
+        assertEquals(1L, empty.getCurrent());
+        assertEquals(10L, empty.getSize());
+        assertEquals(nonEmpty.getCurrent(), empty.getCurrent());
+        assertEquals(nonEmpty.getSize(), empty.getSize());
+        assertEquals(1L, PageVO.fromCollection(null, null, null, -2L, 5L).getCurrent());
+    }
+
+    @Test
+    void testFromCollectionHugePageNumberIsEmpty() {
+        PageVO<Long> beyond = PageVO.fromCollection(rows(1, 30), Comparator.naturalOrder(), null, Long.MAX_VALUE, 10L);
+        PageVO<Long> overflow = PageVO.fromCollection(rows(1, 30), null, null, Long.MAX_VALUE / 2, 10L);
+        PageVO<Long> all = PageVO.fromCollection(rows(1, 30), null, null, 1L, Long.MAX_VALUE);
+
+        assertTrue(beyond.isEmpty());
+        assertEquals(30L, beyond.getTotal());
+        assertTrue(overflow.isEmpty());
+        assertEquals(30L, overflow.getTotal());
+        assertEquals(rows(1, 30), all.getRecords());
+    }
+
+    @Test
+    void testFromCollectionParallel() {
+        List<Long> source = new Random(7).longs(100_000, 0, 10_000).boxed().collect(Collectors.toList());
+
+        PageVO<Long> parallel = PageVO.fromCollection(source, Comparator.naturalOrder(), value -> value > 100, 3L, 20L, true);
+        PageVO<Long> sequential = PageVO.fromCollection(source, Comparator.naturalOrder(), value -> value > 100, 3L, 20L);
+
+        assertEquals(sequential.getRecords(), parallel.getRecords());
+        assertEquals(sequential.getTotal(), parallel.getTotal());
+    }
+
+    @Test
+    void testMapKeepsPageInfo() {
+        PageVO<Long> source = PageVO.withoutTotal(rows(1, 6), 2L, 5L);
+
+        PageVO<String> mapped = source.map(value -> "#" + value);
+
+        assertEquals(List.of("#1", "#2", "#3", "#4", "#5"), mapped.getRecords());
+        assertEquals(source.getCurrent(), mapped.getCurrent());
+        assertEquals(source.getSize(), mapped.getSize());
+        assertEquals(source.getPages(), mapped.getPages());
+        assertEquals(CountMode.SKIP, mapped.getCountMode());
+        assertTrue(mapped.hasNext());
+    }
+
+    @Test
+    void testMapLazyConvertsOnlyAccessedRecords() {
+        AtomicInteger calls = new AtomicInteger();
+        PageVO<Long> source = PageVO.of(rows(1, 10), 100L, 1L, 10L);
+
+        PageVO<String> mapped = source.mapLazy(value -> {
+            calls.incrementAndGet();
+            return "#" + value;
+        });
+
+        assertEquals(0, calls.get());
+        assertEquals(10, mapped.getRecords().size());
+        assertEquals("#3", mapped.getRecords().get(2));
+        assertEquals("#3", mapped.getRecords().get(2));
+        assertEquals(1, calls.get());
+        assertEquals(100L, mapped.getTotal());
+        assertThrows(UnsupportedOperationException.class, () -> mapped.getRecords().set(0, "x"));
+    }
+
+    @Test
+    void testMapParallelKeepsOrder() {
+        PageVO<Long> source = PageVO.of(rows(1, 1000), 5000L, 1L, 1000L);
+
+        PageVO<Long> commonPool = source.mapParallel(value -> value * 2);
+
+        assertEquals(source.map(value -> value * 2).getRecords(), commonPool.getRecords());
+        assertEquals(5000L, commonPool.getTotal());
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            PageVO<Long> custom = source.mapParallel(value -> value * 2, executor);
+            assertEquals(commonPool.getRecords(), custom.getRecords());
+            assertEquals(source.getPages(), custom.getPages());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testMapParallelRethrowsMapperException() {
+        PageVO<Long> source = PageVO.of(rows(1, 100), 100L, 1L, 100L);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            IllegalStateException e = assertThrows(IllegalStateException.class, () -> source.mapParallel(value -> {
+                if (value == 50L) {
+                    throw new IllegalStateException("boom");
+                }
+                return value;
+            }, executor));
+            assertEquals("boom", e.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testMapEmptyPage() {
+        PageVO<Long> empty = PageVO.empty();
+
+        assertTrue(empty.map(String::valueOf).isEmpty());
+        assertTrue(empty.mapLazy(String::valueOf).isEmpty());
+        assertTrue(empty.mapParallel(String::valueOf).isEmpty());
+    }
+
+    private static List<Long> rows(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+    }
+}
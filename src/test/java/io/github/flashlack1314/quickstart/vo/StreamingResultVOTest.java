@@ -0,0 +1,77 @@
+package io.github.flashlack1314.quickstart.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StreamingResultVO 测试类
+ *
+ * @author flash
+ */
+class StreamingResultVOTest {
+
+    @Test
+    void testStreamData() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        StreamingResultVO<String> result = ResultVO.stream(Stream.of("a", "b").onClose(() -> closed.set(true)));
+
+        assertEquals(200, result.getCode());
+        assertEquals("success", result.getMessage());
+        assertEquals(List.of("a", "b"), drain(result.getData()));
+
+        result.close();
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testIteratorData() throws Exception {
+        StreamingResultVO<Integer> result = ResultVO.stream(List.of(1, 2, 3).iterator());
+
+        assertEquals(List.of(1, 2, 3), drain(result.getData()));
+        result.close();
+    }
+
+    @Test
+    void testCursorData() throws Exception {
+        AtomicInteger remaining = new AtomicInteger(3);
+        AtomicBoolean closed = new AtomicBoolean();
+        ClosableCursor cursor = new ClosableCursor(remaining, closed);
+
+        StreamingResultVO<Integer> result = ResultVO.stream(cursor);
+
+        assertEquals(List.of(3, 2, 1), drain(result.getData()));
+        assertFalse(result.getData().hasNext());
+        result.close();
+        assertTrue(closed.get());
+    }
+
+    private static <T> List<T> drain(Iterator<T> iterator) {
+        List<T> values = new ArrayList<>();
+        iterator.forEachRemaining(values::add);
+        return values;
+    }
+
+    private record ClosableCursor(AtomicInteger remaining, AtomicBoolean closed)
+            implements Supplier<Integer>, AutoCloseable {
+
+        @Override
+        public Integer get() {
+            int value = remaining.getAndDecrement();
+            return value > 0 ? value : null;
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.flashlack1314.quickstart.web;
+
+import io.github.flashlack1314.quickstart.metrics.LatencyMetrics;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * LatencyRecordingFilter 测试类
+ *
+ * @author flash
+ */
+class LatencyRecordingFilterTest {
+
+    private final LatencyMetrics metrics = new LatencyMetrics();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new SampleController(), new OrderController(), new UserController())
+                .setControllerAdvice(new ResultCodeCaptureAdvice())
+                .addFilters(new LatencyRecordingFilter(metrics))
+                .build();
+    }
+
+    @Test
+    void testRecordByResultCode() throws Exception {
+        mockMvc.perform(get("/ok")).andExpect(status().isOk());
+        mockMvc.perform(get("/ok")).andExpect(status().isOk());
+        mockMvc.perform(get("/missing-order")).andExpect(status().isOk());
+
+        assertEquals(2, metrics.snapshot(SampleController.class.getName() + "#ok()").getCount());
+        assertEquals(2, metrics.snapshot(SampleController.class.getName() + "#ok()", 200).getCount());
+        assertEquals(1, metrics.snapshot(SampleController.class.getName() + "#missingOrder()", 40401).getCount());
+    }
+
+    @Test
+    void testFallbackToHttpStatus() throws Exception {
+        mockMvc.perform(get("/text")).andExpect(status().isOk());
+
+        assertEquals(1, metrics.snapshot(SampleController.class.getName() + "#text()", 200).getCount());
+    }
+
+    @Test
+    void testUnhandledExceptionRecordedAs500() {
+        assertThrows(ServletException.class, () -> mockMvc.perform(get("/fail")));
+
+        assertEquals(1, metrics.snapshot(SampleController.class.getName() + "#fail()", 500).getCount());
+    }
+
+    @Test
+    void testInheritedHandlerMethodRecordedPerController() throws Exception {
+        mockMvc.perform(get("/orders/health")).andExpect(status().isOk());
+        mockMvc.perform(get("/orders/health")).andExpect(status().isOk());
+        mockMvc.perform(get("/users/health")).andExpect(status().isOk());
+
+        assertEquals(2, metrics.snapshot(OrderController.class.getName() + "#health()").getCount());
+        assertEquals(1, metrics.snapshot(UserController.class.getName() + "#health()").getCount());
+    }
+
+    @Test
+    void testUnmatchedRequestIsNotRecorded() throws Exception {
+        mockMvc.perform(get("/unknown")).andExpect(status().isNotFound());
+
+        assertTrue(metrics.snapshots().isEmpty());
+    }
+
+    @RestController
+    static class SampleController {
+
+        @GetMapping("/ok")
+        public ResultVO<String> ok() {
+            return ResultVO.success("ok");
+        }
+
+        @GetMapping("/missing-order")
+        public ResultVO<Void> missingOrder() {
+            return ResultVO.error(40401, "订单不存在");
+        }
+
+        @GetMapping("/text")
+        public String text() {
+            return "text";
+        }
+
+        @GetMapping("/fail")
+        public String fail() {
+            throw new IllegalStateException("处理失败");
+        }
+    }
+
+    abstract static class BaseController {
+
+        @GetMapping("/health")
+        public String health() {
+            return "ok";
+        }
+    }
+
+    @RestController
+    @RequestMapping("/orders")
+    static class OrderController extends BaseController {
+    }
+
+    @RestController
+    @RequestMapping("/users")
+    static class UserController extends BaseController {
+    }
+}
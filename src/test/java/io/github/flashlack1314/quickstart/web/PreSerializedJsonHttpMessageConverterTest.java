@@ -0,0 +1,115 @@
+package io.github.flashlack1314.quickstart.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.flashlack1314.quickstart.exception.CommonErrorCode;
+import io.github.flashlack1314.quickstart.exception.ErrorCodeRegistry;
+import io.github.flashlack1314.quickstart.vo.PageVO;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PreSerializedJsonHttpMessageConverter 测试类
+ *
+ * @author flash
+ */
+class PreSerializedJsonHttpMessageConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final PreSerializedJsonHttpMessageConverter converter = new PreSerializedJsonHttpMessageConverter(objectMapper);
+
+    @Test
+    void testConstantResponsesArePreSerialized() throws Exception {
+        PreSerializedResponses responses = converter.getResponses();
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(ResultVO.success()), responses.lookup(ResultVO.success()));
+        assertArrayEquals(objectMapper.writeValueAsBytes(PageVO.emptyResult()), responses.lookup(PageVO.emptyResult()));
+        ResultVO<Void> error = ErrorCodeRegistry.response(CommonErrorCode.CLASS_CAST_ERROR);
+        assertArrayEquals(objectMapper.writeValueAsBytes(error), responses.lookup(error));
+    }
+
+    @Test
+    void testNonConstantResponsesAreNotMatched() {
+        PreSerializedResponses responses = converter.getResponses();
+
+        assertNull(responses.lookup(ResultVO.success("data")));
+        assertNull(responses.lookup(ResultVO.error(500, "自定义错误")));
+        assertNull(responses.lookup("plain"));
+        assertNull(responses.lookup(null));
+    }
+
+    @Test
+    void testWritesPreSerializedBytesWithContentLength() throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(ResultVO.success(), MediaType.APPLICATION_JSON, output);
+
+        byte[] expected = objectMapper.writeValueAsBytes(ResultVO.success());
+        assertArrayEquals(expected, output.getBodyAsBytes());
+        assertEquals(expected.length, output.getHeaders().getContentLength());
+        assertEquals(MediaType.APPLICATION_JSON, output.getHeaders().getContentType());
+    }
+
+    @Test
+    void testOtherResponsesAreSerializedNormally() throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        ResultVO<String> result = ResultVO.success("hello");
+
+        converter.write(result, MediaType.APPLICATION_JSON, output);
+
+        assertEquals(objectMapper.writeValueAsString(result), output.getBodyAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testConfigurerReplacesJacksonConverter() {
+        ObjectMapper customMapper = new ObjectMapper();
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        converters.add(new StringHttpMessageConverter());
+        converters.add(new MappingJackson2HttpMessageConverter(customMapper));
+
+        new PreSerializedResponsesConfigurer().extendMessageConverters(converters);
+
+        assertEquals(2, converters.size());
+        assertInstanceOf(StringHttpMessageConverter.class, converters.get(0));
+        PreSerializedJsonHttpMessageConverter replaced =
+                assertInstanceOf(PreSerializedJsonHttpMessageConverter.class, converters.get(1));
+        assertSame(customMapper, replaced.getObjectMapper());
+    }
+
+    @Test
+    void testConfigurerKeepsMediaTypesAndCharset() {
+        MappingJackson2HttpMessageConverter jackson = new MappingJackson2HttpMessageConverter();
+        jackson.setSupportedMediaTypes(List.of(MediaType.valueOf("application/vnd.demo+json")));
+        jackson.setDefaultCharset(StandardCharsets.UTF_8);
+        List<HttpMessageConverter<?>> converters = new ArrayList<>(List.of(jackson));
+
+        new PreSerializedResponsesConfigurer().extendMessageConverters(converters);
+
+        PreSerializedJsonHttpMessageConverter replaced =
+                assertInstanceOf(PreSerializedJsonHttpMessageConverter.class, converters.get(0));
+        assertEquals(List.of(MediaType.valueOf("application/vnd.demo+json")), replaced.getSupportedMediaTypes());
+        assertEquals(StandardCharsets.UTF_8, replaced.getDefaultCharset());
+    }
+
+    @Test
+    void testConfigurerKeepsJacksonSubclasses() {
+        MappingJackson2HttpMessageConverter custom = new MappingJackson2HttpMessageConverter() {
+        };
+        List<HttpMessageConverter<?>> converters = new ArrayList<>(List.of(custom));
+
+        new PreSerializedResponsesConfigurer().extendMessageConverters(converters);
+
+        assertSame(custom, converters.get(0));
+    }
+}
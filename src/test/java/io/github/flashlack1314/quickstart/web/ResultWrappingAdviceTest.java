@@ -0,0 +1,171 @@
+package io.github.flashlack1314.quickstart.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResultWrappingAdvice 测试类
+ *
+ * @author flash
+ */
+class ResultWrappingAdviceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ResultWrappingAdvice advice = new ResultWrappingAdvice(objectMapper);
+
+    private final ServletServerHttpRequest request = new ServletServerHttpRequest(new MockHttpServletRequest());
+
+    private final ServletServerHttpResponse response = new ServletServerHttpResponse(new MockHttpServletResponse());
+
+    @Test
+    void testRawResultIsWrapped() {
+        MethodParameter returnType = returnType(SampleController.class, "list");
+
+        assertTrue(advice.supports(returnType, MappingJackson2HttpMessageConverter.class));
+        Object body = advice.beforeBodyWrite(List.of("a", "b"), returnType, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, request, response);
+
+        ResultVO<?> result = assertInstanceOf(ResultVO.class, body);
+        assertEquals(200, result.getCode());
+        assertEquals(List.of("a", "b"), result.getData());
+    }
+
+    @Test
+    void testResultVoIsNotWrappedAgain() {
+        assertFalse(advice.supports(returnType(SampleController.class, "result"), MappingJackson2HttpMessageConverter.class));
+        assertFalse(advice.supports(returnType(SampleController.class, "entity"), MappingJackson2HttpMessageConverter.class));
+
+        MethodParameter returnType = returnType(SampleController.class, "anything");
+        ResultVO<String> result = ResultVO.success("done");
+        assertSame(result, advice.beforeBodyWrite(result, returnType, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, request, response));
+    }
+
+    @Test
+    void testSkipAnnotation() {
+        assertFalse(advice.supports(returnType(SampleController.class, "skipped"), MappingJackson2HttpMessageConverter.class));
+        assertFalse(advice.supports(returnType(SkippedController.class, "list"), MappingJackson2HttpMessageConverter.class));
+    }
+
+    @Test
+    void testStringResultIsSerialized() throws Exception {
+        MethodParameter returnType = returnType(SampleController.class, "text");
+
+        assertTrue(advice.supports(returnType, StringHttpMessageConverter.class));
+        assertFalse(advice.supports(returnType, MappingJackson2HttpMessageConverter.class));
+        Object body = advice.beforeBodyWrite("hello", returnType, MediaType.TEXT_PLAIN,
+                StringHttpMessageConverter.class, request, response);
+
+        assertEquals(objectMapper.writeValueAsString(ResultVO.success("hello")), body);
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void testDecisionIsCachedPerMethod() {
+        MethodParameter first = returnType(SampleController.class, "list");
+        MethodParameter second = returnType(SampleController.class, "list");
+
+        assertSame(advice.decision(first), advice.decision(second));
+        assertEquals(ResultWrappingAdvice.Wrapping.OBJECT, advice.decision(first));
+    }
+
+    @Test
+    void testInheritedMethodDecidedPerController() throws NoSuchMethodException {
+        var method = BaseController.class.getDeclaredMethod("get");
+        MethodParameter skipped = new MethodParameter(method, -1).withContainingClass(SkippedTextController.class);
+        MethodParameter text = new MethodParameter(method, -1).withContainingClass(TextController.class);
+        MethodParameter list = new MethodParameter(method, -1).withContainingClass(ListController.class);
+
+        assertEquals(ResultWrappingAdvice.Wrapping.SKIP, advice.decision(skipped));
+        assertEquals(ResultWrappingAdvice.Wrapping.STRING, advice.decision(text));
+        assertEquals(ResultWrappingAdvice.Wrapping.OBJECT, advice.decision(list));
+    }
+
+    @Test
+    void testExcludedPackages() {
+        MethodParameter returnType = returnType(SampleController.class, "list");
+        ResultWrappingAdvice excluding = new ResultWrappingAdvice(objectMapper,
+                List.of(SampleController.class.getPackageName()));
+
+        assertEquals(ResultWrappingAdvice.Wrapping.SKIP, excluding.decision(returnType));
+        assertEquals(ResultWrappingAdvice.Wrapping.OBJECT,
+                new ResultWrappingAdvice(objectMapper, List.of("io.github.flashlack1314.quickstart.web2")).decision(returnType));
+    }
+
+    private static MethodParameter returnType(Class<?> controller, String methodName) {
+        for (var method : controller.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                return new MethodParameter(method, -1);
+            }
+        }
+        throw new IllegalArgumentException(methodName);
+    }
+
+    static class SampleController {
+
+        List<String> list() {
+            return List.of();
+        }
+
+        ResultVO<String> result() {
+            return ResultVO.success();
+        }
+
+        ResponseEntity<String> entity() {
+            return ResponseEntity.ok("ok");
+        }
+
+        Object anything() {
+            return null;
+        }
+
+        String text() {
+            return "text";
+        }
+
+        @SkipResultWrapping
+        List<String> skipped() {
+            return List.of();
+        }
+    }
+
+    @SkipResultWrapping
+    static class SkippedController {
+
+        List<String> list() {
+            return List.of();
+        }
+    }
+
+    abstract static class BaseController<T> {
+
+        T get() {
+            return null;
+        }
+    }
+
+    static class TextController extends BaseController<String> {
+    }
+
+    static class ListController extends BaseController<List<String>> {
+    }
+
+    @SkipResultWrapping
+    static class SkippedTextController extends BaseController<String> {
+    }
+}
@@ -0,0 +1,199 @@
+package io.github.flashlack1314.quickstart.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.flashlack1314.quickstart.exception.BusinessException;
+import io.github.flashlack1314.quickstart.handler.ExceptionTranslator;
+import io.github.flashlack1314.quickstart.vo.ResultVO;
+import io.github.flashlack1314.quickstart.vo.StreamingResultVO;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StreamingResultWriter 测试类
+ *
+ * @author flash
+ */
+class StreamingResultWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final StreamingResultWriter writer =
+            new StreamingResultWriter(objectMapper, new ExceptionTranslator(), null, 2);
+
+    @Test
+    void testWritesEnvelopeAndTrailer() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = writer.write(ResultVO.stream(Stream.of(Map.of("id", 1), Map.of("id", 2), Map.of("id", 3))
+                .onClose(() -> closed.set(true))), out);
+
+        assertEquals(3, count);
+        assertTrue(closed.get());
+        JsonNode body = objectMapper.readTree(out.toByteArray());
+        assertEquals(200, body.get("code").asInt());
+        assertEquals("success", body.get("message").asText());
+        assertEquals(3, body.get("data").size());
+        assertEquals(2, body.get("data").get(1).get("id").asInt());
+        assertTrue(body.get("complete").asBoolean());
+        assertNull(body.get("error"));
+    }
+
+    @Test
+    void testEmptyData() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.write(ResultVO.stream(Stream.empty()), out);
+
+        assertEquals("{\"code\":200,\"message\":\"success\",\"data\":[],\"complete\":true}", out.toString());
+    }
+
+    @Test
+    void testFailureMidStreamProducesErrorTrailer() throws Exception {
+        AtomicInteger produced = new AtomicInteger();
+        Iterator<Integer> failing = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                if (produced.incrementAndGet() > 2) {
+                    throw new BusinessException(3001, "游标读取失败");
+                }
+                return produced.get();
+            }
+        };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = writer.write(ResultVO.stream(failing), out);
+
+        assertEquals(2, count);
+        JsonNode body = objectMapper.readTree(out.toByteArray());
+        assertEquals(List.of(1, 2), objectMapper.convertValue(body.get("data"), List.class));
+        assertFalse(body.get("complete").asBoolean());
+        assertEquals(3001, body.get("error").get("code").asInt());
+        assertEquals("游标读取失败", body.get("error").get("message").asText());
+    }
+
+    @Test
+    void testSerializationFailureInsideElementIsUnwound() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.write(ResultVO.stream(Stream.of(new Row(1), new Row(-1))), out);
+
+        JsonNode body = objectMapper.readTree(out.toByteArray());
+        assertEquals(2, body.get("data").size());
+        assertEquals(1, body.get("data").get(0).get("value").asInt());
+        assertFalse(body.get("complete").asBoolean());
+        assertEquals(500, body.get("error").get("code").asInt());
+    }
+
+    @Test
+    void testFailureAfterFieldNameIsCompletedWithNull() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.write(ResultVO.stream(Stream.of(new Broken())), out);
+
+        JsonNode body = objectMapper.readTree(out.toByteArray());
+        assertEquals(1, body.get("data").size());
+        assertTrue(body.get("data").get(0).get("nested").get("pending").isNull());
+        assertFalse(body.get("complete").asBoolean());
+        assertEquals(500, body.get("error").get("code").asInt());
+    }
+
+    @Test
+    void testDataSourceIsClosedWhenOutputFails() {
+        AtomicBoolean closed = new AtomicBoolean();
+        StreamingResultVO<Integer> result = ResultVO.stream(IntStream.range(0, 10_000).boxed()
+                .onClose(() -> closed.set(true)));
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("连接已断开");
+            }
+        };
+
+        assertThrows(IOException.class, () -> writer.write(result, broken));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testHttpMessageConverter() throws Exception {
+        StreamingResultHttpMessageConverter converter = new StreamingResultHttpMessageConverter(writer);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        assertTrue(converter.canWrite(StreamingResultVO.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(ResultVO.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(StreamingResultVO.class, MediaType.APPLICATION_JSON));
+        converter.write(ResultVO.stream(Stream.of("x")), MediaType.APPLICATION_JSON, output);
+
+        assertEquals(MediaType.APPLICATION_JSON, output.getHeaders().getContentType());
+        assertEquals("x", objectMapper.readTree(output.getBodyAsBytes()).get("data").get(0).asText());
+    }
+
+    /**
+     * 序列化到一半时失败的数据行
+     */
+    public static class Row {
+
+        private final int value;
+
+        Row(int value) {
+            this.value = value;
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+        public String getLabel() {
+            if (value < 0) {
+                throw new IllegalStateException("无法序列化");
+            }
+            return "row-" + value;
+        }
+    }
+
+    /**
+     * 写出字段名后序列化失败的数据
+     */
+    @JsonSerialize(using = BrokenSerializer.class)
+    public static class Broken {
+    }
+
+    static class BrokenSerializer extends StdSerializer<Broken> {
+
+        BrokenSerializer() {
+            super(Broken.class);
+        }
+
+        @Override
+        public void serialize(Broken value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("nested");
+            generator.writeFieldName("pending");
+            throw new IllegalStateException("无法序列化");
+        }
+    }
+}